@@ -0,0 +1,65 @@
+package com.portfolio.backend.config;
+
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Second-level and query cache for the read-mostly reference data (roles,
+ * skills, projects), held in-process by Caffeine through JCache.
+ * <p>
+ * Regions are bounded in {@code application.conf}, the file Caffeine reads
+ * from the classpath. The cache is local to each instance: writes made by
+ * another instance are only picked up once the entries expire.
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * A cache manager owned by this application context. JCache shares
+     * managers per URI, so a unique one keeps two contexts in the same JVM
+     * (as in tests) from reading each other's entries.
+     *
+     * @return the cache manager handed to Hibernate.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "hibernate.cache.enabled", havingValue = "true", matchIfMissing = true)
+    CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:portfolio-backend:hibernate-cache:" + UUID.randomUUID()),
+                        HibernateCacheConfig.class.getClassLoader());
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheCustomizer(ObjectProvider<CacheManager> hibernateCacheManager,
+            @Value("${hibernate.cache.statistics:true}") boolean statistics) {
+        return properties -> {
+            CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+            boolean enabled = cacheManager != null;
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            // Skill.projects is the inverse side of Project.skills: evict it when the owning side changes.
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, enabled);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+}
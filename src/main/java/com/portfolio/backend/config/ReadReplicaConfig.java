@@ -0,0 +1,91 @@
+package com.portfolio.backend.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.portfolio.backend.workload.WorkloadPools;
+import com.portfolio.backend.workload.WorkloadType;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Puts a {@link ReplicaRoutingDataSource} in front of the workload pools when
+ * {@code datasource.replicas.urls} lists at least one replica. Without
+ * replicas, every query goes to the primary as before.
+ * <p>
+ * Each replica also has one pool per {@link WorkloadType}, sized through
+ * {@code datasource.replicas.<workload>.maximum-pool-size} and with the
+ * statement timeout of the primary's pool, so admin exports streaming from a
+ * replica cannot take the connections of public reads.
+ * </p>
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Bean
+    ReplicaRoutingDataSource dataSource(WorkloadPools workloadPools, DataSourceProperties properties,
+            Environment environment, @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replicas.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${datasource.replicas.sticky-window-ms:5000}") long stickyWindowMs) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            String name = "replica-" + (replicas.size() + 1);
+            Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+            Map<WorkloadType, Duration> statementTimeouts = new EnumMap<>(WorkloadType.class);
+            for (WorkloadType workload : WorkloadType.values()) {
+                String workloadPrefix = "datasource.workloads." + workload.key() + ".";
+                HikariDataSource replica = new HikariDataSource();
+                replica.setPoolName(name + "-" + workload.key());
+                replica.setDriverClassName(properties.determineDriverClassName());
+                replica.setJdbcUrl(url.trim());
+                replica.setUsername(username);
+                replica.setPassword(password);
+                replica.setReadOnly(true);
+                replica.setMaximumPoolSize(environment.getProperty(
+                        "datasource.replicas." + workload.key() + ".maximum-pool-size", Integer.class,
+                        environment.getProperty(workloadPrefix + "maximum-pool-size", Integer.class,
+                                workload.getDefaultPoolSize())));
+                // Fail over to the primary quickly, and start even if a replica is down.
+                replica.setConnectionTimeout(connectionTimeoutMs);
+                replica.setInitializationFailTimeout(-1);
+                pools.put(workload, replica);
+                statementTimeouts.put(workload, Duration.ofMillis(environment.getProperty(
+                        workloadPrefix + "statement-timeout-ms", Long.class, workload.getDefaultStatementTimeoutMs())));
+            }
+            replicas.add(new WorkloadPools(pools, statementTimeouts).dataSource());
+        }
+        return new ReplicaRoutingDataSource(workloadPools.dataSource(), replicas, Duration.ofMillis(stickyWindowMs));
+    }
+
+    /**
+     * Open-in-view is off, so a session usually lives for one transaction.
+     * When one spans several, because the caller binds its own entity
+     * manager around them, Hibernate would keep the connection of the first
+     * and send a later write to a replica. Releasing it after each
+     * transaction routes them one by one, each on its own read-only flag.
+     *
+     * @return the customizer releasing connections after each transaction.
+     */
+    @Bean
+    HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
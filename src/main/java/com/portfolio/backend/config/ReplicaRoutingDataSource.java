@@ -0,0 +1,183 @@
+package com.portfolio.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a pool of read replicas and everything else
+ * to the primary.
+ * <p>
+ * The physical connection is only fetched at the first statement, when the
+ * current transaction is known to be read-only or not. Replicas are used in turn,
+ * skipping those that failed their last health check; with none left, reads
+ * fall back to the primary. A user who just committed a write keeps reading
+ * from the primary for a short window so that replication lag does not hide
+ * their own change.
+ * </p>
+ * <p>
+ * A replica whose pool for the current workload is exhausted stays in
+ * rotation; the read goes to the next replica or the primary.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy
+        implements TransactionExecutionListener, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long stickyWindowNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    /**
+     * @param primary      the data source for writes, and for reads when no
+     *                     replica is available.
+     * @param replicas     the replica data sources, used in turn.
+     * @param stickyWindow how long a user reads from the primary after a write.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration stickyWindow) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.stickyWindowNanos = stickyWindow.toNanos();
+        setTargetDataSource(new RoutingDataSource());
+        afterPropertiesSet();
+    }
+
+    /**
+     * Validates a connection of every replica, taking failed ones out of
+     * rotation and putting recovered ones back.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval-ms:10000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.setHealthy(connection.isValid(VALIDATION_TIMEOUT_SECONDS), null);
+            } catch (SQLException | RuntimeException ex) {
+                replica.setHealthy(false, ex);
+            }
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        String user = currentUser();
+        if (commitFailure == null && !transaction.isReadOnly() && user != null) {
+            recentWriters.put(user, System.nanoTime() + stickyWindowNanos);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection readConnection() throws SQLException {
+        if (!readsOwnWrites()) {
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                if (replica.healthy) {
+                    try {
+                        return replica.dataSource.getConnection();
+                    } catch (SQLTransientConnectionException ex) {
+                        // Without a cause, the workload's pool is only busy: the replica stays in rotation.
+                        if (ex.getCause() != null) {
+                            replica.setHealthy(false, ex);
+                        }
+                    } catch (SQLException | RuntimeException ex) {
+                        replica.setHealthy(false, ex);
+                    }
+                }
+            }
+        }
+        Connection connection = primary.getConnection();
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    private boolean readsOwnWrites() {
+        String user = currentUser();
+        Long until = user != null ? recentWriters.get(user) : null;
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        recentWriters.remove(user, until);
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void setHealthy(boolean healthy, Exception cause) {
+            if (this.healthy && !healthy) {
+                LOGGER.warn("Read replica {} is down, reading from the other replicas or the primary: {}",
+                        dataSource, cause != null ? cause.getMessage() : "connection is not valid");
+            } else if (!this.healthy && healthy) {
+                LOGGER.info("Read replica {} is back in rotation", dataSource);
+            }
+            this.healthy = healthy;
+        }
+    }
+
+    private final class RoutingDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? readConnection()
+                    : primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Routed connections use the configured credentials");
+        }
+    }
+}
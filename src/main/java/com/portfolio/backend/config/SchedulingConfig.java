@@ -0,0 +1,13 @@
+package com.portfolio.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background tasks such as the contact message
+ * spool replay.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,68 @@
+package com.portfolio.backend.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.portfolio.backend.workload.WorkloadPools;
+import com.portfolio.backend.workload.WorkloadType;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the single auto-configured pool with one pool per
+ * {@link WorkloadType}, sized and timed out through
+ * {@code datasource.workloads.<workload>.*}.
+ */
+@Configuration
+public class WorkloadPoolConfig {
+
+    @Bean(destroyMethod = "close")
+    WorkloadPools workloadPools(DataSourceProperties properties, Environment environment) {
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        Map<WorkloadType, Duration> statementTimeouts = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            String prefix = "datasource.workloads." + workload.key() + ".";
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            pool.setPoolName(workload.key());
+            pool.setMaximumPoolSize(environment.getProperty(prefix + "maximum-pool-size", Integer.class,
+                    workload.getDefaultPoolSize()));
+            pools.put(workload, pool);
+            statementTimeouts.put(workload, Duration.ofMillis(environment.getProperty(prefix + "statement-timeout-ms",
+                    Long.class, workload.getDefaultStatementTimeoutMs())));
+        }
+        return new WorkloadPools(pools, statementTimeouts);
+    }
+
+    /**
+     * With read replicas, {@link ReadReplicaConfig} routes to these pools instead.
+     *
+     * @param workloadPools the pools.
+     * @return the application data source.
+     */
+    @Bean
+    @ConditionalOnExpression("'${datasource.replicas.urls:}'.isBlank()")
+    DataSource dataSource(WorkloadPools workloadPools) {
+        return workloadPools.dataSource();
+    }
+
+    /**
+     * Flyway would otherwise migrate through the routed data source, on the
+     * public pool and its statement timeout.
+     *
+     * @param workloadPools the pools.
+     * @return the customizer pointing Flyway at the migration data source.
+     */
+    @Bean
+    FlywayConfigurationCustomizer workloadFlywayCustomizer(WorkloadPools workloadPools) {
+        return configuration -> configuration.dataSource(workloadPools.migrationDataSource());
+    }
+}
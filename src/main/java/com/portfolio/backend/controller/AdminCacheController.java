@@ -0,0 +1,41 @@
+package com.portfolio.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.portfolio.backend.dto.CacheRegionStats;
+import com.portfolio.backend.service.CacheStatisticsService;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
+
+/**
+ * Admin view of the Hibernate second-level cache.
+ */
+@RestController
+@RequestMapping(value = "/api/admin/cache", produces = MediaType.APPLICATION_JSON_VALUE)
+@PreAuthorize("hasRole('ADMIN')")
+@Workload(WorkloadType.ADMIN)
+public class AdminCacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public AdminCacheController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    /**
+     * Fetch the hits, misses and hit ratio of every cache region.
+     *
+     * @return the region statistics, ordered by region name.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStats>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatisticsService.findRegionStats());
+    }
+}
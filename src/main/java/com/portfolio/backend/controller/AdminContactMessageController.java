@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,11 +14,25 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.validation.Valid;
+
+import com.portfolio.backend.dto.BulkOperationResponse;
+import com.portfolio.backend.dto.ContactMessageStatsResponse;
+import com.portfolio.backend.dto.ContactMessageBulkRequest;
 import com.portfolio.backend.entity.ContactMessage;
 import com.portfolio.backend.service.ContactMessageService;
+import com.portfolio.backend.service.ContactMessageStatsService;
+import com.portfolio.backend.service.ExportService;
+import com.portfolio.backend.service.InboxEventStream;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
 
 /**
  * REST controller for managing contact messages.
@@ -24,12 +40,21 @@ import com.portfolio.backend.service.ContactMessageService;
 @RestController
 @RequestMapping("/api/admin/messages")
 @PreAuthorize("hasRole('ADMIN')")
+@Workload(WorkloadType.ADMIN)
 public class AdminContactMessageController {
 
     private final ContactMessageService contactMessageService;
+    private final InboxEventStream inboxEventStream;
+    private final ContactMessageStatsService contactMessageStatsService;
+    private final ExportService exportService;
 
-    public AdminContactMessageController(ContactMessageService contactMessageService) {
+    public AdminContactMessageController(ContactMessageService contactMessageService,
+            InboxEventStream inboxEventStream, ContactMessageStatsService contactMessageStatsService,
+            ExportService exportService) {
         this.contactMessageService = contactMessageService;
+        this.inboxEventStream = inboxEventStream;
+        this.contactMessageStatsService = contactMessageStatsService;
+        this.exportService = exportService;
     }
 
     @GetMapping
@@ -58,6 +83,61 @@ public class AdminContactMessageController {
         return ResponseEntity.ok(contactMessageService.findUnreadMessages());
     }
 
+    /**
+     * Streams all messages as NDJSON or CSV, gzip-compressed when the client accepts it.
+     *
+     * @param format         {@code ndjson} (default) or {@code csv}
+     * @param acceptEncoding the Accept-Encoding request header
+     * @return the export stream, or 400 for an unsupported format
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportService.Format exportFormat = ExportService.Format.fromParameter(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean gzip = ExportService.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"messages." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(exportService.exportMessages(exportFormat, gzip));
+    }
+
+    /**
+     * Returns the inbox counters for the admin dashboard.
+     *
+     * @param days the number of days in the per-day series
+     * @return the inbox statistics
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ContactMessageStatsResponse> getStats(@RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(contactMessageStatsService.getStats(days));
+    }
+
+    /**
+     * Streams inbox changes (new messages, read state, archive, delete) as
+     * Server-Sent Events.
+     *
+     * @param lastEventId the last event id received, sent by the client when reconnecting
+     * @return the event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInboxEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return inboxEventStream.subscribe(lastEventId);
+    }
+
+    @GetMapping("/spam")
+    public ResponseEntity<List<ContactMessage>> getSpamMessages() {
+        return ResponseEntity.ok(contactMessageService.findSpamMessages());
+    }
+
     @GetMapping("/search/{keyword}")
     public ResponseEntity<List<ContactMessage>> searchMessagesByKeyword(@PathVariable String keyword) {
         return ResponseEntity.ok(contactMessageService.searchMessagesByKeyword(keyword));
@@ -85,4 +165,80 @@ public class AdminContactMessageController {
         contactMessageService.markAsRead(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Flags the contact message as spam and trains the spam detector with it.
+     *
+     * @param id the ID of the message
+     * @return HTTP 204 if successful
+     */
+    @PostMapping("/{id}/spam")
+    public ResponseEntity<Void> flagMessageAsSpam(@PathVariable UUID id) {
+        contactMessageService.flagSpam(id, true);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Flags the contact message as legitimate and trains the spam detector with it.
+     *
+     * @param id the ID of the message
+     * @return HTTP 204 if successful
+     */
+    @PostMapping("/{id}/not-spam")
+    public ResponseEntity<Void> flagMessageAsNotSpam(@PathVariable UUID id) {
+        contactMessageService.flagSpam(id, false);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Marks all messages matching the filter as read.
+     *
+     * @param request the message selection
+     * @return the number of affected messages
+     */
+    @PostMapping("/bulk/read")
+    public ResponseEntity<BulkOperationResponse> bulkMarkAsRead(
+            @Valid @RequestBody ContactMessageBulkRequest request) {
+        int affected = contactMessageService.bulkMarkRead(request.toCriteria(), true);
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
+
+    /**
+     * Marks all messages matching the filter as unread.
+     *
+     * @param request the message selection
+     * @return the number of affected messages
+     */
+    @PostMapping("/bulk/unread")
+    public ResponseEntity<BulkOperationResponse> bulkMarkAsUnread(
+            @Valid @RequestBody ContactMessageBulkRequest request) {
+        int affected = contactMessageService.bulkMarkRead(request.toCriteria(), false);
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
+
+    /**
+     * Archives all messages matching the filter.
+     *
+     * @param request the message selection
+     * @return the number of affected messages
+     */
+    @PostMapping("/bulk/archive")
+    public ResponseEntity<BulkOperationResponse> bulkArchive(
+            @Valid @RequestBody ContactMessageBulkRequest request) {
+        int affected = contactMessageService.bulkArchive(request.toCriteria());
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
+
+    /**
+     * Deletes all messages matching the filter.
+     *
+     * @param request the message selection
+     * @return the number of affected messages
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkOperationResponse> bulkDelete(
+            @Valid @RequestBody ContactMessageBulkRequest request) {
+        int affected = contactMessageService.bulkDelete(request.toCriteria());
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
 }
@@ -0,0 +1,41 @@
+package com.portfolio.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.portfolio.backend.dto.ConnectionPoolStats;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadPools;
+import com.portfolio.backend.workload.WorkloadType;
+
+/**
+ * Admin view of the database connection pools.
+ */
+@RestController
+@RequestMapping(value = "/api/admin/datasource", produces = MediaType.APPLICATION_JSON_VALUE)
+@PreAuthorize("hasRole('ADMIN')")
+@Workload(WorkloadType.ADMIN)
+public class AdminDataSourceController {
+
+    private final WorkloadPools workloadPools;
+
+    public AdminDataSourceController(WorkloadPools workloadPools) {
+        this.workloadPools = workloadPools;
+    }
+
+    /**
+     * Fetch the usage of every workload pool.
+     *
+     * @return one entry per pool: public, admin, then background.
+     */
+    @GetMapping("/pools")
+    public ResponseEntity<List<ConnectionPoolStats>> getPoolStats() {
+        return ResponseEntity.ok(workloadPools.stats());
+    }
+}
@@ -1,25 +1,42 @@
 package com.portfolio.backend.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.backend.dto.ProjectImportResponse;
+import com.portfolio.backend.dto.ProjectCard;
 import com.portfolio.backend.dto.ProjectRequest;
+import com.portfolio.backend.dto.ProjectSkillsRequest;
 import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.service.ExportService;
+import com.portfolio.backend.service.ProjectImportService;
 import com.portfolio.backend.service.ProjectService;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,21 +52,59 @@ import jakarta.validation.Valid;
 @Tag(name = "Projects")
 public class ProjectController {
 
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final ProjectService projectService;
+    private final ExportService exportService;
+    private final ProjectImportService projectImportService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ExportService exportService,
+            ProjectImportService projectImportService) {
         this.projectService = projectService;
+        this.exportService = exportService;
+        this.projectImportService = projectImportService;
     }
 
     /**
-     * Retrieves all projects.
+     * Retrieves all projects as cards, most recent first.
      *
-     * @return a list of all projects.
+     * @return a JSON array of project cards, streamed row by row.
      */
     @Operation(summary = "Liste des projets publiés")
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects() {
-        return ResponseEntity.ok(projectService.findAllProjects());
+    public ResponseEntity<StreamingResponseBody> getAllProjects() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService.jsonArray(ProjectRepository.CARD_QUERY, ProjectCard.class));
+    }
+
+    /**
+     * Streams all projects as NDJSON or CSV, gzip-compressed when the client accepts it.
+     *
+     * @param format         {@code ndjson} (default) or {@code csv}
+     * @param acceptEncoding the Accept-Encoding request header
+     * @return the export stream, or 400 for an unsupported format
+     */
+    @Operation(summary = "Export des projets (NDJSON ou CSV)", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportService.Format exportFormat = ExportService.Format.fromParameter(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean gzip = ExportService.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"projects." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(exportService.exportProjects(exportFormat, gzip));
     }
 
     /**
@@ -70,11 +125,11 @@ public class ProjectController {
      * Retrieves projects by status.
      *
      * @param status the status of the projects.
-     * @return a list of projects with the given status.
+     * @return the cards of the projects with the given status.
      */
     @Operation(summary = "Recherche par statut")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Project>> getProjectsByStatus(@PathVariable String status) {
+    public ResponseEntity<List<ProjectCard>> getProjectsByStatus(@PathVariable String status) {
         return ResponseEntity.ok(projectService.findProjectsByStatus(status));
     }
 
@@ -82,11 +137,11 @@ public class ProjectController {
      * Retrieves projects created after a specific date.
      *
      * @param createdAt the cutoff creation date.
-     * @return a list of projects created after the given date.
+     * @return the cards of the projects created after the given date.
      */
     @Operation(summary = "Projets créés après une date ISO (yyyy-MM-ddTHH:mm:ss)")
     @GetMapping("/createdAfter/{createdAt}")
-    public ResponseEntity<List<Project>> getProjectsCreatedAfter(@PathVariable LocalDateTime createdAt) {
+    public ResponseEntity<List<ProjectCard>> getProjectsCreatedAfter(@PathVariable LocalDateTime createdAt) {
         return ResponseEntity.ok(projectService.findProjectsCreatedAfter(createdAt));
     }
 
@@ -94,11 +149,11 @@ public class ProjectController {
      * Retrieves projects by title.
      *
      * @param title the title of the project.
-     * @return a list of projects containing the given title.
+     * @return the cards of the projects containing the given title.
      */
     @Operation(summary = "Recherche par titre (contains, case insensitive)")
     @GetMapping("/search")
-    public ResponseEntity<List<Project>> getProjectsByTitle(@RequestParam String title) {
+    public ResponseEntity<List<ProjectCard>> getProjectsByTitle(@RequestParam String title) {
         return ResponseEntity.ok(projectService.findProjectsByTitle(title));
     }
 
@@ -106,11 +161,11 @@ public class ProjectController {
      * Retrieves projects associated with a specific skill name.
      *
      * @param skillName the name of the skill.
-     * @return a list of projects associated with the given skill.
+     * @return the cards of the projects associated with the given skill.
      */
     @Operation(summary = "Projets liés à une skill")
     @GetMapping("/skill/{skillName}")
-    public ResponseEntity<List<Project>> getProjectsBySkill(@PathVariable String skillName) {
+    public ResponseEntity<List<ProjectCard>> getProjectsBySkill(@PathVariable String skillName) {
         return ResponseEntity.ok(projectService.findProjectsBySkillName(skillName));
     }
 
@@ -120,27 +175,92 @@ public class ProjectController {
     @Operation(summary = "Créer un projet", security = @SecurityRequirement(name = "bearerAuth"),
             responses = {
                     @ApiResponse(responseCode = "201", description = "Créé"),
-                    @ApiResponse(responseCode = "401", description = "Non authentifié")
+                    @ApiResponse(responseCode = "401", description = "Non authentifié"),
+                    @ApiResponse(responseCode = "422", description = "Compétence introuvable")
             })
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
     public ResponseEntity<Project> createProject(@Valid @RequestBody ProjectRequest request) {
         Project created = projectService.createProject(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Creates or updates projects in bulk (admin only).
+     *
+     * @param document NDJSON or a JSON array of projects, upserted by id
+     * @return the outcome of each project, in document order
+     * @throws IOException if the request body cannot be read
+     */
+    @Operation(summary = "Import en masse de projets (NDJSON ou tableau JSON)",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", MediaType.APPLICATION_JSON_VALUE })
+    @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
+    public ResponseEntity<ProjectImportResponse> importProjects(InputStream document) throws IOException {
+        return ResponseEntity.ok(projectImportService.importProjects(document));
+    }
+
     /**
      * Updates an existing project (admin only).
      */
     @Operation(summary = "Mettre à jour un projet", security = @SecurityRequirement(name = "bearerAuth"))
     @PutMapping("/{projectId}")
     @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
     public ResponseEntity<Project> updateProject(@PathVariable UUID projectId,
             @Valid @RequestBody ProjectRequest request) {
         Project updated = projectService.updateProject(projectId, request);
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Partially updates a project with a JSON Merge Patch (admin only).
+     *
+     * @param projectId the identifier of the project
+     * @param patch     the fields to change, {@code null} clearing a field
+     * @return the patched project
+     * @throws JsonProcessingException if the patch does not map onto a project
+     */
+    @Operation(summary = "Modifier partiellement un projet (JSON Merge Patch)",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Projet modifié"),
+                    @ApiResponse(responseCode = "400", description = "Projet invalide après application du patch"),
+                    @ApiResponse(responseCode = "404", description = "Projet introuvable"),
+                    @ApiResponse(responseCode = "422", description = "Compétence introuvable")
+            })
+    @PatchMapping(value = "/{projectId}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
+    public ResponseEntity<Project> patchProject(@PathVariable UUID projectId, @RequestBody JsonNode patch)
+            throws JsonProcessingException {
+        return ResponseEntity.ok(projectService.patchProject(projectId, patch));
+    }
+
+    /**
+     * Replaces the skills assigned to a project (admin only).
+     *
+     * @param projectId the identifier of the project
+     * @param request   the skill ids and/or names to assign
+     * @return no content
+     */
+    @Operation(summary = "Remplacer les compétences d'un projet", security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Compétences remplacées"),
+                    @ApiResponse(responseCode = "404", description = "Projet introuvable"),
+                    @ApiResponse(responseCode = "422", description = "Compétence introuvable")
+            })
+    @PutMapping("/{projectId}/skills")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
+    public ResponseEntity<Void> replaceProjectSkills(@PathVariable UUID projectId,
+            @RequestBody ProjectSkillsRequest request) {
+        projectService.replaceSkills(projectId, request);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Deletes a project (admin only).
      */
@@ -148,6 +268,7 @@ public class ProjectController {
             responses = @ApiResponse(responseCode = "204", description = "Supprimé"))
     @DeleteMapping("/{projectId}")
     @PreAuthorize("hasRole('ADMIN')")
+    @Workload(WorkloadType.ADMIN)
     public ResponseEntity<Void> deleteProject(@PathVariable UUID projectId) {
         projectService.deleteProjectById(projectId);
         return ResponseEntity.noContent().build();
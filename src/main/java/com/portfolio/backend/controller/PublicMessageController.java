@@ -3,12 +3,15 @@ package com.portfolio.backend.controller;
 import com.portfolio.backend.dto.ContactMessageRequest;
 import com.portfolio.backend.entity.ContactMessage;
 import com.portfolio.backend.exception.RecaptchaVerificationException;
+import com.portfolio.backend.service.ContactMessageIngestionQueue;
 import com.portfolio.backend.service.ContactMessageService;
+import com.portfolio.backend.service.ExportService;
 import com.portfolio.backend.service.RecaptchaService;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
 
 import jakarta.validation.Valid;
-import java.util.List;
-
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.util.StringUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,21 +36,32 @@ public class PublicMessageController {
 
     private final ContactMessageService contactMessageService;
     private final RecaptchaService recaptchaService;
+    private final ContactMessageIngestionQueue ingestionQueue;
+    private final ExportService exportService;
 
-    public PublicMessageController(ContactMessageService contactMessageService, RecaptchaService recaptchaService) {
+    public PublicMessageController(ContactMessageService contactMessageService, RecaptchaService recaptchaService,
+            ContactMessageIngestionQueue ingestionQueue, ExportService exportService) {
         this.contactMessageService = contactMessageService;
         this.recaptchaService = recaptchaService;
+        this.ingestionQueue = ingestionQueue;
+        this.exportService = exportService;
     }
 
     @Operation(summary = "Lister les messages reçus", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ContactMessage>> getMessages() {
-        return ResponseEntity.ok(contactMessageService.findAllMessages());
+    @Workload(WorkloadType.ADMIN)
+    public ResponseEntity<StreamingResponseBody> getMessages() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService.jsonArray(ContactMessage.class));
     }
 
     @Operation(summary = "Envoyer un message de contact",
-            responses = @ApiResponse(responseCode = "202", description = "Message enregistré"))
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Message enregistré"),
+                    @ApiResponse(responseCode = "503", description = "File d'ingestion pleine, réessayer plus tard")
+            })
     @PostMapping
     public ResponseEntity<Void> receiveMessage(@Valid @RequestBody ContactMessageRequest request) {
         String remoteIp = null;
@@ -66,7 +81,11 @@ public class PublicMessageController {
         message.setMessage(request.getMessage());
         message.setRead(false);
 
-        contactMessageService.saveMessage(message);
+        if (ingestionQueue.isEnabled()) {
+            ingestionQueue.enqueue(message);
+        } else {
+            contactMessageService.saveMessage(message);
+        }
         return ResponseEntity.accepted().build();
     }
 
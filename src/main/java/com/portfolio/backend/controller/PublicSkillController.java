@@ -0,0 +1,40 @@
+package com.portfolio.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.portfolio.backend.dto.SkillMatrixEntry;
+import com.portfolio.backend.service.SkillMatrixService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Public, read-only skill endpoints for the portfolio front end.
+ */
+@RestController
+@RequestMapping("/api/skills")
+@Tag(name = "Skills")
+public class PublicSkillController {
+
+    private final SkillMatrixService skillMatrixService;
+
+    public PublicSkillController(SkillMatrixService skillMatrixService) {
+        this.skillMatrixService = skillMatrixService;
+    }
+
+    /**
+     * Fetch every skill with its project count and most recent projects.
+     *
+     * @return the skill matrix, ordered by skill name.
+     */
+    @Operation(summary = "Matrice des compétences avec leurs projets")
+    @GetMapping("/matrix")
+    public ResponseEntity<List<SkillMatrixEntry>> getSkillMatrix() {
+        return ResponseEntity.ok(skillMatrixService.getMatrix());
+    }
+}
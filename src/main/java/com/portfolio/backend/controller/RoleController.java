@@ -14,12 +14,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.portfolio.backend.dto.RoleSummary;
 import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.service.RoleService;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
 
 @RestController
 @RequestMapping(value = "/api/admin/roles", produces = MediaType.APPLICATION_JSON_VALUE)
 @PreAuthorize("hasRole('ADMIN')")
+@Workload(WorkloadType.ADMIN)
 public class RoleController {
 
     private final RoleService roleService;
@@ -29,8 +33,8 @@ public class RoleController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Role>> getAllRoles() {
-        return ResponseEntity.ok(roleService.findAllRoles());
+    public ResponseEntity<List<RoleSummary>> getAllRoles() {
+        return ResponseEntity.ok(roleService.findAllRoleSummaries());
     }
 
     @GetMapping("/{id}")
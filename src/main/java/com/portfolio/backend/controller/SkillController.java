@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,9 +16,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.portfolio.backend.dto.SkillSummary;
 import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.repository.SkillRepository;
+import com.portfolio.backend.service.ExportService;
 import com.portfolio.backend.service.SkillService;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
 
 /**
  * Controller for managing Skill entity operations.
@@ -25,23 +32,27 @@ import com.portfolio.backend.service.SkillService;
 @RestController
 @RequestMapping("/api/admin/skills")
 @PreAuthorize("hasRole('ADMIN')")
+@Workload(WorkloadType.ADMIN)
 public class SkillController {
 
     private final SkillService skillService;
+    private final ExportService exportService;
 
-    public SkillController(SkillService skillService) {
+    public SkillController(SkillService skillService, ExportService exportService) {
         this.skillService = skillService;
+        this.exportService = exportService;
     }
 
     /**
      * Fetch all skills.
      * 
-     * @return List of all skills.
+     * @return JSON array of all skills without their projects, streamed row by row.
      */
     @GetMapping
-    public ResponseEntity<List<Skill>> getAllSkills() {
-        List<Skill> skills = skillService.findAllSkills();
-        return ResponseEntity.ok(skills);
+    public ResponseEntity<StreamingResponseBody> getAllSkills() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService.jsonArray(SkillRepository.SUMMARY_QUERY, SkillSummary.class));
     }
 
     /**
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,9 +14,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.portfolio.backend.dto.UserSummary;
 import com.portfolio.backend.entity.User;
+import com.portfolio.backend.repository.UserRepository;
+import com.portfolio.backend.service.ExportService;
 import com.portfolio.backend.service.UserService;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
 
 /**
  * REST controller for managing User-related operations.
@@ -23,71 +30,76 @@ import com.portfolio.backend.service.UserService;
 @RestController
 @RequestMapping("/api/admin/users")
 @PreAuthorize("hasRole('ADMIN')")
+@Workload(WorkloadType.ADMIN)
 public class UserController {
 
     private final UserService userService;
+    private final ExportService exportService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ExportService exportService) {
         this.userService = userService;
+        this.exportService = exportService;
     }
 
     /**
      * Retrieves all users.
      *
-     * @return a list of all users.
+     * @return a JSON array of all users with their role and without their
+     *         password, streamed row by row.
      */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.findAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<StreamingResponseBody> getAllUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService.jsonArray(UserRepository.SUMMARY_QUERY, UserSummary.class));
     }
 
     /**
      * Retrieves a user by their email.
      *
      * @param email the email of the user to retrieve.
-     * @return the user if found, or 404 Not Found otherwise.
+     * @return the user without their password if found, or 404 Not Found otherwise.
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<User> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<UserSummary> getUserByEmail(@PathVariable String email) {
         Optional<User> user = userService.findUserByEmail(email);
-        return user.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+        return user.map(UserSummary::of).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
      * Retrieves a user by their username.
      *
      * @param username the username of the user to retrieve.
-     * @return the user if found, or 404 Not Found otherwise.
+     * @return the user without their password if found, or 404 Not Found otherwise.
      */
     @GetMapping("/username/{username}")
-    public ResponseEntity<User> getUserByUsername(@PathVariable String username) {
+    public ResponseEntity<UserSummary> getUserByUsername(@PathVariable String username) {
         Optional<User> user = userService.findUserByUsername(username);
-        return user.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+        return user.map(UserSummary::of).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
      * Retrieves all users with a specific role name.
      *
      * @param roleName the role name to filter users by.
-     * @return a list of users with the specified role name.
+     * @return a list of users with the specified role name, without their passwords.
      */
     @GetMapping("/role/{roleName}")
-    public ResponseEntity<List<User>> getUsersByRoleName(@PathVariable String roleName) {
+    public ResponseEntity<List<UserSummary>> getUsersByRoleName(@PathVariable String roleName) {
         List<User> users = userService.findUsersByRoleName(roleName);
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(users.stream().map(UserSummary::of).toList());
     }
 
     /**
      * Retrieves all users created after a specific date.
      *
      * @param date the cutoff creation date.
-     * @return a list of users created after the given date.
+     * @return a list of users created after the given date, without their passwords.
      */
     @GetMapping("/created-after/{date}")
-    public ResponseEntity<List<User>> getUsersCreatedAfter(@PathVariable LocalDateTime date) {
+    public ResponseEntity<List<UserSummary>> getUsersCreatedAfter(@PathVariable LocalDateTime date) {
         List<User> users = userService.findUsersCreatedAfter(date);
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(users.stream().map(UserSummary::of).toList());
     }
 
     /**
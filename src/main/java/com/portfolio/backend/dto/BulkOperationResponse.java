@@ -0,0 +1,18 @@
+package com.portfolio.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "BulkOperationResponse", description = "Résultat d'une opération groupée")
+public class BulkOperationResponse {
+
+    @Schema(description = "Nombre de messages modifiés ou supprimés", example = "42")
+    private final int affected;
+
+    public BulkOperationResponse(int affected) {
+        this.affected = affected;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+}
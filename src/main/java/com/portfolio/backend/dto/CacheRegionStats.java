@@ -0,0 +1,50 @@
+package com.portfolio.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "CacheRegionStats", description = "Statistiques d'une région du cache Hibernate depuis le démarrage")
+public class CacheRegionStats {
+
+    @Schema(description = "Nom de la région", example = "project")
+    private final String region;
+
+    @Schema(description = "Lectures servies par le cache", example = "1200")
+    private final long hits;
+
+    @Schema(description = "Lectures parties en base", example = "80")
+    private final long misses;
+
+    @Schema(description = "Entrées ajoutées au cache", example = "80")
+    private final long puts;
+
+    @Schema(description = "Part des lectures servies par le cache, entre 0 et 1", example = "0.9375")
+    private final double hitRatio;
+
+    public CacheRegionStats(String region, long hits, long misses, long puts) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getPuts() {
+        return puts;
+    }
+
+    public double getHitRatio() {
+        return hitRatio;
+    }
+}
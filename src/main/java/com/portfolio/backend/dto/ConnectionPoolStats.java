@@ -0,0 +1,66 @@
+package com.portfolio.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ConnectionPoolStats", description = "Occupation d'un pool de connexions à la base principale")
+public class ConnectionPoolStats {
+
+    @Schema(description = "Charge de travail servie par le pool", example = "admin")
+    private final String pool;
+
+    @Schema(description = "Connexions en cours d'utilisation", example = "5")
+    private final int active;
+
+    @Schema(description = "Connexions ouvertes et libres", example = "0")
+    private final int idle;
+
+    @Schema(description = "Connexions ouvertes", example = "5")
+    private final int total;
+
+    @Schema(description = "Taille maximale du pool", example = "5")
+    private final int maximum;
+
+    @Schema(description = "Threads en attente d'une connexion", example = "3")
+    private final int pending;
+
+    @Schema(description = "Part des connexions maximales utilisées, entre 0 et 1", example = "1.0")
+    private final double saturation;
+
+    public ConnectionPoolStats(String pool, int active, int idle, int total, int maximum, int pending) {
+        this.pool = pool;
+        this.active = active;
+        this.idle = idle;
+        this.total = total;
+        this.maximum = maximum;
+        this.pending = pending;
+        this.saturation = maximum == 0 ? 0 : (double) active / maximum;
+    }
+
+    public String getPool() {
+        return pool;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getMaximum() {
+        return maximum;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public double getSaturation() {
+        return saturation;
+    }
+}
@@ -0,0 +1,75 @@
+package com.portfolio.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.portfolio.backend.repository.ContactMessageCriteria;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO selecting the contact messages targeted by a bulk admin operation.
+ */
+@Schema(name = "MessageBulkInput", description = "Sélection des messages pour une opération groupée (critères combinés en ET)")
+public class ContactMessageBulkRequest {
+
+    @Size(max = 1000, message = "At most 1000 ids per request")
+    @Schema(description = "Identifiants des messages ciblés")
+    private List<UUID> ids;
+
+    @Schema(description = "Messages créés strictement avant cette date", example = "2025-01-01T00:00:00")
+    private LocalDateTime olderThan;
+
+    @Schema(description = "Messages envoyés par cet email", example = "spam@example.com")
+    private String email;
+
+    @Schema(description = "Messages dont le sujet ou le contenu contient ce mot-clé", example = "backlinks")
+    private String keyword;
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one of ids, olderThan, email or keyword is required")
+    public boolean isFiltered() {
+        return !toCriteria().isEmpty();
+    }
+
+    public ContactMessageCriteria toCriteria() {
+        return new ContactMessageCriteria(ids, olderThan, email, keyword);
+    }
+
+    // Getters and setters
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public LocalDateTime getOlderThan() {
+        return olderThan;
+    }
+
+    public void setOlderThan(LocalDateTime olderThan) {
+        this.olderThan = olderThan;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+}
@@ -0,0 +1,52 @@
+package com.portfolio.backend.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "MessageStats", description = "Statistiques de la boîte de réception pour le tableau de bord admin")
+public class ContactMessageStatsResponse {
+
+    @Schema(description = "Nombre total de messages", example = "1542")
+    private final long total;
+
+    @Schema(description = "Messages non lus hors spam et archives", example = "7")
+    private final long unread;
+
+    @Schema(description = "Messages classés spam", example = "320")
+    private final long spam;
+
+    @Schema(description = "Messages reçus aujourd'hui, spam compris", example = "4")
+    private final long today;
+
+    @Schema(description = "Messages reçus par jour, du plus ancien au plus récent")
+    private final List<DailyMessageCount> perDay;
+
+    public ContactMessageStatsResponse(long total, long unread, long spam, long today, List<DailyMessageCount> perDay) {
+        this.total = total;
+        this.unread = unread;
+        this.spam = spam;
+        this.today = today;
+        this.perDay = perDay;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getUnread() {
+        return unread;
+    }
+
+    public long getSpam() {
+        return spam;
+    }
+
+    public long getToday() {
+        return today;
+    }
+
+    public List<DailyMessageCount> getPerDay() {
+        return perDay;
+    }
+}
@@ -0,0 +1,36 @@
+package com.portfolio.backend.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "DailyMessageCount", description = "Nombre de messages reçus sur une journée")
+public class DailyMessageCount {
+
+    @Schema(description = "Jour", example = "2025-03-14")
+    private final LocalDate day;
+
+    @Schema(description = "Messages reçus, spam compris", example = "12")
+    private final long received;
+
+    @Schema(description = "Messages classés spam", example = "3")
+    private final long spam;
+
+    public DailyMessageCount(LocalDate day, Long received, Long spam) {
+        this.day = day;
+        this.received = received != null ? received : 0;
+        this.spam = spam != null ? spam : 0;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public long getSpam() {
+        return spam;
+    }
+}
@@ -0,0 +1,87 @@
+package com.portfolio.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ProjectCard", description = "Projet tel qu'affiché dans les listes : tags seulement, sans contenu")
+public class ProjectCard {
+
+    @Schema(description = "Identifiant du projet")
+    private final UUID id;
+
+    @Schema(description = "Titre du projet", example = "Autonoma")
+    private final String title;
+
+    @Schema(description = "Description courte", example = "Application SaaS full-stack (Spring Boot + React).")
+    private final String description;
+
+    @Schema(description = "Résumé affiché sur la carte")
+    private final String summary;
+
+    @Schema(description = "Statut du projet", example = "completed")
+    private final String status;
+
+    @Schema(description = "Image de couverture")
+    private final String coverImage;
+
+    @Schema(description = "Tags affichés sous forme de chips")
+    private final List<String> tags;
+
+    @Schema(description = "Date de création")
+    private final LocalDateTime createdAt;
+
+    @Schema(description = "Date de dernière modification")
+    private final LocalDateTime updatedAt;
+
+    public ProjectCard(UUID id, String title, String description, String summary, String status, String coverImage,
+            List<String> tags, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.summary = summary;
+        this.status = status;
+        this.coverImage = coverImage;
+        this.tags = tags;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCoverImage() {
+        return coverImage;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
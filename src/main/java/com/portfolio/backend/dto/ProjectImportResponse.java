@@ -0,0 +1,48 @@
+package com.portfolio.backend.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ProjectImportResponse", description = "Bilan d'un import de projets en masse")
+public class ProjectImportResponse {
+
+    @Schema(description = "Nombre de projets créés", example = "9990")
+    private final int created;
+
+    @Schema(description = "Nombre de projets existants mis à jour", example = "8")
+    private final int updated;
+
+    @Schema(description = "Nombre de projets rejetés", example = "2")
+    private final int rejected;
+
+    @Schema(description = "Résultat de chaque projet, dans l'ordre du document")
+    private final List<ProjectImportResult> results;
+
+    public ProjectImportResponse(List<ProjectImportResult> results) {
+        this.results = results;
+        this.created = count(results, ProjectImportResult.Status.CREATED);
+        this.updated = count(results, ProjectImportResult.Status.UPDATED);
+        this.rejected = count(results, ProjectImportResult.Status.REJECTED);
+    }
+
+    private static int count(List<ProjectImportResult> results, ProjectImportResult.Status status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<ProjectImportResult> getResults() {
+        return results;
+    }
+}
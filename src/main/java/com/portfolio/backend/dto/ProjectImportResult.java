@@ -0,0 +1,49 @@
+package com.portfolio.backend.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ProjectImportResult", description = "Résultat de l'import d'un projet")
+public class ProjectImportResult {
+
+    public enum Status {
+        CREATED, UPDATED, REJECTED
+    }
+
+    @Schema(description = "Position du projet dans le document importé (à partir de 0)", example = "0")
+    private final int index;
+
+    @Schema(description = "Identifiant du projet, absent si rejeté sans identifiant")
+    private final UUID id;
+
+    @Schema(description = "Issue de l'import", example = "CREATED")
+    private final Status status;
+
+    @Schema(description = "Erreurs par champ pour un projet rejeté")
+    private final Map<String, String> errors;
+
+    public ProjectImportResult(int index, UUID id, Status status, Map<String, String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -1,6 +1,7 @@
 package com.portfolio.backend.dto;
 
 import java.util.List;
+import java.util.UUID;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
@@ -11,6 +12,10 @@ import jakarta.validation.constraints.NotBlank;
 @Schema(name = "ProjectInput", description = "Payload utilisé pour créer ou mettre à jour un projet")
 public class ProjectRequest {
 
+    @Schema(description = "Identifiant fourni par le client, utilisé comme clé par l'import en masse",
+            example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
     @NotBlank(message = "Title is required")
     @Schema(description = "Titre du projet", example = "Autonoma")
     private String title;
@@ -77,6 +82,20 @@ public class ProjectRequest {
     @Schema(description = "Rôle joué", example = "Backend lead")
     private String role;
 
+    @Schema(description = "Identifiants des compétences associées, inchangées si absents", example = "[1, 4]")
+    private List<Long> skillIds;
+
+    @Schema(description = "Noms des compétences associées, inchangées si absents", example = "[\"Spring Boot\"]")
+    private List<String> skillNames;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -244,4 +263,20 @@ public class ProjectRequest {
     public void setRole(String role) {
         this.role = role;
     }
+
+    public List<Long> getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(List<Long> skillIds) {
+        this.skillIds = skillIds;
+    }
+
+    public List<String> getSkillNames() {
+        return skillNames;
+    }
+
+    public void setSkillNames(List<String> skillNames) {
+        this.skillNames = skillNames;
+    }
 }
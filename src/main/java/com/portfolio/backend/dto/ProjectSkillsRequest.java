@@ -0,0 +1,34 @@
+package com.portfolio.backend.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Skills of a project, by id and/or by name. Both lists are merged.
+ */
+@Schema(name = "ProjectSkillsInput", description = "Compétences d'un projet, par identifiant et/ou par nom")
+public class ProjectSkillsRequest {
+
+    @Schema(description = "Identifiants des compétences", example = "[1, 4]")
+    private List<Long> skillIds;
+
+    @Schema(description = "Noms des compétences (insensible à la casse)", example = "[\"Spring Boot\",\"React\"]")
+    private List<String> skillNames;
+
+    public List<Long> getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(List<Long> skillIds) {
+        this.skillIds = skillIds;
+    }
+
+    public List<String> getSkillNames() {
+        return skillNames;
+    }
+
+    public void setSkillNames(List<String> skillNames) {
+        this.skillNames = skillNames;
+    }
+}
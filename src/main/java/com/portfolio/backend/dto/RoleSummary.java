@@ -0,0 +1,26 @@
+package com.portfolio.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "RoleSummary", description = "Rôle, sans ses utilisateurs")
+public class RoleSummary {
+
+    @Schema(description = "Identifiant du rôle", example = "1")
+    private final Long id;
+
+    @Schema(description = "Nom du rôle", example = "ADMIN")
+    private final String name;
+
+    public RoleSummary(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,62 @@
+package com.portfolio.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SkillMatrixEntry", description = "Compétence avec le nombre et les derniers projets qui l'utilisent")
+public class SkillMatrixEntry {
+
+    @Schema(description = "Identifiant de la compétence", example = "1")
+    private final Long id;
+
+    @Schema(description = "Nom de la compétence", example = "Spring Boot")
+    private final String name;
+
+    @Schema(description = "Niveau de maîtrise", example = "Advanced")
+    private final String level;
+
+    @Schema(description = "URL ou chemin de l'icône")
+    private final String icon;
+
+    @Schema(description = "Nombre de projets utilisant la compétence", example = "4")
+    private final long projectCount;
+
+    @Schema(description = "Identifiants des projets les plus récents, du plus récent au plus ancien")
+    private final List<UUID> recentProjectIds;
+
+    public SkillMatrixEntry(Long id, String name, String level, String icon, long projectCount,
+            List<UUID> recentProjectIds) {
+        this.id = id;
+        this.name = name;
+        this.level = level;
+        this.icon = icon;
+        this.projectCount = projectCount;
+        this.recentProjectIds = recentProjectIds;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public List<UUID> getRecentProjectIds() {
+        return recentProjectIds;
+    }
+}
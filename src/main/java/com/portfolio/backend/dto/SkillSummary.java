@@ -0,0 +1,61 @@
+package com.portfolio.backend.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SkillSummary", description = "Compétence, sans ses projets")
+public class SkillSummary {
+
+    @Schema(description = "Identifiant de la compétence", example = "1")
+    private final Long id;
+
+    @Schema(description = "Nom de la compétence", example = "Spring Boot")
+    private final String name;
+
+    @Schema(description = "Niveau de maîtrise", example = "Advanced")
+    private final String level;
+
+    @Schema(description = "URL ou chemin de l'icône")
+    private final String icon;
+
+    @Schema(description = "Date de création")
+    private final LocalDateTime createdAt;
+
+    @Schema(description = "Date de dernière modification")
+    private final LocalDateTime updatedAt;
+
+    public SkillSummary(Long id, String name, String level, String icon, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.level = level;
+        this.icon = icon;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
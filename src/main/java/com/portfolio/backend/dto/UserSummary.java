@@ -0,0 +1,79 @@
+package com.portfolio.backend.dto;
+
+import java.time.LocalDateTime;
+
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.entity.User;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "UserSummary", description = "Utilisateur pour les listes d'administration, sans mot de passe")
+public class UserSummary {
+
+    @Schema(description = "Identifiant de l'utilisateur", example = "1")
+    private final Long id;
+
+    @Schema(description = "Nom d'utilisateur", example = "admin")
+    private final String username;
+
+    @Schema(description = "Adresse email", example = "admin@example.com")
+    private final String email;
+
+    @Schema(description = "Rôle de l'utilisateur, absent s'il n'en a pas")
+    private final RoleSummary role;
+
+    @Schema(description = "Date de création")
+    private final LocalDateTime createdAt;
+
+    @Schema(description = "Date de dernière modification")
+    private final LocalDateTime updatedAt;
+
+    /**
+     * Flat constructor for JPQL constructor expressions, which cannot build
+     * the nested role themselves.
+     */
+    public UserSummary(Long id, String username, String email, Long roleId, String roleName,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.role = roleId != null ? new RoleSummary(roleId, roleName) : null;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * @param user a loaded user.
+     * @return the user without their password.
+     */
+    public static UserSummary of(User user) {
+        Role role = user.getRole();
+        return new UserSummary(user.getId(), user.getUsername(), user.getEmail(),
+                role != null ? role.getId() : null, role != null ? role.getName() : null,
+                user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public RoleSummary getRole() {
+        return role;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -5,9 +5,8 @@ import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
@@ -16,11 +15,14 @@ import jakarta.validation.constraints.Email;
  * Represents a contact message sent by a user.
  */
 @Entity
-@Table(name = "contact_message")
+@Table(name = "contact_message", indexes = {
+        @Index(name = "idx_contact_message_email", columnList = "email"),
+        @Index(name = "idx_contact_message_created_at", columnList = "created_at")
+})
 public class ContactMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /**
@@ -60,6 +62,18 @@ public class ContactMessage {
     @Column(nullable = false)
     private boolean read = false;
 
+    /**
+     * Indicates whether the message was detected or flagged as spam.
+     */
+    @Column(nullable = false)
+    private boolean spam = false;
+
+    /**
+     * Indicates whether the admin archived the message.
+     */
+    @Column(nullable = false)
+    private boolean archived = false;
+
     /**
      * Timestamp indicating when the message was created.
      * This field cannot be updated once the message is created.
@@ -80,7 +94,9 @@ public class ContactMessage {
      */
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     // --- Getters and Setters ---
@@ -140,10 +156,30 @@ public class ContactMessage {
         this.read = read;
     }
 
+    public boolean isSpam() {
+        return spam;
+    }
+
+    public void setSpam(boolean spam) {
+        this.spam = spam;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     // public User getUser() {
     //     return user;
     // }
@@ -0,0 +1,66 @@
+package com.portfolio.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Daily rollup of received contact messages, refreshed by the stats
+ * reconciliation job. Rows outlive the messages they count, so history is
+ * kept once old messages are purged or archived.
+ */
+@Entity
+@Table(name = "contact_message_daily_stats")
+public class ContactMessageDailyStats {
+
+    @Id
+    private LocalDate day;
+
+    /**
+     * Number of messages received that day, spam included.
+     */
+    @Column(nullable = false)
+    private long received;
+
+    /**
+     * Number of messages received that day and stored as spam.
+     */
+    @Column(nullable = false)
+    private long spam;
+
+    public ContactMessageDailyStats() {
+    }
+
+    public ContactMessageDailyStats(LocalDate day, long received, long spam) {
+        this.day = day;
+        this.received = received;
+        this.spam = spam;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getSpam() {
+        return spam;
+    }
+
+    public void setSpam(long spam) {
+        this.spam = spam;
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Stores the outcome of a write request sent with an {@code Idempotency-Key}
+ * header so that retries, possibly handled by another node, replay the
+ * original response instead of executing the handler again.
+ */
+@Entity
+@Table(name = "idempotency_record")
+public class IdempotencyRecord {
+
+    /**
+     * SHA-256 of the request scope (method, path, principal) and the client key.
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    /**
+     * HTTP status of the original response, or {@code null} while the first
+     * request is still being processed.
+     */
+    private Integer status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    /**
+     * Response body as sent, whatever its encoding.
+     */
+    @Column(columnDefinition = "BYTEA")
+    private byte[] body;
+
+    /**
+     * SHA-256 of the original request body, compared with the body of retries.
+     */
+    @Column(name = "request_digest", length = 64)
+    private String requestDigest;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isPending() {
+        return status == null;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+
+    public String getRequestDigest() {
+        return requestDigest;
+    }
+
+    public void setRequestDigest(String requestDigest) {
+        this.requestDigest = requestDigest;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
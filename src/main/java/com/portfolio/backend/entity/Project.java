@@ -2,36 +2,63 @@ package com.portfolio.backend.entity;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
-import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 
 /**
  * Represents a project completed by a user.
+ * <p>
+ * The list attributes (images, tags, stack...) are stored as array columns
+ * ({@code text[]} on PostgreSQL, {@code ARRAY} on H2) so a project is read
+ * and written as a single row. Updates only list the modified columns.
+ * </p>
  */
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
+@Table(indexes = {
+        @Index(name = "idx_project_status", columnList = "status"),
+        @Index(name = "idx_project_created_at", columnList = "created_at DESC")
+})
 public class Project {
 
+    /**
+     * Number of projects loaded per statement when batch-fetching them
+     * (e.g. {@code Skill.projects}), aligned with the default
+     * {@code streaming.fetch-size}.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 500;
+
     /**
      * Unique identifier for each project.
-     * Automatically generated by the database.
+     * Generated on insert as a time-ordered UUIDv7.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /**
@@ -62,9 +89,8 @@ public class Project {
     /**
      * Additional gallery images for the project.
      */
-    @ElementCollection(fetch = jakarta.persistence.FetchType.EAGER)
-    @CollectionTable(name = "project_images", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "image_url")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> images = new ArrayList<>();
 
     /**
@@ -80,9 +106,8 @@ public class Project {
     /**
      * Tags shown as chips on the frontend.
      */
-    @ElementCollection(fetch = jakarta.persistence.FetchType.EAGER)
-    @CollectionTable(name = "project_tags", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "tag")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> tags = new ArrayList<>();
 
     /**
@@ -91,24 +116,20 @@ public class Project {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    @ElementCollection(fetch = jakarta.persistence.FetchType.EAGER)
-    @CollectionTable(name = "project_stack", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "stack_item")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> stack = new ArrayList<>();
 
-    @ElementCollection(fetch = jakarta.persistence.FetchType.EAGER)
-    @CollectionTable(name = "project_features", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "feature")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> features = new ArrayList<>();
 
-    @ElementCollection(fetch = jakarta.persistence.FetchType.EAGER)
-    @CollectionTable(name = "project_contributions", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "contribution")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> contributions = new ArrayList<>();
 
-    @ElementCollection(fetch = jakarta.persistence.FetchType.EAGER)
-    @CollectionTable(name = "project_outcomes", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "outcome")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> outcomes = new ArrayList<>();
 
     private String client;
@@ -135,16 +156,19 @@ public class Project {
     private LocalDateTime updatedAt;
 
     /**
-     * List of skills related to the project.
-     * Many-to-Many relationship between `Project` and `Skill`.
+     * Skills related to the project.
+     * Many-to-Many relationship between `Project` and `Skill`. A set rather
+     * than a list so that Hibernate writes only the added and removed rows of
+     * the join table instead of recreating it.
      */
     @ManyToMany
     @JsonIgnore
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-skills")
     @JoinTable(name = "project_skill", // Join table linking "project" and "skill"
             joinColumns = @JoinColumn(name = "project_id"), // Column linking the project
-            inverseJoinColumns = @JoinColumn(name = "skill_id") // Column linking the skills
-    )
-    private List<Skill> skills = new ArrayList<>();
+            inverseJoinColumns = @JoinColumn(name = "skill_id"), // Column linking the skills
+            indexes = @Index(name = "idx_project_skill_skill_id", columnList = "skill_id"))
+    private Set<Skill> skills = new HashSet<>();
 
     @PrePersist
     public void onCreate() {
@@ -351,12 +375,12 @@ public class Project {
         this.updatedAt = updatedAt;
     }
 
-    public List<Skill> getSkills() {
+    public Set<Skill> getSkills() {
         return skills;
     }
 
-    public void setSkills(List<Skill> skills) {
-        this.skills = skills;
+    public void setSkills(Collection<Skill> skills) {
+        this.skills = skills != null ? new HashSet<>(skills) : new HashSet<>();
     }
 
 }
@@ -2,26 +2,35 @@ package com.portfolio.backend.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Id;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 
 /**
  * Represents a role in the application.
  * A role can be assigned to multiple users (e.g., "ADMIN", "USER").
  */
 @Entity // Marks this class as a JPA entity to be mapped to a database table.
+@Cacheable // Read on every authentication through User.role.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role")
 public class Role {
 
     /**
      * Unique identifier for each role.
-     * Automatically generated by the database using the IDENTITY strategy.
+     * Drawn from the role_id_seq sequence 50 values at a time, so that role inserts
+     * can be sent as JDBC batches (see V12__pooled_id_sequences.sql).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_id_seq")
+    @SequenceGenerator(name = "role_id_seq", sequenceName = "role_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -3,13 +3,21 @@ package com.portfolio.backend.entity;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
 /**
  * Represents a skill in the application.
@@ -17,15 +25,19 @@ import jakarta.persistence.PrePersist;
  */
 @Entity // Indicates that this class is a JPA entity and will be mapped to a database
         // table.
+@Table(indexes = @Index(name = "idx_skill_name", columnList = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skill")
 public class Skill {
 
     /**
      * Unique identifier for each skill.
-     * Automatically generated by the database using the GenerationType.IDENTITY
-     * strategy.
+     * Drawn from the skill_id_seq sequence 50 values at a time, so that skill inserts
+     * can be sent as JDBC batches (see V12__pooled_id_sequences.sql).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_id_seq")
+    @SequenceGenerator(name = "skill_id_seq", sequenceName = "skill_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -66,6 +78,8 @@ public class Skill {
      */
     @ManyToMany(mappedBy = "skills") // Defines that this entity is the inverse side of the relationship with
                                      // "skills" in Project.
+    @BatchSize(size = Project.COLLECTION_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skill-projects")
     private List<Project> projects;
 
     @PrePersist
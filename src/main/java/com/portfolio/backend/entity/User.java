@@ -2,13 +2,17 @@ package com.portfolio.backend.entity;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 
@@ -17,15 +21,20 @@ import jakarta.validation.constraints.Email;
  * This entity is mapped to the "app_user" table in the database.
  */
 @Entity
-@Table(name = "app_user") // Specifies the table name in the database.
+@Table(name = "app_user", indexes = { // Specifies the table name in the database.
+        @Index(name = "idx_app_user_username", columnList = "username"),
+        @Index(name = "idx_app_user_role_id", columnList = "role_id")
+})
 public class User {
 
     /**
      * Unique identifier for the user.
-     * Automatically generated by the database using the IDENTITY strategy.
+     * Drawn from the app_user_id_seq sequence 50 values at a time, so that user inserts
+     * can be sent as JDBC batches (see V12__pooled_id_sequences.sql).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_id_seq")
+    @SequenceGenerator(name = "app_user_id_seq", sequenceName = "app_user_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -39,12 +48,15 @@ public class User {
      * Can be used for authentication or communication purposes.
      */
     @Email(message = "Invalid email")
+    @Column(unique = true)
     private String email;
 
     /**
      * Password of the user.
      * Should be securely stored (e.g., hashed) in the database.
+     * Accepted in request bodies but never written to responses.
      */
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     /**
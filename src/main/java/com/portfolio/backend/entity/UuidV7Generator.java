@@ -0,0 +1,103 @@
+package com.portfolio.backend.entity;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Time-ordered RFC 9562 version 7 UUIDs.
+ * <p>
+ * The first 48 bits are the Unix time in milliseconds, so new rows land at
+ * the end of the primary key index instead of at random pages as with
+ * version 4. The 12 {@code rand_a} bits hold a counter, started at a random
+ * value below 1024 each millisecond, which keeps ids generated in the same
+ * millisecond increasing across threads; when it overflows, the timestamp
+ * moves ahead by one millisecond (RFC 9562, section 6.2, method 1). The
+ * remaining 62 bits are random.
+ * </p>
+ * <p>
+ * The id of a contact message carries its {@code created_at} rather than the
+ * time of the insert, which only differ for messages stored with an earlier
+ * date: {@code contact_message} is partitioned on that column, and a lookup by
+ * id can then be limited to the partitions around {@link #timestamp(UUID)}.
+ * </p>
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_SEED_BOUND = 1 << 10;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /** Beyond this distance from now, a creation date is not the time of the insert. */
+    private static final Duration CLOCK_TOLERANCE = Duration.ofMinutes(1);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** The timestamp of the last id followed by its counter. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * @return a new UUIDv7, greater than every one previously returned by this JVM.
+     */
+    public static UUID nextUuid() {
+        long millis = System.currentTimeMillis();
+        int seed = RANDOM.nextInt(COUNTER_SEED_BOUND);
+        long state = LAST.updateAndGet(last -> {
+            long start = millis << COUNTER_BITS;
+            // Also covers a clock moving backwards: keep counting from the last id.
+            return start > last ? start | seed : last + 1;
+        });
+        return uuid(state);
+    }
+
+    /**
+     * @param instant the time to encode.
+     * @return a new UUIDv7 for a row created at that time, with a random counter.
+     */
+    public static UUID uuidAt(Instant instant) {
+        return uuid(instant.toEpochMilli() << COUNTER_BITS | RANDOM.nextInt(1 << COUNTER_BITS));
+    }
+
+    /**
+     * @param id any UUID.
+     * @return the time encoded in a version 7 UUID, or {@code null} for other versions.
+     */
+    public static Instant timestamp(UUID id) {
+        return id.version() == 7 ? Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16) : null;
+    }
+
+    private static UUID uuid(long state) {
+        long mostSignificant = (state >>> COUNTER_BITS) << 16 | VERSION | (state & ((1 << COUNTER_BITS) - 1));
+        long leastSignificant = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        // The creation date is already set: @PrePersist callbacks run before id generation.
+        if (owner instanceof ContactMessage message && message.getCreatedAt() != null) {
+            Instant createdAt = message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+            if (Duration.between(createdAt, Instant.now()).abs().compareTo(CLOCK_TOLERANCE) > 0) {
+                return uuidAt(createdAt);
+            }
+        }
+        return nextUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
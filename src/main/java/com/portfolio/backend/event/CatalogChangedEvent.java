@@ -0,0 +1,14 @@
+package com.portfolio.backend.event;
+
+/**
+ * Published whenever projects, skills or the skills of a project change, so
+ * that read models derived from the catalog can be invalidated.
+ *
+ * @param type what changed.
+ */
+public record CatalogChangedEvent(Type type) {
+
+    public enum Type {
+        PROJECTS, SKILLS, PROJECT_SKILLS
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.backend.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+/**
+ * Published by {@code ContactMessageService} whenever the inbox changes.
+ * <p>
+ * Single-message events carry the message id (and the message itself for
+ * {@link Type#CREATED}) along with the state of the message before the change,
+ * so that counters can be adjusted without querying the table; bulk events
+ * carry no id and the number of affected messages.
+ * </p>
+ *
+ * @param type      what happened.
+ * @param messageId the message concerned, or {@code null} for a bulk operation.
+ * @param message   the new message for {@link Type#CREATED}, otherwise {@code null}.
+ * @param affected  the number of messages concerned.
+ * @param previous  the state of the message before the change, or {@code null}
+ *                  when unknown (new messages, bulk operations).
+ */
+public record ContactMessageEvent(Type type, UUID messageId, ContactMessage message, int affected,
+        Previous previous) {
+
+    public enum Type {
+        CREATED, READ, UNREAD, ARCHIVED, DELETED, SPAM, NOT_SPAM
+    }
+
+    /**
+     * What the inbox counters knew about a message before it changed.
+     *
+     * @param unread    whether it counted as unread: not read, not spam, not archived.
+     * @param spam      whether it was flagged as spam.
+     * @param createdAt when it was received, {@code null} when irrelevant to the change.
+     */
+    public record Previous(boolean unread, boolean spam, LocalDateTime createdAt) {
+
+        public static Previous of(ContactMessage message) {
+            return new Previous(!message.isRead() && !message.isSpam() && !message.isArchived(), message.isSpam(),
+                    message.getCreatedAt());
+        }
+    }
+
+    public static ContactMessageEvent created(ContactMessage message) {
+        return new ContactMessageEvent(Type.CREATED, message.getId(), message, 1, null);
+    }
+
+    public static ContactMessageEvent of(Type type, UUID messageId) {
+        return new ContactMessageEvent(type, messageId, null, 1, null);
+    }
+
+    public static ContactMessageEvent of(Type type, UUID messageId, Previous previous) {
+        return new ContactMessageEvent(type, messageId, null, 1, previous);
+    }
+
+    /**
+     * @param messageId the message marked as read.
+     * @param unread    whether it counted as unread before; its other flags are not known.
+     * @return the event.
+     */
+    public static ContactMessageEvent read(UUID messageId, boolean unread) {
+        return new ContactMessageEvent(Type.READ, messageId, null, 1, new Previous(unread, false, null));
+    }
+
+    public static ContactMessageEvent bulk(Type type, int affected) {
+        return new ContactMessageEvent(type, null, null, affected, null);
+    }
+
+    public boolean isBulk() {
+        return messageId == null;
+    }
+}
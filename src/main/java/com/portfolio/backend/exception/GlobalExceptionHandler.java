@@ -1,5 +1,6 @@
 package com.portfolio.backend.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +11,10 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import jakarta.validation.ConstraintViolationException;
+
 /**
  * Global exception handler for handling validation and runtime exceptions in
  * the application.
@@ -32,11 +37,49 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles validation errors raised outside of request body binding, e.g. a
+     * project that a merge patch left invalid.
+     *
+     * @param ex the validation exception
+     * @return a map of property paths and corresponding validation messages
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolations(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations()
+                .forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles JSON documents that parse but do not map onto the target type.
+     *
+     * @param ex the mapping exception
+     * @return the error message with a 400 status code
+     */
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<String> handleJsonProcessing(JsonProcessingException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getOriginalMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
 
+    /**
+     * Handles requests naming skills that do not exist: the request is
+     * well-formed, the project it targets may well exist.
+     *
+     * @param ex the thrown exception
+     * @return the error message with a 422 status code
+     */
+    @ExceptionHandler(UnknownSkillException.class)
+    public ResponseEntity<String> handleUnknownSkill(UnknownSkillException ex) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ex.getMessage());
+    }
+
     @ExceptionHandler(RecaptchaVerificationException.class)
     public ResponseEntity<Map<String, String>> handleRecaptchaVerification(RecaptchaVerificationException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -44,6 +87,20 @@ public class GlobalExceptionHandler {
                 .body(Map.of("recaptcha", ex.getMessage()));
     }
 
+    /**
+     * Signals backpressure from the contact ingestion queue so that clients retry
+     * later instead of piling up more work.
+     *
+     * @param ex the thrown exception
+     * @return an error message with a 503 status code and a Retry-After header
+     */
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<String> handleIngestionQueueFull(IngestionQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
     /**
      * Handles general application exceptions and returns an error message.
      *
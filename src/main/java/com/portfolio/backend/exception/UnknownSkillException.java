@@ -0,0 +1,8 @@
+package com.portfolio.backend.exception;
+
+public class UnknownSkillException extends RuntimeException {
+
+    public UnknownSkillException(String message) {
+        super(message);
+    }
+}
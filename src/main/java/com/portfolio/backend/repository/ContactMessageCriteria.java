@@ -0,0 +1,25 @@
+package com.portfolio.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filter for set-based contact message operations. All given criteria are
+ * combined with {@code AND}; {@code null} criteria are ignored.
+ *
+ * @param ids       restricts to these message ids.
+ * @param olderThan restricts to messages created strictly before this date.
+ * @param email     restricts to messages from this sender (case-insensitive).
+ * @param keyword   restricts to messages whose subject or body contains this keyword.
+ */
+public record ContactMessageCriteria(List<UUID> ids, LocalDateTime olderThan, String email, String keyword) {
+
+    /**
+     * @return {@code true} if no criterion is set, which would match the whole table.
+     */
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty()) && olderThan == null
+                && (email == null || email.isBlank()) && (keyword == null || keyword.isBlank());
+    }
+}
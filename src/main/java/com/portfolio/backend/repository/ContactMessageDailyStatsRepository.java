@@ -0,0 +1,10 @@
+package com.portfolio.backend.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.portfolio.backend.entity.ContactMessageDailyStats;
+
+public interface ContactMessageDailyStatsRepository extends JpaRepository<ContactMessageDailyStats, LocalDate> {
+}
@@ -1,28 +1,69 @@
 package com.portfolio.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.portfolio.backend.dto.DailyMessageCount;
 import com.portfolio.backend.entity.ContactMessage;
 
 /**
  * Repository interface for managing ContactMessage entity operations.
  * This interface extends JpaRepository, providing CRUD functionality
  * and additional custom queries.
+ * <p>
+ * {@code contact_message} is partitioned by month on {@code created_at}
+ * (PostgreSQL). Statements on a single message bound that column, through
+ * {@link CreatedAtRange}, so that only the partitions able to hold it are
+ * read; the inherited {@code findById}, {@code save} and {@code delete} do
+ * not, and probe every partition.
+ * </p>
  */
-public interface ContactMessageRepository extends JpaRepository<ContactMessage, java.util.UUID> {
+public interface ContactMessageRepository extends JpaRepository<ContactMessage, UUID>,
+        ContactMessageRepositoryCustom {
 
     /**
-     * Finds messages by sender's email.
+     * Finds messages by sender's email. The email says nothing about when the
+     * messages were sent: the email index of every partition is probed.
      *
      * @param email the sender's email address.
      * @return a list of contact messages from the specified email.
      */
     List<ContactMessage> findByEmail(String email);
 
+    /**
+     * Finds a message by id within a range of creation dates.
+     *
+     * @param id   the message id.
+     * @param from the earliest creation date.
+     * @param to   the latest creation date.
+     * @return the message, if stored in that range.
+     */
+    Optional<ContactMessage> findByIdAndCreatedAtBetween(UUID id, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds a message by id, reading only the partitions its UUIDv7 id points
+     * to. Falls back to every partition when it is not there, for messages
+     * stored before ids carried their creation date.
+     *
+     * @param id the message id.
+     * @return the message, if stored.
+     */
+    default Optional<ContactMessage> findByIdInPartition(UUID id) {
+        CreatedAtRange range = CreatedAtRange.of(id);
+        Optional<ContactMessage> message = findByIdAndCreatedAtBetween(id, range.from(), range.to());
+        return message.isPresent() || !range.isBounded() ? message : findById(id);
+    }
+
     /**
      * Finds messages sent after a specific date.
      *
@@ -38,6 +79,30 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
      */
     List<ContactMessage> findByReadFalse();
 
+    /**
+     * Finds unread messages that are neither suspected spam nor archived.
+     *
+     * @return a list of unread contact messages for the admin inbox.
+     */
+    List<ContactMessage> findByReadFalseAndSpamFalseAndArchivedFalse();
+
+    /**
+     * Finds messages by spam status.
+     *
+     * @param spam the spam status.
+     * @return a list of contact messages with the given status.
+     */
+    List<ContactMessage> findBySpam(boolean spam);
+
+    /**
+     * Finds messages already reviewed by the admin with the given spam status.
+     *
+     * @param spam     the spam status.
+     * @param pageable the page to load.
+     * @return a list of reviewed contact messages.
+     */
+    List<ContactMessage> findBySpamAndReadTrue(boolean spam, Pageable pageable);
+
     /**
      * Finds messages by a specific keyword in the subject or message body.
      *
@@ -47,4 +112,96 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
     @Query("SELECT cm FROM ContactMessage cm WHERE LOWER(cm.subject) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(cm.message) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<ContactMessage> searchByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * Returns which of the given ids are already stored.
+     *
+     * @param ids the message ids to check.
+     * @return the subset of ids present in the table.
+     */
+    @Query("SELECT cm.id FROM ContactMessage cm WHERE cm.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Marks a message as read without loading it.
+     *
+     * @param id   the message id.
+     * @param from the earliest creation date of the message.
+     * @param to   the latest creation date of the message.
+     * @return the number of updated rows (0 if the message does not exist or is already read).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContactMessage cm SET cm.read = true "
+            + "WHERE cm.id = :id AND cm.createdAt BETWEEN :from AND :to AND cm.read = false")
+    int markAsRead(@Param("id") UUID id, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Marks a message as read without loading it, provided it is counted in the
+     * unread inbox (neither spam nor archived).
+     *
+     * @param id   the message id.
+     * @param from the earliest creation date of the message.
+     * @param to   the latest creation date of the message.
+     * @return 1 if the message left the unread inbox, 0 otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContactMessage cm SET cm.read = true WHERE cm.id = :id AND cm.createdAt BETWEEN :from AND :to "
+            + "AND cm.read = false AND cm.spam = false AND cm.archived = false")
+    int markInboxMessageAsRead(@Param("id") UUID id, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Records the admin's spam review of a loaded message: sets its spam flag
+     * and marks it as read.
+     *
+     * @param id        the message id.
+     * @param createdAt the creation date of the message.
+     * @param spam      whether the message is spam.
+     * @return the number of updated rows.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContactMessage cm SET cm.spam = :spam, cm.read = true "
+            + "WHERE cm.id = :id AND cm.createdAt = :createdAt")
+    int markReviewed(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt,
+            @Param("spam") boolean spam);
+
+    /**
+     * Deletes a loaded message.
+     *
+     * @param id        the message id.
+     * @param createdAt the creation date of the message.
+     * @return the number of deleted rows.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ContactMessage cm WHERE cm.id = :id AND cm.createdAt = :createdAt")
+    int deleteByIdAndCreatedAt(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Counts the messages shown in the admin inbox.
+     *
+     * @return the number of unread messages that are neither spam nor archived.
+     */
+    long countByReadFalseAndSpamFalseAndArchivedFalse();
+
+    /**
+     * Counts the messages stored as spam.
+     *
+     * @return the number of spam messages.
+     */
+    long countBySpamTrue();
+
+    /**
+     * Counts received and spam messages per day.
+     *
+     * @param from the start of the first day to include.
+     * @return one row per day having at least one message.
+     */
+    @Query("SELECT new com.portfolio.backend.dto.DailyMessageCount(CAST(cm.createdAt AS LocalDate), COUNT(cm), "
+            + "SUM(CASE WHEN cm.spam = true THEN 1L ELSE 0L END)) FROM ContactMessage cm "
+            + "WHERE cm.createdAt >= :from GROUP BY CAST(cm.createdAt AS LocalDate)")
+    List<DailyMessageCount> countPerDaySince(@Param("from") LocalDateTime from);
 }
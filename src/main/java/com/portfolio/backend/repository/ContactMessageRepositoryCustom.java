@@ -0,0 +1,45 @@
+package com.portfolio.backend.repository;
+
+import java.util.List;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+/**
+ * Contact message operations that bypass the persistence context for
+ * throughput.
+ */
+public interface ContactMessageRepositoryCustom {
+
+    /**
+     * Inserts the given messages with JDBC batching. Each message must already
+     * carry its id and creation date.
+     *
+     * @param messages the messages to insert.
+     */
+    void batchInsert(List<ContactMessage> messages);
+
+    /**
+     * Sets the read flag of every matching message in a single {@code UPDATE}.
+     *
+     * @param criteria the messages to update; must not be empty.
+     * @param read     the new read flag.
+     * @return the number of updated rows.
+     */
+    int bulkUpdateRead(ContactMessageCriteria criteria, boolean read);
+
+    /**
+     * Archives every matching message in a single {@code UPDATE}.
+     *
+     * @param criteria the messages to archive; must not be empty.
+     * @return the number of updated rows.
+     */
+    int bulkArchive(ContactMessageCriteria criteria);
+
+    /**
+     * Deletes every matching message in a single {@code DELETE}.
+     *
+     * @param criteria the messages to delete; must not be empty.
+     * @return the number of deleted rows.
+     */
+    int bulkDelete(ContactMessageCriteria criteria);
+}
@@ -0,0 +1,110 @@
+package com.portfolio.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+class ContactMessageRepositoryImpl implements ContactMessageRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO contact_message "
+            + "(id, name, email, phone, subject, message, read, spam, archived, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    ContactMessageRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void batchInsert(List<ContactMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setObject(1, message.getId());
+            ps.setString(2, message.getName());
+            ps.setString(3, message.getEmail());
+            ps.setString(4, message.getPhone());
+            ps.setString(5, message.getSubject());
+            ps.setString(6, message.getMessage());
+            ps.setBoolean(7, message.isRead());
+            ps.setBoolean(8, message.isSpam());
+            ps.setBoolean(9, message.isArchived());
+            ps.setObject(10, message.getCreatedAt());
+        });
+    }
+
+    @Override
+    @Transactional
+    public int bulkUpdateRead(ContactMessageCriteria criteria, boolean read) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ContactMessage> update = cb.createCriteriaUpdate(ContactMessage.class);
+        Root<ContactMessage> root = update.from(ContactMessage.class);
+        update.set(root.<Boolean>get("read"), read)
+                .where(cb.and(predicates(cb, root, criteria)), cb.notEqual(root.get("read"), read));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int bulkArchive(ContactMessageCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ContactMessage> update = cb.createCriteriaUpdate(ContactMessage.class);
+        Root<ContactMessage> root = update.from(ContactMessage.class);
+        update.set(root.<Boolean>get("archived"), true)
+                .where(cb.and(predicates(cb, root, criteria)), cb.isFalse(root.get("archived")));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int bulkDelete(ContactMessageCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<ContactMessage> delete = cb.createCriteriaDelete(ContactMessage.class);
+        Root<ContactMessage> root = delete.from(ContactMessage.class);
+        delete.where(predicates(cb, root, criteria));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<ContactMessage> root, ContactMessageCriteria criteria) {
+        if (criteria.isEmpty()) {
+            // Never turn a missing filter into a full-table update.
+            throw new IllegalStateException("Bulk operations require at least one criterion");
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.ids() != null && !criteria.ids().isEmpty()) {
+            predicates.add(root.get("id").in(criteria.ids()));
+            CreatedAtRange range = CreatedAtRange.of(criteria.ids());
+            if (range.isBounded()) {
+                predicates.add(cb.between(root.get("createdAt"), range.from(), range.to()));
+            }
+        }
+        if (criteria.olderThan() != null) {
+            predicates.add(cb.lessThan(root.get("createdAt"), criteria.olderThan()));
+        }
+        if (criteria.email() != null && !criteria.email().isBlank()) {
+            predicates.add(cb.equal(cb.lower(root.get("email")), criteria.email().trim().toLowerCase()));
+        }
+        if (criteria.keyword() != null && !criteria.keyword().isBlank()) {
+            String pattern = "%" + criteria.keyword().toLowerCase() + "%";
+            predicates.add(cb.or(cb.like(cb.lower(root.get("subject")), pattern),
+                    cb.like(cb.lower(root.get("message")), pattern)));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
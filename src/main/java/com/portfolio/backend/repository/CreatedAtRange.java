@@ -0,0 +1,76 @@
+package com.portfolio.backend.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.UUID;
+
+import com.portfolio.backend.entity.UuidV7Generator;
+
+/**
+ * Bounds on {@code contact_message.created_at} for statements on known
+ * messages, so that PostgreSQL only reads the monthly partitions that can hold
+ * them instead of probing the primary key of every partition.
+ * <p>
+ * A UUIDv7 id carries the creation date of its message; the range allows for
+ * a change of the server's time zone since. Other ids (version 4 ones, from
+ * before UUIDv7) get {@link #ALL}.
+ * </p>
+ *
+ * @param from the earliest creation date, inclusive.
+ * @param to   the latest creation date, inclusive.
+ */
+public record CreatedAtRange(LocalDateTime from, LocalDateTime to) {
+
+    private static final Duration MARGIN = Duration.ofDays(2);
+
+    /** Every valid creation date: all partitions are read. */
+    public static final CreatedAtRange ALL = new CreatedAtRange(LocalDateTime.of(1, 1, 1, 0, 0),
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+
+    /**
+     * @param id a message id.
+     * @return the creation dates a message with this id can have.
+     */
+    public static CreatedAtRange of(UUID id) {
+        Instant timestamp = UuidV7Generator.timestamp(id);
+        return timestamp != null ? around(timestamp, timestamp) : ALL;
+    }
+
+    /**
+     * @param ids message ids.
+     * @return the creation dates the messages with these ids can have.
+     */
+    public static CreatedAtRange of(Collection<UUID> ids) {
+        Instant min = null;
+        Instant max = null;
+        for (UUID id : ids) {
+            Instant timestamp = UuidV7Generator.timestamp(id);
+            if (timestamp == null) {
+                return ALL;
+            }
+            min = min == null || timestamp.isBefore(min) ? timestamp : min;
+            max = max == null || timestamp.isAfter(max) ? timestamp : max;
+        }
+        return min != null ? around(min, max) : ALL;
+    }
+
+    /**
+     * @param createdAt the creation date of a loaded message.
+     * @return a range holding only that date.
+     */
+    public static CreatedAtRange at(LocalDateTime createdAt) {
+        return new CreatedAtRange(createdAt, createdAt);
+    }
+
+    public boolean isBounded() {
+        return !ALL.equals(this);
+    }
+
+    private static CreatedAtRange around(Instant min, Instant max) {
+        return new CreatedAtRange(LocalDateTime.ofInstant(min.minus(MARGIN), ZoneId.systemDefault()),
+                LocalDateTime.ofInstant(max.plus(MARGIN), ZoneId.systemDefault()));
+    }
+}
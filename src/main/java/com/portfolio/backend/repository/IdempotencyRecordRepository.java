@@ -0,0 +1,37 @@
+package com.portfolio.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.portfolio.backend.entity.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Reserves a key with a plain INSERT so that a concurrent reservation from
+     * another node fails on the primary key instead of being merged.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_record (idempotency_key, created_at) VALUES (:key, :createdAt)",
+            nativeQuery = true)
+    int insertPending(@Param("key") String key, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.contentType = :contentType, r.body = :body, "
+            + "r.requestDigest = :requestDigest WHERE r.idempotencyKey = :key")
+    int complete(@Param("key") String key, @Param("status") int status,
+            @Param("contentType") String contentType, @Param("body") byte[] body,
+            @Param("requestDigest") String requestDigest);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -4,18 +4,36 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.portfolio.backend.dto.ProjectCard;
 import com.portfolio.backend.entity.Project;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing Project entity operations.
  * This interface extends JpaRepository, providing CRUD functionality and
  * additional custom queries.
  */
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, ProjectRepositoryCustom {
+
+    /**
+     * Selects a project as a {@link com.portfolio.backend.dto.ProjectCard}:
+     * listings only render the tags, so the other list columns and the long
+     * texts are never read.
+     */
+    String CARD_SELECT = "SELECT new com.portfolio.backend.dto.ProjectCard(p.id, p.title, p.description, p.summary, "
+            + "p.status, p.coverImage, p.tags, p.createdAt, p.updatedAt) FROM Project p";
+
+    /**
+     * Every project as a card, most recent first, for {@link ReadOnlyEntityStreamer}.
+     */
+    String CARD_QUERY = CARD_SELECT + " ORDER BY p.createdAt DESC";
 
     /**
      * Finds projects by their status.
@@ -23,6 +41,7 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      * @param status the status of the project (e.g., "In Progress", "Completed").
      * @return a list of projects with the given status.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Project> findByStatus(String status);
 
     /**
@@ -47,6 +66,7 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      * @param skillName the name of the skill.
      * @return a list of projects associated with the given skill.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Project p JOIN p.skills s WHERE LOWER(s.name) = LOWER(:skillName)")
     List<Project> findBySkillName(@Param("skillName") String skillName);
 
@@ -56,5 +76,44 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      *
      * @return a list of projects ordered by creation date (most recent first).
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Project> findAllByOrderByCreatedAtDesc();
+
+    /**
+     * Finds the cards of the projects with the given status.
+     *
+     * @param status the status of the project.
+     * @return the matching projects as cards.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query(CARD_SELECT + " WHERE p.status = :status")
+    List<ProjectCard> findCardsByStatus(@Param("status") String status);
+
+    /**
+     * Finds the cards of the projects created after a specific date.
+     *
+     * @param createdAt the cutoff creation date.
+     * @return the matching projects as cards.
+     */
+    @Query(CARD_SELECT + " WHERE p.createdAt > :createdAt")
+    List<ProjectCard> findCardsByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Finds the cards of the projects whose title contains a keyword.
+     *
+     * @param title the title keyword, case insensitive.
+     * @return the matching projects as cards.
+     */
+    @Query(CARD_SELECT + " WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<ProjectCard> findCardsByTitleContainingIgnoreCase(@Param("title") String title);
+
+    /**
+     * Finds the cards of the projects associated with a specific skill name.
+     *
+     * @param skillName the name of the skill.
+     * @return the matching projects as cards.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query(CARD_SELECT + " JOIN p.skills s WHERE LOWER(s.name) = LOWER(:skillName)")
+    List<ProjectCard> findCardsBySkillName(@Param("skillName") String skillName);
 }
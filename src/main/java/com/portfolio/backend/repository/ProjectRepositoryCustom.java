@@ -0,0 +1,37 @@
+package com.portfolio.backend.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.portfolio.backend.entity.Project;
+
+/**
+ * Project operations that bypass the persistence context for throughput.
+ */
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Inserts or updates the given projects with JDBC batching, in id order,
+     * within a single transaction. Each project must already carry its id and
+     * timestamps; the creation date of an existing project is kept. Their
+     * skills are left unchanged.
+     *
+     * @param projects the projects to upsert, with distinct ids.
+     * @return the ids that already existed and were updated.
+     */
+    default Set<UUID> batchUpsert(List<Project> projects) {
+        return batchUpsert(projects, Set.of());
+    }
+
+    /**
+     * Same as {@link #batchUpsert(List)}, and replaces the {@code project_skill}
+     * rows of some of the projects with their {@link Project#getSkills()} in
+     * the same transaction.
+     *
+     * @param projects      the projects to upsert, with distinct ids.
+     * @param replaceSkills the ids of the projects whose skills are replaced.
+     * @return the ids that already existed and were updated.
+     */
+    Set<UUID> batchUpsert(List<Project> projects, Set<UUID> replaceSkills);
+}
@@ -0,0 +1,198 @@
+package com.portfolio.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
+
+/**
+ * Upserts are atomic: a project inserted concurrently by another import or a
+ * {@code POST} is updated rather than failing the batch on its primary key.
+ * PostgreSQL runs {@code INSERT ... ON CONFLICT (id) DO UPDATE}, up to
+ * {@value #ROWS_PER_STATEMENT} rows per statement, and reports which rows
+ * existed through {@code RETURNING}. Other databases (H2 in the tests) run a
+ * batched {@code MERGE}, and the existing rows are read beforehand.
+ */
+class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    private static final String COLUMNS = "title, description, summary, status, cover_image, images, repo_url, "
+            + "live_url, tags, content, stack, features, contributions, outcomes, client, testimonial, "
+            + "testimonial_author, mood, personal_note, duration, role, updated_at";
+
+    private static final String VALUES = "(" + String.join(", ", Collections.nCopies(24, "?")) + ")";
+
+    private static final String UPDATE_COLUMNS = COLUMNS.replace(",", " = ?,") + " = ?";
+
+    private static final String ON_CONFLICT_SQL = " ON CONFLICT (id) DO UPDATE SET "
+            + COLUMNS.replaceAll("(\\w+)", "$1 = EXCLUDED.$1") + " RETURNING id, xmax = 0 AS inserted";
+
+    private static final String MERGE_SQL = "MERGE INTO project p USING (SELECT CAST(? AS UUID) AS id) s "
+            + "ON p.id = s.id WHEN MATCHED THEN UPDATE SET " + UPDATE_COLUMNS
+            + " WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ", created_at, id) VALUES " + VALUES;
+
+    /** 24 parameters per row, within the 32767 bind parameters of a PostgreSQL statement. */
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_SKILL_SQL = "INSERT INTO project_skill (project_id, skill_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private Boolean postgres;
+
+    ProjectRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> batchUpsert(List<Project> projects, Set<UUID> replaceSkills) {
+        if (projects.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // A stable id order keeps concurrent imports from deadlocking on each other's rows.
+        List<Project> ordered = projects.stream().sorted(Comparator.comparing(Project::getId)).toList();
+        Set<UUID> existing = isPostgres() ? upsert(ordered) : merge(ordered);
+        List<Project> withSkills = ordered.stream().filter(project -> replaceSkills.contains(project.getId())).toList();
+        if (!withSkills.isEmpty()) {
+            replaceSkills(withSkills);
+        }
+        evictAfterCommit();
+        return existing;
+    }
+
+    private Set<UUID> upsert(List<Project> projects) {
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < projects.size(); from += ROWS_PER_STATEMENT) {
+            List<Project> rows = projects.subList(from, Math.min(from + ROWS_PER_STATEMENT, projects.size()));
+            String sql = "INSERT INTO project (" + COLUMNS + ", created_at, id) VALUES "
+                    + String.join(", ", Collections.nCopies(rows.size(), VALUES)) + ON_CONFLICT_SQL;
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                int index = 1;
+                for (Project project : rows) {
+                    index = bindInsert(ps, index, project);
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                if (!rs.getBoolean("inserted")) {
+                    existing.add(rs.getObject("id", UUID.class));
+                }
+            });
+        }
+        return existing;
+    }
+
+    private Set<UUID> merge(List<Project> projects) {
+        Set<UUID> existing = findExistingIds(projects);
+        jdbcTemplate.batchUpdate(MERGE_SQL, projects, projects.size(), (ps, project) -> {
+            ps.setObject(1, project.getId());
+            bindInsert(ps, bindColumns(ps, 2, project), project);
+        });
+        return existing;
+    }
+
+    private void replaceSkills(List<Project> projects) {
+        String placeholders = String.join(", ", Collections.nCopies(projects.size(), "?"));
+        jdbcTemplate.update("DELETE FROM project_skill WHERE project_id IN (" + placeholders + ")",
+                projects.stream().map(Project::getId).toArray());
+        List<Object[]> rows = new ArrayList<>();
+        for (Project project : projects) {
+            for (Skill skill : project.getSkills()) {
+                rows.add(new Object[] { project.getId(), skill.getId() });
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SKILL_SQL, rows);
+        }
+    }
+
+    /**
+     * The batches bypass Hibernate, so the second-level cache has to be told.
+     * Evicting after the commit keeps a concurrent reader from caching the
+     * old rows again in between.
+     */
+    private void evictAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                entityManagerFactory.getCache().evict(Project.class);
+                Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+                cache.evictCollectionData(Project.class.getName() + ".skills");
+                cache.evictCollectionData(Skill.class.getName() + ".projects");
+                cache.evictQueryRegions();
+            }
+        });
+    }
+
+    private Set<UUID> findExistingIds(List<Project> projects) {
+        String placeholders = String.join(", ", Collections.nCopies(projects.size(), "?"));
+        Object[] ids = projects.stream().map(Project::getId).toArray();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM project WHERE id IN (" + placeholders + ")", UUID.class, ids));
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+        }
+        return postgres;
+    }
+
+    private int bindInsert(PreparedStatement ps, int index, Project project) throws SQLException {
+        index = bindColumns(ps, index, project);
+        ps.setObject(index++, project.getCreatedAt());
+        ps.setObject(index++, project.getId());
+        return index;
+    }
+
+    private int bindColumns(PreparedStatement ps, int index, Project project) throws SQLException {
+        ps.setString(index++, project.getTitle());
+        ps.setString(index++, project.getDescription());
+        ps.setString(index++, project.getSummary());
+        ps.setString(index++, project.getStatus());
+        ps.setString(index++, project.getCoverImage());
+        ps.setObject(index++, toArray(project.getImages()));
+        ps.setString(index++, project.getRepoUrl());
+        ps.setString(index++, project.getLiveUrl());
+        ps.setObject(index++, toArray(project.getTags()));
+        ps.setString(index++, project.getContent());
+        ps.setObject(index++, toArray(project.getStack()));
+        ps.setObject(index++, toArray(project.getFeatures()));
+        ps.setObject(index++, toArray(project.getContributions()));
+        ps.setObject(index++, toArray(project.getOutcomes()));
+        ps.setString(index++, project.getClient());
+        ps.setString(index++, project.getTestimonial());
+        ps.setString(index++, project.getTestimonialAuthor());
+        ps.setString(index++, project.getMood());
+        ps.setString(index++, project.getPersonalNote());
+        ps.setString(index++, project.getDuration());
+        ps.setString(index++, project.getRole());
+        ps.setObject(index++, project.getUpdatedAt());
+        return index;
+    }
+
+    private static String[] toArray(List<String> values) {
+        return values.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,104 @@
+package com.portfolio.backend.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs a JPQL query as a forward-only cursor in its own read-only transaction
+ * and hands each row to a callback, detaching it right after so the
+ * persistence context never grows with the result size. Queries selecting
+ * a constructor expression stream unmanaged DTOs, with nothing to detach.
+ * <p>
+ * Rows are read ahead one fetch-size chunk at a time before being handed
+ * out, so that lazy associations touched by the callback are batch-fetched
+ * for the whole chunk instead of once per row.
+ * </p>
+ * <p>
+ * Used by the streaming endpoints, which run on an async request thread
+ * outside of any caller transaction.
+ * </p>
+ */
+@Repository
+public class ReadOnlyEntityStreamer {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public ReadOnlyEntityStreamer(EntityManager entityManager, PlatformTransactionManager transactionManager,
+            @Value("${streaming.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Streams the query result row by row.
+     *
+     * @param jpql    the query, including its {@code ORDER BY}.
+     * @param type    the entity or DTO type.
+     * @param handler called once per row, in query order.
+     * @param <T>     the row type.
+     * @return the number of rows handled.
+     * @throws IOException if the handler fails to write a row.
+     */
+    public <T> long forEach(String jpql, Class<T> type, RowHandler<T> handler) throws IOException {
+        boolean managed = entityManager.getMetamodel().getEntities().stream()
+                .anyMatch(entity -> entity.getJavaType() == type);
+        try {
+            Long rows = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<T> stream = entityManager.createQuery(jpql, type)
+                        .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                        .setHint(AvailableHints.HINT_READ_ONLY, true)
+                        .getResultStream()) {
+                    Iterator<T> iterator = stream.iterator();
+                    List<T> chunk = new ArrayList<>(fetchSize);
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() == fetchSize || !iterator.hasNext()) {
+                            for (T row : chunk) {
+                                handler.handle(row);
+                                if (managed) {
+                                    entityManager.detach(row);
+                                }
+                            }
+                            count += chunk.size();
+                            chunk.clear();
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return count;
+            });
+            return rows != null ? rows : 0;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Callback receiving each streamed row.
+     *
+     * @param <T> the entity type.
+     */
+    @FunctionalInterface
+    public interface RowHandler<T> {
+
+        void handle(T row) throws IOException;
+    }
+}
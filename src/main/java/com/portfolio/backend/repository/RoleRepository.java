@@ -1,11 +1,18 @@
 package com.portfolio.backend.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.portfolio.backend.dto.RoleSummary;
 import com.portfolio.backend.entity.Role;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing Role entity operations.
  * This interface extends JpaRepository, providing CRUD functionality and
@@ -19,6 +26,7 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      * @param name the name of the role.
      * @return an Optional containing the role if found, or empty otherwise.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 
     /**
@@ -28,4 +36,12 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      * @return true if a role exists with the given name, false otherwise.
      */
     boolean existsByName(String name);
+
+    /**
+     * Lists the roles without loading their users.
+     *
+     * @return every role, ordered by ID.
+     */
+    @Query("SELECT new com.portfolio.backend.dto.RoleSummary(r.id, r.name) FROM Role r ORDER BY r.id")
+    List<RoleSummary> findAllSummaries();
 }
@@ -1,22 +1,34 @@
 package com.portfolio.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.portfolio.backend.entity.Skill;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing Skill entity operations.
  * This interface extends JpaRepository, providing CRUD functionality and
  * additional custom queries.
  */
-public interface SkillRepository extends JpaRepository<Skill, Long> {
+public interface SkillRepository extends JpaRepository<Skill, Long>, SkillRepositoryCustom {
+
+    /**
+     * Every skill as a {@link com.portfolio.backend.dto.SkillSummary}, for
+     * {@link ReadOnlyEntityStreamer}.
+     */
+    String SUMMARY_QUERY = "SELECT new com.portfolio.backend.dto.SkillSummary(s.id, s.name, s.level, s.icon, "
+            + "s.createdAt, s.updatedAt) FROM Skill s ORDER BY s.name, s.id";
 
     /**
      * Finds a skill by its name.
@@ -24,6 +36,7 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      * @param name the name of the skill.
      * @return an Optional containing the skill if found, or empty otherwise.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Skill> findByName(String name);
 
     /**
@@ -34,12 +47,22 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      */
     boolean existsByName(String name);
 
+    /**
+     * Finds the skills matching any of the given names, in a single query.
+     *
+     * @param names the skill names, already lower-cased.
+     * @return the matching skills, compared case-insensitively.
+     */
+    @Query("SELECT s FROM Skill s WHERE LOWER(s.name) IN :names")
+    List<Skill> findByLowerNameIn(@Param("names") Collection<String> names);
+
     /**
      * Finds all skills associated with a specific project by the project's ID.
      *
      * @param projectId the ID of the project.
      * @return a list of skills associated with the given project.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Skill s JOIN s.projects p WHERE p.id = :projectId")
     List<Skill> findByProjectId(@Param("projectId") UUID projectId);
 
@@ -0,0 +1,21 @@
+package com.portfolio.backend.repository;
+
+import java.util.List;
+
+import com.portfolio.backend.dto.SkillMatrixEntry;
+
+/**
+ * Skill read models computed in SQL rather than by walking the associations.
+ */
+public interface SkillRepositoryCustom {
+
+    /**
+     * Aggregates every skill with its projects in a single {@code GROUP BY}
+     * over {@code project_skill}.
+     *
+     * @param recentProjects the maximum number of project ids to keep per skill.
+     * @return the skills ordered by name, with their project count and most
+     *         recently created project ids.
+     */
+    List<SkillMatrixEntry> findSkillMatrix(int recentProjects);
+}
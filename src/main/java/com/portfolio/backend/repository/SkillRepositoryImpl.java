@@ -0,0 +1,59 @@
+package com.portfolio.backend.repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.portfolio.backend.dto.SkillMatrixEntry;
+
+class SkillRepositoryImpl implements SkillRepositoryCustom {
+
+    private static final String MATRIX_SQL = "SELECT s.id, s.name, s.level, s.icon, COUNT(p.id) AS project_count, "
+            + "ARRAY_AGG(p.id ORDER BY p.created_at DESC) FILTER (WHERE p.id IS NOT NULL) AS project_ids "
+            + "FROM skill s "
+            + "LEFT JOIN project_skill ps ON ps.skill_id = s.id "
+            + "LEFT JOIN project p ON p.id = ps.project_id "
+            + "GROUP BY s.id, s.name, s.level, s.icon "
+            + "ORDER BY s.name, s.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SkillRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SkillMatrixEntry> findSkillMatrix(int recentProjects) {
+        return jdbcTemplate.query(MATRIX_SQL, (rs, rowNum) -> new SkillMatrixEntry(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("level"),
+                rs.getString("icon"),
+                rs.getLong("project_count"),
+                projectIds(rs, recentProjects)));
+    }
+
+    private static List<UUID> projectIds(ResultSet rs, int limit) throws SQLException {
+        Array array = rs.getArray("project_ids");
+        List<UUID> ids = new ArrayList<>();
+        if (array == null) {
+            return ids;
+        }
+        try {
+            for (Object id : (Object[]) array.getArray()) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(id instanceof UUID uuid ? uuid : UUID.fromString(id.toString()));
+            }
+        } finally {
+            array.free();
+        }
+        return ids;
+    }
+}
@@ -17,6 +17,13 @@ import com.portfolio.backend.entity.User;
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Every user as a {@link com.portfolio.backend.dto.UserSummary}, role
+     * included through a join, for {@link ReadOnlyEntityStreamer}.
+     */
+    String SUMMARY_QUERY = "SELECT new com.portfolio.backend.dto.UserSummary(u.id, u.username, u.email, "
+            + "r.id, r.name, u.createdAt, u.updatedAt) FROM User u LEFT JOIN u.role r ORDER BY u.id";
+
     /**
      * Finds a user by their email.
      *
@@ -0,0 +1,337 @@
+package com.portfolio.backend.security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.portfolio.backend.exception.IdempotencyConflictException;
+import com.portfolio.backend.service.IdempotencyService;
+import com.portfolio.backend.service.IdempotencyService.StoredResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Honours the {@code Idempotency-Key} header on write endpoints.
+ * <p>
+ * The first request carrying a key is executed normally and its successful
+ * response is recorded by {@link IdempotencyService}; retries with the same key
+ * receive the recorded response without reaching the controller. Keys are
+ * scoped by method, path and authenticated principal.
+ * </p>
+ * <p>
+ * The SHA-256 of the request body is recorded along with the response,
+ * computed as the controller reads the body so that streamed imports are not
+ * buffered. A retry whose body differs is rejected with {@code 422}.
+ * </p>
+ * <p>
+ * The response is written through to the client as it is produced and a copy
+ * is kept for recording up to {@code idempotency.max-body-size}. A larger
+ * response is not recorded: the key is released and a retry runs again,
+ * which only concerns bulk endpoints such as the project import, an upsert
+ * by id.
+ * </p>
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<String> IDEMPOTENT_PATHS = List.of("/api/messages", "/api/projects", "/api/admin/**");
+
+    private final IdempotencyService idempotencyService;
+    private final int maxBodySize;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyService idempotencyService,
+            @Value("${idempotency.max-body-size:256KB}") DataSize maxBodySize) {
+        this.idempotencyService = idempotencyService;
+        this.maxBodySize = (int) Math.min(maxBodySize.toBytes(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())
+                || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        RecordingResponseWrapper recording = new RecordingResponseWrapper(response, maxBodySize);
+        DigestingRequestWrapper digesting = new DigestingRequestWrapper(request);
+        StoredResponse replay;
+        try {
+            replay = idempotencyService.execute(scopedKey(request, key), () -> {
+                chain.doFilter(digesting, recording);
+                recording.flushWriter();
+                HttpStatus status = HttpStatus.resolve(recording.getStatus());
+                byte[] body = recording.body();
+                if (status == null || !status.is2xxSuccessful() || body == null) {
+                    return null;
+                }
+                return new StoredResponse(recording.getStatus(), recording.getContentType(), body,
+                        digesting.digest(), LocalDateTime.now());
+            });
+        } catch (IdempotencyConflictException ex) {
+            writeError(response, HttpStatus.CONFLICT, ex.getMessage());
+            return;
+        }
+
+        if (replay == null) {
+            return;
+        }
+        if (replay.requestDigest() != null && !replay.requestDigest().equals(digesting.digest())) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY_HEADER + " was already used with a different request body");
+            return;
+        }
+        response.setStatus(replay.status());
+        if (replay.contentType() != null) {
+            response.setContentType(replay.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(replay.body().length);
+        response.getOutputStream().write(replay.body());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private String scopedKey(HttpServletRequest request, String key) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null && authentication.isAuthenticated()
+                ? authentication.getName()
+                : "anonymous";
+        String scope = request.getMethod() + ' ' + request.getRequestURI() + ' ' + principal + ' ' + key;
+        return HexFormat.of().formatHex(sha256().digest(scope.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    /**
+     * Writes the response through and keeps a copy of its body until it
+     * exceeds the limit.
+     */
+    private static final class RecordingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final int limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        RecordingResponseWrapper(HttpServletResponse response, int limit) {
+            super(response);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream target = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        target.write(b);
+                        keep(new byte[] { (byte) b }, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+                        target.write(buffer, offset, length);
+                        keep(buffer, offset, length);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        target.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return target.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        target.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(),
+                        Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            copy = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            copy = new ByteArrayOutputStream();
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        /**
+         * @return the body written so far, or {@code null} if it exceeded the limit.
+         */
+        byte[] body() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+
+        private void keep(byte[] buffer, int offset, int length) {
+            if (copy == null) {
+                return;
+            }
+            if (copy.size() + length > limit) {
+                copy = null;
+            } else {
+                copy.write(buffer, offset, length);
+            }
+        }
+    }
+
+    /**
+     * Hashes the request body as it is read.
+     */
+    private static final class DigestingRequestWrapper extends HttpServletRequestWrapper {
+
+        private final MessageDigest digest = sha256();
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        DigestingRequestWrapper(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream source = super.getInputStream();
+                DigestInputStream digesting = new DigestInputStream(source, digest);
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        return digesting.read();
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        return digesting.read(buffer, offset, length);
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return source.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return source.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        source.setReadListener(readListener);
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                reader = new BufferedReader(new InputStreamReader(getInputStream(),
+                        encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1));
+            }
+            return reader;
+        }
+
+        /**
+         * Reads what is left of the body, then returns the SHA-256 of all of it.
+         */
+        String digest() throws IOException {
+            getInputStream().transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.portfolio.backend.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.portfolio.backend.dto.CacheRegionStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Reads the hit ratios of the Hibernate second-level and query cache regions.
+ * Counters are only collected when {@code hibernate.cache.statistics} is on.
+ */
+@Service
+public class CacheStatisticsService {
+
+    private final SessionFactory sessionFactory;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * @return one entry per cache region, sorted by name; empty when the
+     *         cache or its statistics are disabled.
+     */
+    public List<CacheRegionStats> findRegionStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toStats(region, statistics))
+                .toList();
+    }
+
+    private static CacheRegionStats toStats(String region, Statistics statistics) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return new CacheRegionStats(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                regionStatistics.getPutCount());
+    }
+}
@@ -0,0 +1,589 @@
+package com.portfolio.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
+
+/**
+ * Cold storage for contact messages past retention.
+ * <p>
+ * Partitions moved to the archive schema by
+ * {@link ContactMessagePartitionManager} are written to an immutable segment
+ * and then dropped from PostgreSQL. A segment is a file of independently
+ * gzip-compressed blocks ({@code .seg.gz}) with two sorted sidecar indexes,
+ * one by id and one by email hash, mapping each message to its block offset
+ * and its position inside the uncompressed block. Indexes are memory-mapped
+ * and binary-searched, so a lookup decompresses a single block per match.
+ * </p>
+ * <p>
+ * A partition is read through a cursor, {@code streaming.fetch-size} rows at
+ * a time, and written to its segment as the rows arrive.
+ * </p>
+ * <p>
+ * Segments are written to the local directory {@code contact.archive.path}
+ * and copied to {@code contact.archive.shared-path}, a volume every instance
+ * mounts. A partition is only dropped once the shared copy is on disk and
+ * holds all its rows, within a transaction holding an advisory lock on the
+ * partition, so two instances never archive it at once. Without a shared
+ * path, archived partitions stay in the archive schema. Every instance
+ * fetches the segments it lacks from the shared volume at startup and every
+ * {@code contact.archive.refresh-interval-ms}.
+ * </p>
+ */
+@Service
+public class ContactMessageArchive {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactMessageArchive.class);
+    static final String DATA_SUFFIX = ".seg.gz";
+    static final String ID_INDEX_SUFFIX = ".id.idx";
+    static final String EMAIL_INDEX_SUFFIX = ".email.idx";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final List<String> SEGMENT_SUFFIXES = List.of(ID_INDEX_SUFFIX, EMAIL_INDEX_SUFFIX, DATA_SUFFIX);
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int ID_ENTRY_BYTES = Long.BYTES * 3 + Integer.BYTES;
+    private static final int EMAIL_ENTRY_BYTES = Long.BYTES * 2 + Integer.BYTES;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final Pattern ARCHIVED_TABLE = Pattern.compile("contact_message_p\\d{4}_\\d{2}");
+    private static final String COLUMNS = "id, name, email, phone, subject, message, read, spam, archived, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final boolean enabled;
+    private final Path directory;
+    private final Path sharedDirectory;
+    private final String archiveSchema;
+    private final Map<String, Segment> segments = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    public ContactMessageArchive(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${contact.archive.enabled:false}") boolean enabled,
+            @Value("${contact.archive.path:data/contact-archive}") String path,
+            @Value("${contact.archive.shared-path:}") String sharedPath,
+            @Value("${contact.partitions.archive-schema:contact_archive}") String archiveSchema,
+            @Value("${streaming.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        // PostgreSQL only reads through a cursor inside a transaction; otherwise it loads the whole result.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fetchSize = fetchSize;
+        this.enabled = enabled;
+        this.directory = Paths.get(path).toAbsolutePath().normalize();
+        this.sharedDirectory = sharedPath.isBlank() ? null : Paths.get(sharedPath).toAbsolutePath().normalize();
+        this.archiveSchema = archiveSchema;
+    }
+
+    /**
+     * Opens the segments already on disk, then fetches the shared ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + DATA_SUFFIX)) {
+                for (Path file : files) {
+                    String name = segmentName(file);
+                    segments.put(name, Segment.open(directory, name));
+                }
+            } catch (IOException ex) {
+                LOGGER.error("Unable to open contact message archive {}: {}", directory, ex.getMessage());
+            }
+        }
+        refresh();
+        LOGGER.info("Contact message archive opened with {} segments", segments.size());
+    }
+
+    /**
+     * Fetches the segments other instances wrote to the shared volume.
+     */
+    @Scheduled(initialDelayString = "${contact.archive.refresh-interval-ms:60000}",
+            fixedDelayString = "${contact.archive.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled || sharedDirectory == null || !Files.isDirectory(sharedDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sharedDirectory, "*" + DATA_SUFFIX)) {
+            for (Path file : files) {
+                String name = segmentName(file);
+                if (!segments.containsKey(name)) {
+                    fetch(name);
+                    LOGGER.info("Contact message archive segment {} fetched from {}", name, sharedDirectory);
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Unable to refresh contact message archive from {}: {}", sharedDirectory, ex.getMessage());
+        }
+    }
+
+    /**
+     * Moves the partitions found in the archive schema to segments and drops
+     * them from the database.
+     */
+    @Workload(WorkloadType.BACKGROUND)
+    @Scheduled(initialDelayString = "${contact.archive.interval-ms:3600000}",
+            fixedDelayString = "${contact.archive.interval-ms:3600000}")
+    public void archivePartitions() {
+        if (!enabled) {
+            return;
+        }
+        if (sharedDirectory == null) {
+            LOGGER.warn("contact.archive.shared-path is not set, archived partitions are kept in schema {}",
+                    archiveSchema);
+            return;
+        }
+        try {
+            List<String> tables = jdbcTemplate.queryForList(
+                    "SELECT table_name FROM information_schema.tables WHERE table_schema = ?", String.class,
+                    archiveSchema);
+            for (String table : tables) {
+                if (ARCHIVED_TABLE.matcher(table).matches()) {
+                    transactionTemplate.executeWithoutResult(status -> archiveTable(table));
+                }
+            }
+        } catch (DataAccessException | TransactionException | UncheckedIOException ex) {
+            LOGGER.error("Unable to archive contact message partitions: {}", ex.getMessage());
+        }
+    }
+
+    private void archiveTable(String table) {
+        String qualifiedName = archiveSchema + "." + table;
+        // Released on commit; another instance holding it is archiving the same partition.
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext(?))",
+                Boolean.class, qualifiedName))) {
+            return;
+        }
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = ? AND table_name = ?",
+                Integer.class, archiveSchema, table);
+        if (exists == null || exists == 0) {
+            return;
+        }
+        try {
+            if (!segments.containsKey(table) && !fetch(table)) {
+                String sql = "SELECT " + COLUMNS + " FROM " + qualifiedName + " ORDER BY created_at";
+                try (SegmentWriter writer = new SegmentWriter(directory, table)) {
+                    jdbcTemplate.query(connection -> {
+                        PreparedStatement statement = connection.prepareStatement(sql);
+                        statement.setFetchSize(fetchSize);
+                        return statement;
+                    }, (RowCallbackHandler) rs -> writer.addUnchecked(mapRow(rs)));
+                    segments.put(table, writer.commit());
+                }
+            }
+            Segment shared = share(table);
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + qualifiedName, Long.class);
+            if (rows == null || shared.size() != rows) {
+                throw new IOException("Segment " + table + " holds " + shared.size() + " messages, the partition "
+                        + rows);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        jdbcTemplate.execute("DROP TABLE " + qualifiedName);
+        LOGGER.info("Contact message partition {} archived to {}", table, sharedDirectory);
+    }
+
+    /**
+     * Copies a local segment to the shared volume, unless it is already there.
+     *
+     * @return the shared copy, checked byte for byte against the local one.
+     */
+    private Segment share(String name) throws IOException {
+        if (!sharedDirectory.equals(directory)) {
+            if (!Files.exists(sharedDirectory.resolve(name + DATA_SUFFIX))) {
+                copySegment(directory, sharedDirectory, name);
+            }
+            for (String suffix : SEGMENT_SUFFIXES) {
+                if (Files.mismatch(directory.resolve(name + suffix), sharedDirectory.resolve(name + suffix)) != -1) {
+                    throw new IOException("Shared copy of segment " + name + " differs from the local one");
+                }
+            }
+        }
+        return Segment.open(sharedDirectory, name);
+    }
+
+    /**
+     * Copies a segment from the shared volume and opens it.
+     *
+     * @return {@code false} if the shared volume does not hold it.
+     */
+    private synchronized boolean fetch(String name) throws IOException {
+        if (segments.containsKey(name)) {
+            return true;
+        }
+        if (sharedDirectory == null || !Files.exists(sharedDirectory.resolve(name + DATA_SUFFIX))) {
+            return false;
+        }
+        if (!sharedDirectory.equals(directory)) {
+            copySegment(sharedDirectory, directory, name);
+        }
+        segments.put(name, Segment.open(directory, name));
+        return true;
+    }
+
+    private static void copySegment(Path from, Path to, String name) throws IOException {
+        Files.createDirectories(to);
+        // The data file is copied last: a segment is only visible once its indexes are in place.
+        for (String suffix : SEGMENT_SUFFIXES) {
+            Path tmp = to.resolve(name + suffix + TMP_SUFFIX);
+            Files.copy(from.resolve(name + suffix), tmp, StandardCopyOption.REPLACE_EXISTING);
+            force(tmp);
+            publish(tmp, to.resolve(name + suffix));
+        }
+    }
+
+    private static void publish(Path tmp, Path target) throws IOException {
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private static String segmentName(Path dataFile) {
+        String name = dataFile.getFileName().toString();
+        return name.substring(0, name.length() - DATA_SUFFIX.length());
+    }
+
+    /**
+     * Writes the given messages to a new segment and shares it.
+     *
+     * @param name     the segment name, unique within the archive.
+     * @param messages the messages to archive.
+     * @throws IOException if the segment cannot be written.
+     */
+    void archive(String name, Iterable<ContactMessage> messages) throws IOException {
+        try (SegmentWriter writer = new SegmentWriter(directory, name)) {
+            for (ContactMessage message : messages) {
+                writer.add(message);
+            }
+            segments.put(name, writer.commit());
+        }
+        if (sharedDirectory != null) {
+            share(name);
+        }
+    }
+
+    /**
+     * Looks up an archived message by id.
+     *
+     * @param id the message id.
+     * @return the archived message, or empty if it is not in the archive.
+     */
+    public Optional<ContactMessage> findById(UUID id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            for (Segment segment : segments.values()) {
+                ContactMessage message = segment.findById(id);
+                if (message != null) {
+                    return Optional.of(message);
+                }
+            }
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read contact message archive", ex);
+        }
+    }
+
+    /**
+     * Looks up the archived messages sent from an email address, case-insensitively.
+     *
+     * @param email the sender's email.
+     * @return the archived messages, newest segment first.
+     */
+    public List<ContactMessage> findByEmail(String email) {
+        if (!enabled || email == null) {
+            return List.of();
+        }
+        long hash = emailHash(email);
+        List<ContactMessage> messages = new ArrayList<>();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.findByEmail(hash, email, messages);
+            }
+            return messages;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read contact message archive", ex);
+        }
+    }
+
+    private static ContactMessage mapRow(ResultSet rs) throws SQLException {
+        ContactMessage message = new ContactMessage();
+        message.setId(rs.getObject("id", UUID.class));
+        message.setName(rs.getString("name"));
+        message.setEmail(rs.getString("email"));
+        message.setPhone(rs.getString("phone"));
+        message.setSubject(rs.getString("subject"));
+        message.setMessage(rs.getString("message"));
+        message.setRead(rs.getBoolean("read"));
+        message.setSpam(rs.getBoolean("spam"));
+        message.setArchived(rs.getBoolean("archived"));
+        message.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        return message;
+    }
+
+    static long emailHash(String email) {
+        long hash = FNV_OFFSET;
+        for (byte b : email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * A committed, read-only segment.
+     */
+    private static final class Segment {
+
+        private final Path data;
+        private final MappedByteBuffer idIndex;
+        private final MappedByteBuffer emailIndex;
+        private final int idEntries;
+        private final int emailEntries;
+
+        private Segment(Path data, MappedByteBuffer idIndex, MappedByteBuffer emailIndex) {
+            this.data = data;
+            this.idIndex = idIndex;
+            this.emailIndex = emailIndex;
+            this.idEntries = idIndex.capacity() / ID_ENTRY_BYTES;
+            this.emailEntries = emailIndex.capacity() / EMAIL_ENTRY_BYTES;
+        }
+
+        long size() {
+            return idEntries;
+        }
+
+        static Segment open(Path directory, String name) throws IOException {
+            return new Segment(directory.resolve(name + DATA_SUFFIX),
+                    map(directory.resolve(name + ID_INDEX_SUFFIX)),
+                    map(directory.resolve(name + EMAIL_INDEX_SUFFIX)));
+        }
+
+        private static MappedByteBuffer map(Path index) throws IOException {
+            try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
+        ContactMessage findById(UUID id) throws IOException {
+            long msb = id.getMostSignificantBits();
+            long lsb = id.getLeastSignificantBits();
+            int low = 0;
+            int high = idEntries - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int offset = mid * ID_ENTRY_BYTES;
+                int cmp = Long.compare(idIndex.getLong(offset), msb);
+                if (cmp == 0) {
+                    cmp = Long.compare(idIndex.getLong(offset + Long.BYTES), lsb);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return read(idIndex.getLong(offset + Long.BYTES * 2), idIndex.getInt(offset + Long.BYTES * 3));
+                }
+            }
+            return null;
+        }
+
+        void findByEmail(long hash, String email, List<ContactMessage> results) throws IOException {
+            int low = 0;
+            int high = emailEntries;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (emailIndex.getLong(mid * EMAIL_ENTRY_BYTES) < hash) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < emailEntries && emailIndex.getLong(i * EMAIL_ENTRY_BYTES) == hash; i++) {
+                int offset = i * EMAIL_ENTRY_BYTES;
+                ContactMessage message = read(emailIndex.getLong(offset + Long.BYTES),
+                        emailIndex.getInt(offset + Long.BYTES * 2));
+                if (email.trim().equalsIgnoreCase(message.getEmail())) {
+                    results.add(message);
+                }
+            }
+        }
+
+        private ContactMessage read(long blockOffset, int position) throws IOException {
+            try (FileChannel channel = FileChannel.open(data, StandardOpenOption.READ)) {
+                channel.position(blockOffset);
+                InputStream block = new GZIPInputStream(Channels.newInputStream(channel));
+                block.skipNBytes(position);
+                DataInputStream in = new DataInputStream(block);
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                return ContactMessageCodec.decode(ByteBuffer.wrap(payload));
+            }
+        }
+    }
+
+    /**
+     * Writes a segment to temporary files and publishes it atomically on commit.
+     */
+    private static final class SegmentWriter implements Closeable {
+
+        private final Path directory;
+        private final String name;
+        private final Path dataTmp;
+        private final OutputStream data;
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE);
+        private final DataOutputStream blockOut = new DataOutputStream(block);
+        private final List<IndexEntry> idEntries = new ArrayList<>();
+        private final List<IndexEntry> emailEntries = new ArrayList<>();
+        private long offset;
+        private boolean committed;
+
+        SegmentWriter(Path directory, String name) throws IOException {
+            Files.createDirectories(directory);
+            this.directory = directory;
+            this.name = name;
+            this.dataTmp = directory.resolve(name + DATA_SUFFIX + TMP_SUFFIX);
+            this.data = Files.newOutputStream(dataTmp);
+        }
+
+        void add(ContactMessage message) throws IOException {
+            ByteBuffer payload = ContactMessageCodec.encode(message);
+            if (block.size() > 0 && block.size() + Integer.BYTES + payload.remaining() > BLOCK_SIZE) {
+                flushBlock();
+            }
+            idEntries.add(new IndexEntry(message.getId().getMostSignificantBits(),
+                    message.getId().getLeastSignificantBits(), offset, block.size()));
+            if (message.getEmail() != null) {
+                emailEntries.add(new IndexEntry(emailHash(message.getEmail()), 0, offset, block.size()));
+            }
+            blockOut.writeInt(payload.remaining());
+            blockOut.write(payload.array(), payload.arrayOffset(), payload.remaining());
+        }
+
+        void addUnchecked(ContactMessage message) {
+            try {
+                add(message);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        Segment commit() throws IOException {
+            flushBlock();
+            data.close();
+            force(dataTmp);
+            Path idTmp = writeIndex(ID_INDEX_SUFFIX, idEntries, ID_ENTRY_BYTES, true);
+            Path emailTmp = writeIndex(EMAIL_INDEX_SUFFIX, emailEntries, EMAIL_ENTRY_BYTES, false);
+            // The data file is published last: a segment is only visible once its indexes are in place.
+            publish(idTmp, directory.resolve(name + ID_INDEX_SUFFIX));
+            publish(emailTmp, directory.resolve(name + EMAIL_INDEX_SUFFIX));
+            publish(dataTmp, directory.resolve(name + DATA_SUFFIX));
+            committed = true;
+            return Segment.open(directory, name);
+        }
+
+        private void flushBlock() throws IOException {
+            if (block.size() == 0) {
+                return;
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(block.size() / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                block.writeTo(gzip);
+            }
+            compressed.writeTo(data);
+            offset += compressed.size();
+            block.reset();
+        }
+
+        private Path writeIndex(String suffix, List<IndexEntry> entries, int entryBytes, boolean withLow)
+                throws IOException {
+            entries.sort(Comparator.comparingLong(IndexEntry::high).thenComparingLong(IndexEntry::low));
+            ByteBuffer buffer = ByteBuffer.allocate(entries.size() * entryBytes);
+            for (IndexEntry entry : entries) {
+                buffer.putLong(entry.high());
+                if (withLow) {
+                    buffer.putLong(entry.low());
+                }
+                buffer.putLong(entry.block());
+                buffer.putInt(entry.position());
+            }
+            buffer.flip();
+            Path tmp = directory.resolve(name + suffix + TMP_SUFFIX);
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            return tmp;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                data.close();
+                Files.deleteIfExists(dataTmp);
+                Files.deleteIfExists(directory.resolve(name + ID_INDEX_SUFFIX + TMP_SUFFIX));
+                Files.deleteIfExists(directory.resolve(name + EMAIL_INDEX_SUFFIX + TMP_SUFFIX));
+            }
+        }
+    }
+
+    private record IndexEntry(long high, long low, long block, int position) {
+    }
+}
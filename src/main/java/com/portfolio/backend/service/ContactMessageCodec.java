@@ -0,0 +1,91 @@
+package com.portfolio.backend.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+/**
+ * Compact binary form of a contact message, shared by the local spool and the
+ * cold archive: the id as two longs, a flags byte, then length-prefixed UTF-8
+ * fields ({@code -1} for {@code null}).
+ */
+final class ContactMessageCodec {
+
+    private static final byte READ_FLAG = 1;
+    private static final byte SPAM_FLAG = 2;
+    private static final byte ARCHIVED_FLAG = 4;
+
+    private ContactMessageCodec() {
+    }
+
+    /**
+     * @param message a message with its id and creation date set.
+     * @return the encoded message, ready to be read.
+     */
+    static ByteBuffer encode(ContactMessage message) {
+        byte[][] fields = {
+                bytes(message.getName()),
+                bytes(message.getEmail()),
+                bytes(message.getPhone()),
+                bytes(message.getSubject()),
+                bytes(message.getMessage()),
+                bytes(message.getCreatedAt().toString())
+        };
+        int length = Long.BYTES * 2 + 1;
+        for (byte[] field : fields) {
+            length += Integer.BYTES + (field != null ? field.length : 0);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        payload.putLong(message.getId().getMostSignificantBits());
+        payload.putLong(message.getId().getLeastSignificantBits());
+        payload.put((byte) ((message.isRead() ? READ_FLAG : 0) | (message.isSpam() ? SPAM_FLAG : 0)
+                | (message.isArchived() ? ARCHIVED_FLAG : 0)));
+        for (byte[] field : fields) {
+            if (field == null) {
+                payload.putInt(-1);
+            } else {
+                payload.putInt(field.length);
+                payload.put(field);
+            }
+        }
+        payload.flip();
+        return payload;
+    }
+
+    /**
+     * @param payload a buffer positioned at the start of an encoded message.
+     * @return the decoded message.
+     */
+    static ContactMessage decode(ByteBuffer payload) {
+        ContactMessage message = new ContactMessage();
+        message.setId(new UUID(payload.getLong(), payload.getLong()));
+        byte flags = payload.get();
+        message.setRead((flags & READ_FLAG) != 0);
+        message.setSpam((flags & SPAM_FLAG) != 0);
+        message.setArchived((flags & ARCHIVED_FLAG) != 0);
+        message.setName(string(payload));
+        message.setEmail(string(payload));
+        message.setPhone(string(payload));
+        message.setSubject(string(payload));
+        message.setMessage(string(payload));
+        message.setCreatedAt(LocalDateTime.parse(string(payload)));
+        return message;
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String string(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        payload.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,287 @@
+package com.portfolio.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.UuidV7Generator;
+import com.portfolio.backend.exception.IngestionQueueFullException;
+import com.portfolio.backend.workload.WorkloadContext;
+import com.portfolio.backend.workload.WorkloadType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind ingestion for public contact messages.
+ * <p>
+ * When enabled, validated messages are put on a bounded in-memory queue and a
+ * single flusher thread persists them through
+ * {@link ContactMessageService#saveMessages(List)} in batches of
+ * {@code contact.ingestion.batch-size} rows, or every
+ * {@code contact.ingestion.flush-interval}, whichever comes first. A full queue
+ * rejects new messages with {@link IngestionQueueFullException}, and pending
+ * messages are drained before the application context shuts down.
+ * </p>
+ * <p>
+ * Queued messages have already been acknowledged, so a failed batch is never
+ * discarded. While the database is unavailable, the batch is held and retried
+ * with an exponential backoff, and the queue fills up instead of draining. A
+ * batch rejected by the database is retried message by message; a message
+ * rejected on its own goes to the {@link ContactMessageSpool} when enabled,
+ * whose replay sets it aside as a dead letter, and is otherwise held as well.
+ * </p>
+ */
+@Service
+public class ContactMessageIngestionQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactMessageIngestionQueue.class);
+
+    private final ContactMessageService contactMessageService;
+    private final ContactMessageSpool contactMessageSpool;
+    private final boolean enabled;
+    private final BlockingQueue<ContactMessage> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+
+    /** Messages of failed batches, only touched by the flusher thread (or by stop() once it has exited). */
+    private final List<ContactMessage> held = new ArrayList<>();
+    private Duration nextRetryDelay;
+    private long nextRetry;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ContactMessageIngestionQueue(ContactMessageService contactMessageService,
+            ContactMessageSpool contactMessageSpool,
+            @Value("${contact.ingestion.queued:false}") boolean enabled,
+            @Value("${contact.ingestion.capacity:10000}") int capacity,
+            @Value("${contact.ingestion.batch-size:100}") int batchSize,
+            @Value("${contact.ingestion.flush-interval:200ms}") Duration flushInterval,
+            @Value("${contact.ingestion.offer-timeout:50ms}") Duration offerTimeout,
+            @Value("${contact.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${contact.ingestion.retry-delay:1s}") Duration retryDelay,
+            @Value("${contact.ingestion.max-retry-delay:1m}") Duration maxRetryDelay) {
+        this.contactMessageService = contactMessageService;
+        this.contactMessageSpool = contactMessageSpool;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.nextRetryDelay = retryDelay;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(() -> WorkloadContext.run(WorkloadType.BACKGROUND, this::runFlushLoop),
+                "contact-ingestion-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        LOGGER.info("Contact ingestion queue started (batch size {}, flush interval {})", batchSize, flushInterval);
+    }
+
+    /**
+     * Drains the queue before the data source is closed.
+     */
+    @PreDestroy
+    public void stop() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            LOGGER.error("Contact ingestion flusher did not finish within {}, {} queued contact messages not persisted",
+                    shutdownTimeout, queue.size());
+            return;
+        }
+        // Messages offered while the flusher was exiting.
+        List<ContactMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        if (!held.isEmpty()) {
+            LOGGER.error("{} queued contact messages not persisted at shutdown", held.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of messages waiting to be flushed.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Queues a validated message for batched persistence. Messages received
+     * while the queue is shutting down are saved synchronously.
+     *
+     * @param message the message to persist.
+     * @throws IngestionQueueFullException if the queue stays full for longer than the offer timeout.
+     */
+    public void enqueue(ContactMessage message) {
+        if (!running) {
+            contactMessageService.saveMessage(message);
+            return;
+        }
+        if (message.getId() == null) {
+            message.setId(UuidV7Generator.nextUuid());
+        }
+        if (message.getCreatedAt() == null) {
+            message.setCreatedAt(LocalDateTime.now());
+        }
+        boolean accepted;
+        try {
+            accepted = queue.offer(message, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            throw new IngestionQueueFullException("Contact message queue is full, please retry later");
+        }
+    }
+
+    private void runFlushLoop() {
+        List<ContactMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !held.isEmpty()) {
+            if (!held.isEmpty()) {
+                try {
+                    retryHeld();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.error("Contact ingestion flusher interrupted, {} held contact messages not persisted",
+                            held.size());
+                    return;
+                }
+                continue;
+            }
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<ContactMessage> batch) throws InterruptedException {
+        ContactMessage first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            ContactMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<ContactMessage> batch) {
+        try {
+            contactMessageService.saveMessages(List.copyOf(batch));
+        } catch (RuntimeException ex) {
+            if (ContactMessageSpool.isUnavailable(ex)) {
+                hold(batch, ex);
+            } else if (batch.size() > 1) {
+                // One rejected message fails the whole batch: save the others.
+                LOGGER.warn("Failed to persist {} queued contact messages, retrying one by one: {}", batch.size(),
+                        ex.getMessage());
+                batch.forEach(message -> flush(List.of(message)));
+            } else if (!spool(batch.get(0), ex)) {
+                hold(batch, ex);
+            }
+        }
+    }
+
+    private boolean spool(ContactMessage message, RuntimeException cause) {
+        if (!contactMessageSpool.isEnabled()) {
+            return false;
+        }
+        try {
+            contactMessageSpool.append(message);
+        } catch (RuntimeException ex) {
+            return false;
+        }
+        LOGGER.error("Queued contact message {} rejected by the database, moved to the spool: {}", message.getId(),
+                cause.getMessage());
+        return true;
+    }
+
+    private void hold(List<ContactMessage> messages, RuntimeException cause) {
+        if (held.isEmpty()) {
+            nextRetry = System.nanoTime() + nextRetryDelay.toNanos();
+        }
+        held.addAll(messages);
+        LOGGER.warn("Failed to persist {} queued contact messages, retrying in {}: {}", messages.size(),
+                nextRetryDelay, cause.getMessage());
+    }
+
+    /**
+     * Waits for the backoff, then retries the held messages before taking new
+     * ones from the queue. The wait is cut short on shutdown.
+     */
+    private void retryHeld() throws InterruptedException {
+        long deadline = nextRetry;
+        for (long now = System.nanoTime(); now - deadline < 0; now = System.nanoTime()) {
+            if (!running) {
+                deadline = Math.min(deadline, now + flushInterval.toNanos());
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(deadline - now, flushInterval.toNanos()));
+        }
+        List<ContactMessage> batch = new ArrayList<>(held);
+        held.clear();
+        // The delay before the next attempt if this one fails.
+        Duration doubled = nextRetryDelay.multipliedBy(2);
+        nextRetryDelay = doubled.compareTo(maxRetryDelay) < 0 ? doubled : maxRetryDelay;
+        flush(batch);
+        if (held.isEmpty()) {
+            nextRetryDelay = retryDelay;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.portfolio.backend.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
+
+/**
+ * Maintains the monthly partitions of {@code contact_message} (PostgreSQL only).
+ * <p>
+ * Partitions are created a few months ahead so that new rows never land in
+ * the default partition. Partitions older than the retention period are
+ * detached and moved to the archive schema: expiring a month is a metadata
+ * change rather than a large {@code DELETE} followed by vacuum work, and the
+ * archived table stays available until it is exported or dropped.
+ * </p>
+ * <p>
+ * Detaching a partition does not fire the row triggers that keep
+ * {@code contact_message_id} in sync, so its ids are removed from that
+ * registry in the same transaction.
+ * </p>
+ */
+@Service
+public class ContactMessagePartitionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactMessagePartitionManager.class);
+    static final String PARENT_TABLE = "contact_message";
+    static final String ID_REGISTRY_TABLE = "contact_message_id";
+    private static final Pattern PARTITION_NAME = Pattern.compile("contact_message_p(\\d{4})_(\\d{2})");
+    private static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE p.relname = '" + PARENT_TABLE + "'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+    private Boolean postgres;
+
+    public ContactMessagePartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${contact.partitions.enabled:false}") boolean enabled,
+            @Value("${contact.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${contact.partitions.retention-months:0}") int retentionMonths,
+            @Value("${contact.partitions.archive-schema:contact_archive}") String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @Workload(WorkloadType.BACKGROUND) // maintain() is called on this instance, not through the proxy.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        maintain();
+    }
+
+    /**
+     * Creates the upcoming partitions and archives the expired ones.
+     */
+    @Workload(WorkloadType.BACKGROUND)
+    @Scheduled(initialDelayString = "${contact.partitions.maintenance-interval-ms:86400000}",
+            fixedDelayString = "${contact.partitions.maintenance-interval-ms:86400000}")
+    public void maintain() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (String partition : listPartitions()) {
+                YearMonth month = parseMonth(partition);
+                if (month != null && month.isBefore(oldestKept)) {
+                    archivePartition(partition);
+                }
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String sql = String.format(Locale.ROOT,
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1));
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException ex) {
+            // Typically rows for that month already sit in the default partition.
+            LOGGER.warn("Unable to create partition {}: {}", partitionName(month), ex.getMessage());
+        }
+    }
+
+    private void archivePartition(String partition) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DELETE FROM " + ID_REGISTRY_TABLE + " WHERE id IN (SELECT id FROM " + partition
+                        + ")");
+                jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+            });
+            LOGGER.info("Contact message partition {} moved to schema {}", partition, archiveSchema);
+        } catch (DataAccessException | TransactionException ex) {
+            LOGGER.warn("Unable to archive partition {}: {}", partition, ex.getMessage());
+        }
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+            if (!postgres) {
+                LOGGER.info("Contact message partitioning requires PostgreSQL, maintenance disabled");
+            }
+        }
+        return postgres;
+    }
+
+    /**
+     * @param month the month covered by the partition.
+     * @return the partition table name, e.g. {@code contact_message_p2025_01}.
+     */
+    static String partitionName(YearMonth month) {
+        return String.format(Locale.ROOT, "%s_p%04d_%02d", PARENT_TABLE, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * @param partition a partition table name.
+     * @return the month it covers, or {@code null} for the default partition or any other table.
+     */
+    static YearMonth parseMonth(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
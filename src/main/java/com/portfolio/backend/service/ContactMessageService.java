@@ -1,17 +1,24 @@
 package com.portfolio.backend.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.event.ContactMessageEvent;
+import com.portfolio.backend.repository.ContactMessageCriteria;
 import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.repository.CreatedAtRange;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -25,11 +32,21 @@ public class ContactMessageService {
 
     private final ContactMessageRepository contactMessageRepository;
     private final List<NotificationService> notificationServices;
+    private final ContactMessageSpool contactMessageSpool;
+    private final ContactSpamDetector contactSpamDetector;
+    private final ContactMessageArchive contactMessageArchive;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ContactMessageService(ContactMessageRepository contactMessageRepository,
-            List<NotificationService> notificationServices) {
+            List<NotificationService> notificationServices, ContactMessageSpool contactMessageSpool,
+            ContactSpamDetector contactSpamDetector, ContactMessageArchive contactMessageArchive,
+            ApplicationEventPublisher eventPublisher) {
         this.contactMessageRepository = contactMessageRepository;
         this.notificationServices = notificationServices != null ? notificationServices : List.of();
+        this.contactMessageSpool = contactMessageSpool;
+        this.contactSpamDetector = contactSpamDetector;
+        this.contactMessageArchive = contactMessageArchive;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -42,23 +59,30 @@ public class ContactMessageService {
     }
 
     /**
-     * Retrieves a contact message by its ID.
+     * Retrieves a contact message by its ID, falling back to the cold archive.
      *
      * @param id the ID of the message.
      * @return an Optional containing the message if found, or empty otherwise.
      */
     public Optional<ContactMessage> findMessageById(UUID id) {
-        return contactMessageRepository.findById(id);
+        return contactMessageRepository.findByIdInPartition(id).or(() -> contactMessageArchive.findById(id));
     }
 
     /**
-     * Retrieves contact messages sent by a specific email.
+     * Retrieves contact messages sent by a specific email, including archived ones.
      *
      * @param email the sender's email.
      * @return a list of contact messages from the specified email.
      */
     public List<ContactMessage> findMessagesByEmail(String email) {
-        return contactMessageRepository.findByEmail(email);
+        List<ContactMessage> messages = contactMessageRepository.findByEmail(email);
+        List<ContactMessage> archived = contactMessageArchive.findByEmail(email);
+        if (archived.isEmpty()) {
+            return messages;
+        }
+        List<ContactMessage> all = new ArrayList<>(messages);
+        all.addAll(archived);
+        return all;
     }
 
     /**
@@ -72,12 +96,21 @@ public class ContactMessageService {
     }
 
     /**
-     * Retrieves all unread messages.
+     * Retrieves all unread messages, excluding suspected spam and archived messages.
      *
      * @return a list of unread contact messages.
      */
     public List<ContactMessage> findUnreadMessages() {
-        return contactMessageRepository.findByReadFalse();
+        return contactMessageRepository.findByReadFalseAndSpamFalseAndArchivedFalse();
+    }
+
+    /**
+     * Retrieves the messages stored as suspected spam.
+     *
+     * @return a list of spam contact messages.
+     */
+    public List<ContactMessage> findSpamMessages() {
+        return contactMessageRepository.findBySpam(true);
     }
 
     /**
@@ -92,18 +125,67 @@ public class ContactMessageService {
     }
 
     /**
-     * Saves a new or updated contact message.
+     * Saves a new or updated contact message. New messages go through spam
+     * detection first. If the database is unavailable and the spool is enabled,
+     * the message is written to the local journal and replayed later; a message
+     * the database rejects is never spooled.
      *
      * @param message the contact message to save.
      * @return the saved contact message.
      */
-    @Transactional
     public ContactMessage saveMessage(ContactMessage message) {
-        ContactMessage saved = contactMessageRepository.save(message);
-        notifyChannels(saved);
+        boolean created = message.getId() == null;
+        if (created && contactSpamDetector.evaluate(message)) {
+            message.setSpam(true);
+        }
+        ContactMessage saved;
+        try {
+            saved = contactMessageRepository.save(message);
+        } catch (DataAccessException | TransactionException ex) {
+            if (!contactMessageSpool.isEnabled() || !ContactMessageSpool.isUnavailable(ex)) {
+                throw ex;
+            }
+            LOGGER.warn("Database unavailable, spooling contact message: {}", ex.getMessage());
+            contactMessageSpool.append(message);
+            saved = message;
+        }
+        if (created) {
+            eventPublisher.publishEvent(ContactMessageEvent.created(saved));
+        }
+        if (!saved.isSpam()) {
+            notifyChannels(saved);
+        }
         return saved;
     }
 
+    /**
+     * Persists a batch of already validated messages in one JDBC batch and
+     * notifies the channels for each legitimate message once the batch is
+     * committed or spooled.
+     *
+     * @param messages the messages to save; each must carry its id and creation date.
+     * @return the saved messages.
+     */
+    public List<ContactMessage> saveMessages(List<ContactMessage> messages) {
+        for (ContactMessage message : messages) {
+            if (contactSpamDetector.evaluate(message)) {
+                message.setSpam(true);
+            }
+        }
+        try {
+            contactMessageRepository.batchInsert(messages);
+        } catch (DataAccessException | TransactionException ex) {
+            if (!contactMessageSpool.isEnabled() || !ContactMessageSpool.isUnavailable(ex)) {
+                throw ex;
+            }
+            LOGGER.warn("Database unavailable, spooling {} contact messages: {}", messages.size(), ex.getMessage());
+            messages.forEach(contactMessageSpool::append);
+        }
+        messages.forEach(message -> eventPublisher.publishEvent(ContactMessageEvent.created(message)));
+        messages.stream().filter(message -> !message.isSpam()).forEach(this::notifyChannels);
+        return messages;
+    }
+
     /**
      * Deletes a contact message by its ID.
      *
@@ -111,14 +193,108 @@ public class ContactMessageService {
      */
     @Transactional
     public void deleteMessageById(UUID id) {
-        contactMessageRepository.deleteById(id);
+        contactMessageRepository.findByIdInPartition(id).ifPresent(message -> {
+            contactMessageRepository.deleteByIdAndCreatedAt(id, message.getCreatedAt());
+            eventPublisher.publishEvent(ContactMessageEvent.of(ContactMessageEvent.Type.DELETED, id,
+                    ContactMessageEvent.Previous.of(message)));
+        });
     }
 
+    /**
+     * Marks a message as read. Inbox messages, the common case, take a single
+     * UPDATE; spam and archived ones a second.
+     *
+     * @param id the ID of the message.
+     */
     public void markAsRead(UUID id) {
-        ContactMessage msg = contactMessageRepository.findById(id)
+        Optional<Boolean> inbox = markAsRead(id, CreatedAtRange.of(id));
+        if (inbox.isEmpty()) {
+            // Already read, missing, or stored before its id carried its creation date.
+            ContactMessage message = contactMessageRepository.findByIdInPartition(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Message not found"));
+            if (message.isRead()) {
+                return;
+            }
+            inbox = markAsRead(id, CreatedAtRange.at(message.getCreatedAt()));
+            if (inbox.isEmpty()) {
+                return;
+            }
+        }
+        eventPublisher.publishEvent(ContactMessageEvent.read(id, inbox.get()));
+    }
+
+    /**
+     * Sets the read flag of all matching messages in one statement.
+     *
+     * @param criteria the messages to update.
+     * @param read     the new read flag.
+     * @return the number of messages whose flag changed.
+     */
+    public int bulkMarkRead(ContactMessageCriteria criteria, boolean read) {
+        int affected = contactMessageRepository.bulkUpdateRead(criteria, read);
+        publishBulk(read ? ContactMessageEvent.Type.READ : ContactMessageEvent.Type.UNREAD, affected);
+        return affected;
+    }
+
+    /**
+     * Archives all matching messages in one statement.
+     *
+     * @param criteria the messages to archive.
+     * @return the number of archived messages.
+     */
+    public int bulkArchive(ContactMessageCriteria criteria) {
+        int affected = contactMessageRepository.bulkArchive(criteria);
+        publishBulk(ContactMessageEvent.Type.ARCHIVED, affected);
+        return affected;
+    }
+
+    /**
+     * Deletes all matching messages in one statement.
+     *
+     * @param criteria the messages to delete.
+     * @return the number of deleted messages.
+     */
+    public int bulkDelete(ContactMessageCriteria criteria) {
+        int affected = contactMessageRepository.bulkDelete(criteria);
+        publishBulk(ContactMessageEvent.Type.DELETED, affected);
+        return affected;
+    }
+
+    /**
+     * Records the admin's review of a message and trains the spam detector with it.
+     * The message is marked as read.
+     *
+     * @param id   the ID of the message.
+     * @param spam whether the message is spam.
+     */
+    public void flagSpam(UUID id, boolean spam) {
+        ContactMessage msg = contactMessageRepository.findByIdInPartition(id)
                 .orElseThrow(() -> new EntityNotFoundException("Message not found"));
+        ContactMessageEvent.Previous previous = ContactMessageEvent.Previous.of(msg);
+        contactMessageRepository.markReviewed(id, msg.getCreatedAt(), spam);
+        msg.setSpam(spam);
         msg.setRead(true);
-        contactMessageRepository.save(msg);
+        contactSpamDetector.train(msg, spam);
+        eventPublisher.publishEvent(ContactMessageEvent.of(
+                spam ? ContactMessageEvent.Type.SPAM : ContactMessageEvent.Type.NOT_SPAM, id, previous));
+    }
+
+    /**
+     * @return whether the message counted as unread in the inbox, or empty if
+     *         no unread message with this id was found in the range.
+     */
+    private Optional<Boolean> markAsRead(UUID id, CreatedAtRange range) {
+        if (contactMessageRepository.markInboxMessageAsRead(id, range.from(), range.to()) == 1) {
+            return Optional.of(true);
+        }
+        return contactMessageRepository.markAsRead(id, range.from(), range.to()) == 1 ? Optional.of(false)
+                : Optional.empty();
+    }
+
+    private void publishBulk(ContactMessageEvent.Type type, int affected) {
+        if (affected > 0) {
+            eventPublisher.publishEvent(ContactMessageEvent.bulk(type, affected));
+        }
     }
 
     private void notifyChannels(ContactMessage message) {
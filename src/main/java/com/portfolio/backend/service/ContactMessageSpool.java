@@ -0,0 +1,349 @@
+package com.portfolio.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.UuidV7Generator;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Local write-ahead journal for contact messages accepted while the database
+ * is unavailable.
+ * <p>
+ * Each message is appended as a length-prefixed, CRC-checked record and the
+ * file is fsync'd before the request is acknowledged. A scheduled task rotates
+ * the journal and replays it into {@code contact_message} in append order,
+ * skipping ids that are already stored, so a replay interrupted by another
+ * outage can safely be retried. Records the database rejects (a constraint
+ * violation, a value too long) are moved to a {@code .dead} file next to the
+ * journal instead of blocking the ones spooled after them. Journals are read
+ * record by record, one replay chunk at a time.
+ * </p>
+ */
+@Service
+public class ContactMessageSpool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactMessageSpool.class);
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int REPLAY_CHUNK_SIZE = 100;
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final boolean enabled;
+    private final Path journal;
+    private final Path replayJournal;
+    private final Path deadLetters;
+    private final Object appendLock = new Object();
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    public ContactMessageSpool(ContactMessageRepository contactMessageRepository,
+            @Value("${contact.spool.enabled:false}") boolean enabled,
+            @Value("${contact.spool.path:data/contact-spool.journal}") String path) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.enabled = enabled;
+        this.journal = Paths.get(path).toAbsolutePath().normalize();
+        this.replayJournal = journal.resolveSibling(journal.getFileName() + ".replay");
+        this.deadLetters = journal.resolveSibling(journal.getFileName() + ".dead");
+    }
+
+    /**
+     * Tells an unreachable database, worth spooling and retrying, from a
+     * record the database rejects, which would fail again on every retry.
+     *
+     * @param ex the failure of a write.
+     * @return whether the database was unavailable.
+     */
+    static boolean isUnavailable(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException || ex instanceof DataAccessResourceFailureException
+                || ex instanceof CannotCreateTransactionException;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Durably appends a message to the journal, assigning its id and creation
+     * date if needed.
+     *
+     * @param message the accepted message.
+     * @throws UncheckedIOException if the record could not be written and synced.
+     */
+    public void append(ContactMessage message) {
+        if (message.getId() == null) {
+            message.setId(UuidV7Generator.nextUuid());
+        }
+        if (message.getCreatedAt() == null) {
+            message.setCreatedAt(LocalDateTime.now());
+        }
+        ByteBuffer record = encode(message);
+        synchronized (appendLock) {
+            try {
+                FileChannel target = openChannel();
+                while (record.hasRemaining()) {
+                    target.write(record);
+                }
+                target.force(true);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Unable to spool contact message", ex);
+            }
+        }
+    }
+
+    /**
+     * Replays spooled messages into the database. Runs periodically and stops
+     * while the database is unavailable, keeping the remaining records for the
+     * next run.
+     */
+    @Workload(WorkloadType.BACKGROUND)
+    @Scheduled(fixedDelayString = "${contact.spool.replay-interval-ms:30000}")
+    public void replay() {
+        if (!enabled || !replayLock.tryLock()) {
+            return;
+        }
+        try {
+            while (Files.exists(replayJournal) || rotate()) {
+                if (!replayFile()) {
+                    return;
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Unable to replay contact message spool: {}", ex.getMessage());
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(journal.getParent());
+            channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private boolean rotate() throws IOException {
+        synchronized (appendLock) {
+            if (!Files.exists(journal) || Files.size(journal) == 0) {
+                return false;
+            }
+            close();
+            Files.move(journal, replayJournal, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }
+    }
+
+    private boolean replayFile() throws IOException {
+        Set<UUID> rejected = new HashSet<>();
+        if (Files.exists(deadLetters)) {
+            try (RecordReader reader = new RecordReader(deadLetters)) {
+                for (ContactMessage message = reader.next(); message != null; message = reader.next()) {
+                    rejected.add(message.getId());
+                }
+            }
+        }
+        int read = 0;
+        int inserted = 0;
+        int deadLettered = 0;
+        try (RecordReader reader = new RecordReader(replayJournal)) {
+            List<ContactMessage> chunk = new ArrayList<>(REPLAY_CHUNK_SIZE);
+            for (ContactMessage message = reader.next(); message != null || !chunk.isEmpty();
+                    message = reader.next()) {
+                if (message != null) {
+                    chunk.add(message);
+                    read++;
+                    if (chunk.size() < REPLAY_CHUNK_SIZE) {
+                        continue;
+                    }
+                }
+                Set<UUID> existing = new HashSet<>(contactMessageRepository.findExistingIds(
+                        chunk.stream().map(ContactMessage::getId).toList()));
+                List<ContactMessage> missing = chunk.stream()
+                        .filter(candidate -> !existing.contains(candidate.getId())
+                                && !rejected.contains(candidate.getId()))
+                        .toList();
+                chunk.clear();
+                try {
+                    contactMessageRepository.batchInsert(missing);
+                    inserted += missing.size();
+                } catch (RuntimeException ex) {
+                    if (isUnavailable(ex)) {
+                        throw ex;
+                    }
+                    // One rejected record fails the whole batch: retry them one by one.
+                    for (ContactMessage candidate : missing) {
+                        if (insert(candidate)) {
+                            inserted++;
+                        } else {
+                            deadLettered++;
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Contact message spool replay postponed, database still unavailable: {}", ex.getMessage());
+            return false;
+        }
+        Files.delete(replayJournal);
+        LOGGER.info("Replayed {} spooled contact messages ({} skipped, {} rejected)", inserted,
+                read - inserted - deadLettered, deadLettered);
+        return true;
+    }
+
+    private boolean insert(ContactMessage message) throws IOException {
+        try {
+            contactMessageRepository.batchInsert(List.of(message));
+            return true;
+        } catch (RuntimeException ex) {
+            if (isUnavailable(ex)) {
+                throw ex;
+            }
+            LOGGER.error("Spooled contact message {} rejected by the database, moved to {}: {}", message.getId(),
+                    deadLetters, ex.getMessage());
+            try (FileChannel target = FileChannel.open(deadLetters, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer record = encode(message);
+                while (record.hasRemaining()) {
+                    target.write(record);
+                }
+                target.force(true);
+            }
+            return false;
+        }
+    }
+
+    List<ContactMessage> read(Path file) throws IOException {
+        List<ContactMessage> messages = new ArrayList<>();
+        try (RecordReader reader = new RecordReader(file)) {
+            for (ContactMessage message = reader.next(); message != null; message = reader.next()) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    private ByteBuffer encode(ContactMessage message) {
+        ByteBuffer payload = ContactMessageCodec.encode(message);
+        int length = payload.remaining();
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + length);
+        record.putInt(length);
+        record.putInt(checksum(payload.duplicate()));
+        record.put(payload);
+        record.flip();
+        return record;
+    }
+
+    private int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads the records of a journal one at a time, so a replay holds one
+     * chunk of messages rather than the whole file. Stops at the first
+     * truncated or corrupted record: a torn write can only be the last one.
+     */
+    private final class RecordReader implements Closeable {
+
+        private final Path file;
+        private final FileChannel source;
+        private final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        private boolean ended;
+
+        RecordReader(Path file) throws IOException {
+            this.file = file;
+            this.source = FileChannel.open(file, StandardOpenOption.READ);
+        }
+
+        /**
+         * @return the next message, or {@code null} at the end of the journal.
+         */
+        ContactMessage next() throws IOException {
+            ContactMessage message = ended ? null : read();
+            ended = message == null;
+            return message;
+        }
+
+        private ContactMessage read() throws IOException {
+            header.clear();
+            if (!readFully(header)) {
+                if (header.position() > 0) {
+                    LOGGER.warn("Ignoring truncated record at the end of {}", file);
+                }
+                return null;
+            }
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < 0 || length > source.size() - source.position()) {
+                LOGGER.warn("Ignoring truncated record at the end of {}", file);
+                return null;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload);
+            payload.flip();
+            if (checksum(payload.duplicate()) != checksum) {
+                LOGGER.warn("Ignoring corrupted record at the end of {}", file);
+                return null;
+            }
+            return ContactMessageCodec.decode(payload);
+        }
+
+        private boolean readFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+}
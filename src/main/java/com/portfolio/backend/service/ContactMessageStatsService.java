@@ -0,0 +1,209 @@
+package com.portfolio.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.portfolio.backend.dto.ContactMessageStatsResponse;
+import com.portfolio.backend.dto.DailyMessageCount;
+import com.portfolio.backend.entity.ContactMessageDailyStats;
+import com.portfolio.backend.event.ContactMessageEvent;
+import com.portfolio.backend.repository.ContactMessageDailyStatsRepository;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.workload.Workload;
+import com.portfolio.backend.workload.WorkloadType;
+
+/**
+ * Inbox counters for the admin dashboard.
+ * <p>
+ * Counters live in memory and are updated from {@link ContactMessageEvent}s,
+ * so reading them never touches the database. Single-message changes are
+ * applied incrementally from the state the message had before; bulk updates,
+ * whose effect on the counters is unknown, mark them stale until a background
+ * reconciliation against the table. The same reconciliation runs at startup
+ * and periodically, and stores the per-day counts in
+ * {@code contact_message_daily_stats}.
+ * </p>
+ */
+@Service
+public class ContactMessageStatsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactMessageStatsService.class);
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final ContactMessageDailyStatsRepository dailyStatsRepository;
+    private final int windowDays;
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong unread = new AtomicLong();
+    private final AtomicLong spam = new AtomicLong();
+    private final Map<LocalDate, DailyCounter> daily = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public ContactMessageStatsService(ContactMessageRepository contactMessageRepository,
+            ContactMessageDailyStatsRepository dailyStatsRepository,
+            @Value("${contact.stats.window-days:90}") int windowDays) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.windowDays = windowDays;
+    }
+
+    @Workload(WorkloadType.BACKGROUND) // reconcile() is called on this instance, not through the proxy.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @param days the number of days to include in the per-day series, capped to the configured window.
+     * @return the dashboard statistics.
+     */
+    public ContactMessageStatsResponse getStats(int days) {
+        LocalDate today = LocalDate.now();
+        int span = Math.max(1, Math.min(days, windowDays));
+        List<DailyMessageCount> perDay = new ArrayList<>(span);
+        for (LocalDate day = today.minusDays(span - 1L); !day.isAfter(today); day = day.plusDays(1)) {
+            DailyCounter counter = daily.get(day);
+            perDay.add(counter != null
+                    ? new DailyMessageCount(day, counter.received.get(), counter.spam.get())
+                    : new DailyMessageCount(day, 0L, 0L));
+        }
+        DailyCounter todayCounter = daily.get(today);
+        return new ContactMessageStatsResponse(total.get(), unread.get(), spam.get(),
+                todayCounter != null ? todayCounter.received.get() : 0, perDay);
+    }
+
+    /**
+     * Applies an inbox change to the counters once it is committed. Single
+     * changes adjust them from the previous state carried by the event; bulk
+     * changes, whose effect is unknown, leave them to the next
+     * {@link #reconcileIfStale()}.
+     *
+     * @param event the inbox change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactMessageEvent(ContactMessageEvent event) {
+        if (event.type() == ContactMessageEvent.Type.CREATED) {
+            boolean isSpam = event.message().isSpam();
+            total.incrementAndGet();
+            (isSpam ? spam : unread).incrementAndGet();
+            DailyCounter counter = daily.computeIfAbsent(event.message().getCreatedAt().toLocalDate(),
+                    day -> new DailyCounter(0, 0));
+            counter.received.incrementAndGet();
+            if (isSpam) {
+                counter.spam.incrementAndGet();
+            }
+            return;
+        }
+        ContactMessageEvent.Previous previous = event.previous();
+        if (previous == null) {
+            stale.set(true);
+            return;
+        }
+        // Every single-message change takes the message out of the unread inbox: deleted or left read.
+        if (previous.unread()) {
+            unread.decrementAndGet();
+        }
+        switch (event.type()) {
+            case DELETED -> {
+                total.decrementAndGet();
+                adjustDaily(previous, -1, previous.spam() ? -1 : 0);
+                if (previous.spam()) {
+                    spam.decrementAndGet();
+                }
+            }
+            case SPAM -> {
+                if (!previous.spam()) {
+                    spam.incrementAndGet();
+                    adjustDaily(previous, 0, 1);
+                }
+            }
+            case NOT_SPAM -> {
+                if (previous.spam()) {
+                    spam.decrementAndGet();
+                    adjustDaily(previous, 0, -1);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Reconciles the counters shortly after a bulk change.
+     */
+    @Workload(WorkloadType.BACKGROUND)
+    @Scheduled(fixedDelayString = "${contact.stats.stale-check-interval-ms:5000}")
+    public void reconcileIfStale() {
+        if (stale.compareAndSet(true, false)) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Recomputes the counters from the table and refreshes the daily rollup rows.
+     */
+    @Workload(WorkloadType.BACKGROUND)
+    @Scheduled(initialDelayString = "${contact.stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${contact.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        LocalDate from = LocalDate.now().minusDays(windowDays - 1L);
+        try {
+            long totalCount = contactMessageRepository.count();
+            long unreadCount = contactMessageRepository.countByReadFalseAndSpamFalseAndArchivedFalse();
+            long spamCount = contactMessageRepository.countBySpamTrue();
+            Map<LocalDate, DailyMessageCount> perDay = contactMessageRepository
+                    .countPerDaySince(from.atStartOfDay()).stream()
+                    .collect(Collectors.toMap(DailyMessageCount::getDay, Function.identity()));
+
+            total.set(totalCount);
+            unread.set(unreadCount);
+            spam.set(spamCount);
+            daily.keySet().removeIf(day -> day.isBefore(from) || !perDay.containsKey(day));
+            perDay.values().forEach(count -> daily.put(count.getDay(),
+                    new DailyCounter(count.getReceived(), count.getSpam())));
+
+            dailyStatsRepository.saveAll(perDay.values().stream()
+                    .map(count -> new ContactMessageDailyStats(count.getDay(), count.getReceived(), count.getSpam()))
+                    .toList());
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Unable to reconcile contact message statistics: {}", ex.getMessage());
+        }
+    }
+
+    private void adjustDaily(ContactMessageEvent.Previous previous, long received, long spamDelta) {
+        DailyCounter counter = previous.createdAt() != null ? daily.get(previous.createdAt().toLocalDate()) : null;
+        if (counter != null) {
+            counter.received.addAndGet(received);
+            counter.spam.addAndGet(spamDelta);
+        }
+    }
+
+    private static final class DailyCounter {
+
+        private final AtomicLong received;
+        private final AtomicLong spam;
+
+        private DailyCounter(long received, long spam) {
+            this.received = new AtomicLong(received);
+            this.spam = new AtomicLong(spam);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.portfolio.backend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageRepository;
+
+/**
+ * In-process spam detection for incoming contact messages.
+ * <p>
+ * Two signals are combined into a score between 0 and 1:
+ * <ul>
+ * <li>a 64-bit SimHash of {@code subject + message}, compared by Hamming
+ * distance with a bounded ring of recent fingerprints to catch bots that
+ * resubmit near-identical text;</li>
+ * <li>a naive Bayes token classifier trained on the messages the admin has
+ * flagged as spam or not spam.</li>
+ * </ul>
+ * Messages scoring at or above {@code contact.spam.threshold} are stored as
+ * suspected spam and do not trigger notifications.
+ * </p>
+ */
+@Service
+public class ContactSpamDetector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactSpamDetector.class);
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MIN_FINGERPRINT_TOKENS = 4;
+    private static final int MIN_TRAINING_MESSAGES = 5;
+    private static final int MAX_VOCABULARY = 50_000;
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final boolean enabled;
+    private final double threshold;
+    private final int maxDistance;
+    private final int maxNearDuplicates;
+    private final int bootstrapSize;
+
+    private final long[] recentFingerprints;
+    private int recentCount;
+    private int nextSlot;
+
+    private final Map<String, Integer> spamTokens = new HashMap<>();
+    private final Map<String, Integer> hamTokens = new HashMap<>();
+    private int spamMessages;
+    private int hamMessages;
+    private long spamTokenTotal;
+    private long hamTokenTotal;
+
+    public ContactSpamDetector(ContactMessageRepository contactMessageRepository,
+            @Value("${contact.spam.enabled:false}") boolean enabled,
+            @Value("${contact.spam.threshold:0.9}") double threshold,
+            @Value("${contact.spam.fingerprint-window:1000}") int fingerprintWindow,
+            @Value("${contact.spam.max-distance:3}") int maxDistance,
+            @Value("${contact.spam.max-near-duplicates:2}") int maxNearDuplicates,
+            @Value("${contact.spam.bootstrap-size:500}") int bootstrapSize) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.maxDistance = maxDistance;
+        this.maxNearDuplicates = Math.max(1, maxNearDuplicates);
+        this.bootstrapSize = bootstrapSize;
+        this.recentFingerprints = new long[Math.max(1, fingerprintWindow)];
+    }
+
+    /**
+     * Trains the classifier with the messages already reviewed by the admin.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled || bootstrapSize <= 0) {
+            return;
+        }
+        PageRequest latest = PageRequest.of(0, bootstrapSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        try {
+            List<ContactMessage> spam = contactMessageRepository.findBySpamAndReadTrue(true, latest);
+            List<ContactMessage> ham = contactMessageRepository.findBySpamAndReadTrue(false, latest);
+            spam.forEach(message -> train(message, true));
+            ham.forEach(message -> train(message, false));
+            LOGGER.info("Spam classifier trained with {} spam and {} legitimate messages", spam.size(), ham.size());
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Unable to train spam classifier: {}", ex.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Scores a new message and records its fingerprint.
+     *
+     * @param message the incoming message.
+     * @return {@code true} if the message should be stored as suspected spam.
+     */
+    public boolean evaluate(ContactMessage message) {
+        if (!enabled) {
+            return false;
+        }
+        List<String> tokens = tokenize(message);
+        double score;
+        synchronized (this) {
+            score = Math.max(duplicateScore(tokens), classify(tokens));
+        }
+        boolean spam = score >= threshold;
+        if (spam) {
+            LOGGER.info("Contact message from {} flagged as suspected spam (score {})", message.getEmail(),
+                    String.format(Locale.ROOT, "%.2f", score));
+        }
+        return spam;
+    }
+
+    /**
+     * Adds a message reviewed by the admin to the classifier.
+     *
+     * @param message the reviewed message.
+     * @param spam    whether the admin flagged it as spam.
+     */
+    public void train(ContactMessage message, boolean spam) {
+        if (!enabled) {
+            return;
+        }
+        Set<String> distinct = new HashSet<>(tokenize(message));
+        synchronized (this) {
+            Map<String, Integer> counts = spam ? spamTokens : hamTokens;
+            for (String token : distinct) {
+                if (counts.containsKey(token) || vocabularySize() < MAX_VOCABULARY) {
+                    counts.merge(token, 1, Integer::sum);
+                }
+            }
+            if (spam) {
+                spamMessages++;
+                spamTokenTotal += distinct.size();
+            } else {
+                hamMessages++;
+                hamTokenTotal += distinct.size();
+            }
+        }
+    }
+
+    private double duplicateScore(List<String> tokens) {
+        if (tokens.size() < MIN_FINGERPRINT_TOKENS) {
+            return 0;
+        }
+        long fingerprint = fingerprint(tokens);
+        int nearDuplicates = 0;
+        for (int i = 0; i < recentCount; i++) {
+            if (Long.bitCount(recentFingerprints[i] ^ fingerprint) <= maxDistance) {
+                nearDuplicates++;
+            }
+        }
+        recentFingerprints[nextSlot] = fingerprint;
+        nextSlot = (nextSlot + 1) % recentFingerprints.length;
+        recentCount = Math.min(recentCount + 1, recentFingerprints.length);
+        return Math.min(1.0, (double) nearDuplicates / maxNearDuplicates);
+    }
+
+    private double classify(List<String> tokens) {
+        if (spamMessages < MIN_TRAINING_MESSAGES || hamMessages < MIN_TRAINING_MESSAGES) {
+            return 0;
+        }
+        double vocabulary = vocabularySize();
+        double spamLog = Math.log((double) spamMessages / (spamMessages + hamMessages));
+        double hamLog = Math.log((double) hamMessages / (spamMessages + hamMessages));
+        for (String token : new HashSet<>(tokens)) {
+            spamLog += Math.log((spamTokens.getOrDefault(token, 0) + 1) / (spamTokenTotal + vocabulary));
+            hamLog += Math.log((hamTokens.getOrDefault(token, 0) + 1) / (hamTokenTotal + vocabulary));
+        }
+        return 1.0 / (1.0 + Math.exp(hamLog - spamLog));
+    }
+
+    private int vocabularySize() {
+        return spamTokens.size() + hamTokens.size();
+    }
+
+    static List<String> tokenize(ContactMessage message) {
+        String text = (message.getSubject() != null ? message.getSubject() : "") + " "
+                + (message.getMessage() != null ? message.getMessage() : "");
+        String normalized = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Computes the 64-bit SimHash of a token list, each token weighted by its
+     * frequency.
+     */
+    static long fingerprint(List<String> tokens) {
+        int[] weights = new int[Long.SIZE];
+        for (String token : tokens) {
+            long hash = hash(token);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    private static long hash(String token) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // FNV-1a alone mixes the high bits poorly for short tokens.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
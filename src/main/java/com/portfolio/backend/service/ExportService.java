@@ -0,0 +1,248 @@
+package com.portfolio.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.repository.ReadOnlyEntityStreamer;
+import com.portfolio.backend.workload.WorkloadContext;
+import com.portfolio.backend.workload.WorkloadType;
+
+/**
+ * Streaming exports and list responses.
+ * <p>
+ * Rows are read through {@link ReadOnlyEntityStreamer} and written one at a
+ * time as NDJSON, CSV or a JSON array, optionally gzip-compressed on the fly,
+ * so memory usage does not depend on the number of rows.
+ * </p>
+ */
+@Service
+public class ExportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExportService.class);
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final String MESSAGES_QUERY = "SELECT cm FROM ContactMessage cm ORDER BY cm.createdAt";
+    private static final String PROJECTS_QUERY = "SELECT p FROM Project p ORDER BY p.createdAt";
+
+    private static final List<Column<ContactMessage>> MESSAGE_COLUMNS = List.of(
+            new Column<>("id", ContactMessage::getId),
+            new Column<>("createdAt", ContactMessage::getCreatedAt),
+            new Column<>("name", ContactMessage::getName),
+            new Column<>("email", ContactMessage::getEmail),
+            new Column<>("phone", ContactMessage::getPhone),
+            new Column<>("subject", ContactMessage::getSubject),
+            new Column<>("message", ContactMessage::getMessage),
+            new Column<>("read", ContactMessage::isRead),
+            new Column<>("spam", ContactMessage::isSpam),
+            new Column<>("archived", ContactMessage::isArchived));
+
+    private static final List<Column<Project>> PROJECT_COLUMNS = List.of(
+            new Column<>("id", Project::getId),
+            new Column<>("createdAt", Project::getCreatedAt),
+            new Column<>("updatedAt", Project::getUpdatedAt),
+            new Column<>("title", Project::getTitle),
+            new Column<>("summary", Project::getSummary),
+            new Column<>("status", Project::getStatus),
+            new Column<>("client", Project::getClient),
+            new Column<>("role", Project::getRole),
+            new Column<>("duration", Project::getDuration),
+            new Column<>("tags", project -> String.join("|", project.getTags())),
+            new Column<>("stack", project -> String.join("|", project.getStack())),
+            new Column<>("repoUrl", Project::getRepoUrl),
+            new Column<>("liveUrl", Project::getLiveUrl));
+
+    private final ReadOnlyEntityStreamer entityStreamer;
+    private final ObjectWriter jsonWriter;
+
+    public ExportService(ReadOnlyEntityStreamer entityStreamer, ObjectMapper objectMapper) {
+        this.entityStreamer = entityStreamer;
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Supported export formats.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @param value the {@code format} request parameter.
+         * @return the matching format, or {@code null} if unsupported.
+         */
+        public static Format fromParameter(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * @param format the output format.
+     * @param gzip   whether to gzip the body.
+     * @return a body writing every contact message, oldest first.
+     */
+    public StreamingResponseBody exportMessages(Format format, boolean gzip) {
+        return export(MESSAGES_QUERY, ContactMessage.class, MESSAGE_COLUMNS, format, gzip);
+    }
+
+    /**
+     * @param format the output format.
+     * @param gzip   whether to gzip the body.
+     * @return a body writing every project, oldest first.
+     */
+    public StreamingResponseBody exportProjects(Format format, boolean gzip) {
+        return export(PROJECTS_QUERY, Project.class, PROJECT_COLUMNS, format, gzip);
+    }
+
+    /**
+     * Streams every entity of the given type as a JSON array, the same
+     * document a {@code List<T>} response body would produce.
+     *
+     * @param type the entity type.
+     * @param <T>  the entity type.
+     * @return a body writing the array row by row.
+     */
+    public <T> StreamingResponseBody jsonArray(Class<T> type) {
+        return jsonArray("SELECT e FROM " + type.getSimpleName() + " e", type);
+    }
+
+    /**
+     * Streams the result of a query as a JSON array, typically a constructor
+     * expression selecting read-only DTOs.
+     *
+     * @param jpql the query, including its {@code ORDER BY}.
+     * @param type the row type.
+     * @param <T>  the row type.
+     * @return a body writing the array row by row.
+     */
+    public <T> StreamingResponseBody jsonArray(String jpql, Class<T> type) {
+        return inCallerWorkload(outputStream -> {
+            JsonGenerator generator = jsonWriter.createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            entityStreamer.forEach(jpql, type, row -> jsonWriter.writeValue(generator, row));
+            generator.writeEndArray();
+            generator.close();
+        });
+    }
+
+    private <T> StreamingResponseBody export(String jpql, Class<T> type, List<Column<T>> columns, Format format,
+            boolean gzip) {
+        return inCallerWorkload(outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            long rows = format == Format.CSV
+                    ? writeCsv(jpql, type, columns, target)
+                    : writeNdjson(jpql, type, target);
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            target.flush();
+            LOGGER.info("Exported {} {} rows as {}", rows, type.getSimpleName(), format.getExtension());
+        });
+    }
+
+    /**
+     * Bodies are written on an async request thread: keep the connection pool
+     * of the request that created them.
+     */
+    private static StreamingResponseBody inCallerWorkload(StreamingResponseBody body) {
+        WorkloadType workload = WorkloadContext.current();
+        return outputStream -> WorkloadContext.call(workload, () -> {
+            body.writeTo(outputStream);
+            return null;
+        });
+    }
+
+    private <T> long writeNdjson(String jpql, Class<T> type, OutputStream target) throws IOException {
+        JsonGenerator generator = jsonWriter.createGenerator(target);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long rows = entityStreamer.forEach(jpql, type, row -> {
+            jsonWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        });
+        generator.close();
+        return rows;
+    }
+
+    private <T> long writeCsv(String jpql, Class<T> type, List<Column<T>> columns, OutputStream target)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writeCsvLine(writer, columns.stream().map(Column::header).toList());
+        long rows = entityStreamer.forEach(jpql, type, row -> writeCsvLine(writer,
+                columns.stream().map(column -> column.value().apply(row)).toList()));
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * @param acceptEncoding the {@code Accept-Encoding} request header.
+     * @return whether the client accepts a gzip-compressed body.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private record Column<T>(String header, Function<T, Object> value) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.portfolio.backend.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.portfolio.backend.entity.IdempotencyRecord;
+import com.portfolio.backend.exception.IdempotencyConflictException;
+import com.portfolio.backend.repository.IdempotencyRecordRepository;
+
+import jakarta.servlet.ServletException;
+
+/**
+ * Executes write requests at most once per idempotency key.
+ * <p>
+ * Completed responses are kept in a bounded in-memory LRU cache and in the
+ * {@code idempotency_record} table, so a retry hitting another node is still
+ * answered with the original response. Concurrent duplicates are serialized
+ * on a lock dedicated to their key; unrelated keys never wait on each other.
+ * The lock is counted by the requests holding or awaiting it and dropped with
+ * the last one.
+ * </p>
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+    private final Map<String, StoredResponse> cache;
+    private final ConcurrentMap<String, KeyLock> locks = new ConcurrentHashMap<>();
+    private final AtomicReference<LocalDateTime> lastPurge = new AtomicReference<>(LocalDateTime.MIN);
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+            @Value("${idempotency.cache-size:1000}") int cacheSize,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.pending-timeout:1m}") Duration pendingTimeout) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = ttl;
+        this.pendingTimeout = pendingTimeout;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Runs {@code handler} unless a response was already recorded for {@code key}.
+     *
+     * @param key     the scoped idempotency key.
+     * @param handler the request handler; returns the response to record, or
+     *                {@code null} when the outcome must not be replayed (e.g. an error).
+     * @return the recorded response to replay, or {@code null} if the handler ran.
+     * @throws IdempotencyConflictException if the key is still being processed elsewhere.
+     */
+    public StoredResponse execute(String key, Handler handler) throws IOException, ServletException {
+        KeyLock keyLock = locks.compute(key, (k, existing) -> (existing != null ? existing : new KeyLock()).acquire());
+        keyLock.lock.lock();
+        try {
+            StoredResponse replay = lookup(key);
+            if (replay != null) {
+                return replay;
+            }
+            reserve(key);
+            StoredResponse response;
+            try {
+                response = handler.handle();
+            } catch (IOException | ServletException | RuntimeException ex) {
+                release(key);
+                throw ex;
+            }
+            if (response == null) {
+                release(key);
+            } else {
+                record(key, response);
+            }
+            return null;
+        } finally {
+            keyLock.lock.unlock();
+            locks.computeIfPresent(key, (k, existing) -> existing.release() ? null : existing);
+        }
+    }
+
+    private StoredResponse lookup(String key) {
+        StoredResponse cached = cache.get(key);
+        if (cached != null && !isExpired(cached.createdAt())) {
+            return cached;
+        }
+        cache.remove(key);
+
+        Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findById(key);
+        if (stored.isEmpty()) {
+            return null;
+        }
+        IdempotencyRecord record = stored.get();
+        if (isExpired(record.getCreatedAt())
+                || (record.isPending() && record.getCreatedAt().isBefore(LocalDateTime.now().minus(pendingTimeout)))) {
+            idempotencyRecordRepository.deleteById(key);
+            return null;
+        }
+        if (record.isPending()) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is already in progress");
+        }
+        StoredResponse response = new StoredResponse(record.getStatus(), record.getContentType(),
+                record.getBody() != null ? record.getBody() : new byte[0],
+                record.getRequestDigest(), record.getCreatedAt());
+        cache.put(key, response);
+        return response;
+    }
+
+    private void reserve(String key) {
+        purgeExpired();
+        try {
+            idempotencyRecordRepository.insertPending(key, LocalDateTime.now());
+        } catch (DataIntegrityViolationException ex) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is already in progress");
+        }
+    }
+
+    private void record(String key, StoredResponse response) {
+        cache.put(key, response);
+        idempotencyRecordRepository.complete(key, response.status(), response.contentType(), response.body(),
+                response.requestDigest());
+    }
+
+    private void release(String key) {
+        try {
+            idempotencyRecordRepository.deleteById(key);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Unable to release idempotency key: {}", ex.getMessage());
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime previous = lastPurge.get();
+        if (previous.isAfter(now.minus(PURGE_INTERVAL)) || !lastPurge.compareAndSet(previous, now)) {
+            return;
+        }
+        int purged = idempotencyRecordRepository.deleteCreatedBefore(now.minus(ttl));
+        if (purged > 0) {
+            LOGGER.debug("Purged {} expired idempotency records", purged);
+        }
+    }
+
+    private boolean isExpired(LocalDateTime createdAt) {
+        return createdAt.isBefore(LocalDateTime.now().minus(ttl));
+    }
+
+    /**
+     * Lock of one key with the number of requests holding or awaiting it. The
+     * count only changes inside {@link ConcurrentMap#compute}, so a request
+     * cannot pick up a lock that is being removed.
+     */
+    private static final class KeyLock {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+
+        KeyLock acquire() {
+            users++;
+            return this;
+        }
+
+        /**
+         * @return whether this was the last user.
+         */
+        boolean release() {
+            return --users == 0;
+        }
+    }
+
+    /**
+     * Request handler executed under the key lock.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        StoredResponse handle() throws IOException, ServletException;
+    }
+
+    /**
+     * Response captured from the first execution of an idempotent request,
+     * with the SHA-256 of its request body ({@code null} for records stored
+     * before digests were kept).
+     */
+    public record StoredResponse(int status, String contentType, byte[] body, String requestDigest,
+            LocalDateTime createdAt) {
+    }
+}
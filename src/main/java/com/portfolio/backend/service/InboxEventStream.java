@@ -0,0 +1,269 @@
+package com.portfolio.backend.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.portfolio.backend.event.ContactMessageEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes inbox changes to connected admin clients over Server-Sent Events.
+ * <p>
+ * Committed {@link ContactMessageEvent}s get a sequence number and are kept in
+ * a bounded in-memory ring, so a client reconnecting with
+ * {@code Last-Event-ID} receives what it missed. If the requested id has
+ * already left the ring, the client receives a {@code reset} event and should
+ * reload the inbox.
+ * </p>
+ * <p>
+ * Connections are asynchronous and hold no thread while idle. Each client has
+ * a bounded queue, drained by a pooled thread only while it has events to
+ * send; a client whose queue overflows is disconnected and expected to resume
+ * from its last id. A write blocks while the client is not reading, so each
+ * one has a deadline, {@code inbox.stream.send-timeout}: past it the emitter
+ * is completed with an error, which closes the connection and releases the
+ * thread, and the other clients keep their own threads meanwhile.
+ * </p>
+ */
+@Service
+public class InboxEventStream {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InboxEventStream.class);
+    static final String RESET_EVENT = "reset";
+    private static final StreamEvent HEARTBEAT = new StreamEvent(0, null, null);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final int historySize;
+    private final int clientQueueCapacity;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final Executor dispatcher;
+    private final ScheduledExecutorService watchdog;
+    private final Deque<StreamEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long lastSequence;
+
+    @Autowired
+    public InboxEventStream(@Value("${inbox.stream.history-size:500}") int historySize,
+            @Value("${inbox.stream.client-queue-capacity:100}") int clientQueueCapacity,
+            @Value("${inbox.stream.timeout:30m}") Duration timeout,
+            @Value("${inbox.stream.send-timeout:10s}") Duration sendTimeout) {
+        this(historySize, clientQueueCapacity, timeout, sendTimeout,
+                Executors.newCachedThreadPool(InboxEventStream::thread),
+                Executors.newSingleThreadScheduledExecutor(InboxEventStream::thread));
+    }
+
+    InboxEventStream(int historySize, int clientQueueCapacity, Duration timeout, Duration sendTimeout,
+            Executor dispatcher, ScheduledExecutorService watchdog) {
+        this.historySize = historySize;
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.dispatcher = dispatcher;
+        this.watchdog = watchdog;
+    }
+
+    private static Thread thread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "inbox-stream-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Opens a stream for an admin client.
+     *
+     * @param lastEventId the last event id received by the client, or {@code null} for a new connection.
+     * @return the emitter bound to the HTTP response.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * @return the number of connected clients.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Broadcasts an inbox change once the transaction that produced it has
+     * committed, or immediately when published outside a transaction.
+     *
+     * @param event the inbox change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactMessageEvent(ContactMessageEvent event) {
+        if (event.type() == ContactMessageEvent.Type.CREATED && event.message().isSpam()) {
+            return;
+        }
+        synchronized (this) {
+            StreamEvent streamEvent = new StreamEvent(++lastSequence, eventName(event), payload(event));
+            history.addLast(streamEvent);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(streamEvent));
+        }
+    }
+
+    /**
+     * Sends a comment line so that proxies keep idle connections open and dead
+     * ones are detected.
+     */
+    @Scheduled(fixedDelayString = "${inbox.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        watchdog.shutdownNow();
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        long oldest = history.isEmpty() ? lastSequence + 1 : history.peekFirst().id();
+        if (lastEventId > lastSequence || lastEventId < oldest - 1
+                || lastSequence - lastEventId >= clientQueueCapacity) {
+            subscriber.offer(new StreamEvent(lastSequence, RESET_EVENT, Map.of("lastEventId", lastSequence)));
+            return;
+        }
+        for (StreamEvent event : history) {
+            if (event.id() > lastEventId) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private String eventName(ContactMessageEvent event) {
+        return "message." + event.type().name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private Map<String, Object> payload(ContactMessageEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        if (event.isBulk()) {
+            payload.put("affected", event.affected());
+        } else {
+            payload.put("id", event.messageId());
+        }
+        if (event.message() != null) {
+            payload.put("message", event.message());
+        }
+        return payload;
+    }
+
+    record StreamEvent(long id, String name, Object data) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(clientQueueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(StreamEvent event) {
+            if (!queue.offer(event)) {
+                LOGGER.debug("Inbox stream client too slow, disconnecting");
+                subscribers.remove(this);
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while ((event = queue.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away; the container completes the emitter.
+                subscribers.remove(this);
+                queue.clear();
+            } finally {
+                scheduled.set(false);
+            }
+            schedule();
+        }
+
+        private void send(StreamEvent event) throws IOException {
+            ScheduledFuture<?> deadline = watchdog.schedule(this::sendTimedOut, sendTimeout.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            try {
+                if (event == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    emitter.send(SseEmitter.event().id(Long.toString(event.id())).name(event.name())
+                            .data(event.data()));
+                }
+            } finally {
+                deadline.cancel(false);
+            }
+        }
+
+        private void sendTimedOut() {
+            LOGGER.debug("Inbox stream client not reading, disconnecting");
+            subscribers.remove(this);
+            queue.clear();
+            emitter.completeWithError(new IOException("Inbox stream write timed out after " + sendTimeout));
+        }
+    }
+}
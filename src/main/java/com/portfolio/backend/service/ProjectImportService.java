@@ -0,0 +1,265 @@
+package com.portfolio.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.portfolio.backend.dto.ProjectImportResponse;
+import com.portfolio.backend.dto.ProjectImportResult;
+import com.portfolio.backend.dto.ProjectRequest;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.entity.UuidV7Generator;
+import com.portfolio.backend.event.CatalogChangedEvent;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.SkillRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk import of projects from an NDJSON document or a JSON array.
+ * <p>
+ * The document is read one project at a time, so the projects held in memory
+ * are bounded by the batch; the response still keeps one result per item of
+ * the document. Valid projects are upserted by id in JDBC batches, one
+ * transaction per batch: a failing batch rejects its own projects only. Projects without an id get one generated here, which makes
+ * a re-import of an export update the same rows.
+ * </p>
+ * <p>
+ * The skills named by the projects of a batch are resolved with one
+ * {@code IN} query per list, and their {@code project_skill} rows are replaced
+ * in the batch transaction. A project naming an unknown skill is rejected;
+ * one naming none keeps its skills.
+ * </p>
+ */
+@Service
+public class ProjectImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectImportService.class);
+
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final int batchSize;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProjectImportService(ProjectRepository projectRepository, SkillRepository skillRepository,
+            ObjectMapper objectMapper, Validator validator,
+            @Value("${projects.import.batch-size:500}") int batchSize, ApplicationEventPublisher eventPublisher) {
+        this.projectRepository = projectRepository;
+        this.skillRepository = skillRepository;
+        // Exported projects carry read-only members (createdAt, updatedAt) that the request lacks.
+        this.requestReader = objectMapper.readerFor(ProjectRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Imports every project of the document.
+     *
+     * @param document NDJSON (one project per line) or a JSON array of projects.
+     * @return the outcome of each project, in document order.
+     * @throws IOException if the document cannot be read.
+     */
+    public ProjectImportResponse importProjects(InputStream document) throws IOException {
+        List<ProjectImportResult> results = new ArrayList<>();
+        Map<UUID, Integer> pending = new LinkedHashMap<>();
+        Map<UUID, ProjectRequest> skillRequests = new HashMap<>();
+        List<Project> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<ProjectRequest> requests = requestReader.readValues(document)) {
+            while (true) {
+                ProjectRequest request;
+                try {
+                    if (!requests.hasNextValue()) {
+                        break;
+                    }
+                    request = requests.nextValue();
+                } catch (JsonParseException ex) {
+                    // Nothing after a syntax error can be trusted: stop there.
+                    results.add(rejected(results.size(), null,
+                            Map.of("document", "Malformed JSON: " + ex.getOriginalMessage())));
+                    break;
+                } catch (JsonMappingException ex) {
+                    results.add(rejected(results.size(), null, Map.of("document", ex.getOriginalMessage())));
+                    continue;
+                }
+                int index = results.size();
+                Map<String, String> errors = validate(request);
+                if (!errors.isEmpty()) {
+                    results.add(rejected(index, request.getId(), errors));
+                    continue;
+                }
+                UUID id = request.getId() != null ? request.getId() : UuidV7Generator.nextUuid();
+                if (pending.containsKey(id)) {
+                    // The same id twice in one batch: the later one must win.
+                    flush(batch, pending, skillRequests, results);
+                }
+                results.add(null);
+                batch.add(toProject(id, request));
+                pending.put(id, index);
+                if (request.getSkillIds() != null || request.getSkillNames() != null) {
+                    skillRequests.put(id, request);
+                }
+                if (batch.size() == batchSize) {
+                    flush(batch, pending, skillRequests, results);
+                }
+            }
+        }
+        flush(batch, pending, skillRequests, results);
+
+        ProjectImportResponse response = new ProjectImportResponse(results);
+        if (response.getCreated() + response.getUpdated() > 0) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECTS));
+        }
+        LOGGER.info("Imported {} projects: {} created, {} updated, {} rejected", results.size(),
+                response.getCreated(), response.getUpdated(), response.getRejected());
+        return response;
+    }
+
+    private void flush(List<Project> batch, Map<UUID, Integer> pending, Map<UUID, ProjectRequest> skillRequests,
+            List<ProjectImportResult> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (!skillRequests.isEmpty()) {
+                applySkills(batch, pending, skillRequests, results);
+            }
+            Set<UUID> updated = batch.isEmpty() ? Set.of()
+                    : projectRepository.batchUpsert(batch, Set.copyOf(skillRequests.keySet()));
+            pending.forEach((id, index) -> results.set(index, new ProjectImportResult(index, id,
+                    updated.contains(id) ? ProjectImportResult.Status.UPDATED : ProjectImportResult.Status.CREATED,
+                    null)));
+        } catch (DataAccessException ex) {
+            LOGGER.warn("Project import batch of {} rejected: {}", batch.size(), ex.getMostSpecificCause().getMessage());
+            pending.forEach((id, index) -> results.set(index,
+                    rejected(index, id, Map.of("database", ex.getMostSpecificCause().getMessage()))));
+        }
+        batch.clear();
+        pending.clear();
+        skillRequests.clear();
+    }
+
+    /**
+     * Sets the skills of the projects naming any, and rejects those naming an
+     * unknown skill.
+     */
+    private void applySkills(List<Project> batch, Map<UUID, Integer> pending,
+            Map<UUID, ProjectRequest> skillRequests, List<ProjectImportResult> results) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (ProjectRequest request : skillRequests.values()) {
+            if (request.getSkillIds() != null) {
+                ids.addAll(request.getSkillIds());
+            }
+            if (request.getSkillNames() != null) {
+                request.getSkillNames().forEach(name -> names.add(name.toLowerCase(Locale.ROOT)));
+            }
+        }
+        Map<Long, Skill> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            skillRepository.findAllById(ids).forEach(skill -> byId.put(skill.getId(), skill));
+        }
+        Map<String, Skill> byName = new HashMap<>();
+        if (!names.isEmpty()) {
+            skillRepository.findByLowerNameIn(names)
+                    .forEach(skill -> byName.put(skill.getName().toLowerCase(Locale.ROOT), skill));
+        }
+
+        for (Iterator<Project> projects = batch.iterator(); projects.hasNext();) {
+            Project project = projects.next();
+            ProjectRequest request = skillRequests.get(project.getId());
+            if (request == null) {
+                continue;
+            }
+            Map<String, String> errors = new HashMap<>();
+            Set<Skill> skills = new HashSet<>();
+            if (request.getSkillIds() != null) {
+                Set<Long> missing = new TreeSet<>();
+                for (Long id : request.getSkillIds()) {
+                    Skill skill = byId.get(id);
+                    if (skill != null) {
+                        skills.add(skill);
+                    } else {
+                        missing.add(id);
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    errors.put("skillIds", "Skills not found with IDs: " + missing);
+                }
+            }
+            if (request.getSkillNames() != null) {
+                Set<String> missing = new TreeSet<>();
+                for (String name : request.getSkillNames()) {
+                    Skill skill = byName.get(name.toLowerCase(Locale.ROOT));
+                    if (skill != null) {
+                        skills.add(skill);
+                    } else {
+                        missing.add(name);
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    errors.put("skillNames", "Skills not found with names: " + missing);
+                }
+            }
+            if (errors.isEmpty()) {
+                project.setSkills(skills);
+            } else {
+                int index = pending.remove(project.getId());
+                results.set(index, rejected(index, project.getId(), errors));
+                skillRequests.remove(project.getId());
+                projects.remove();
+            }
+        }
+    }
+
+    private Map<String, String> validate(ProjectRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<ProjectRequest> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private static Project toProject(UUID id, ProjectRequest request) {
+        Project project = new Project();
+        project.setId(id);
+        ProjectService.applyRequest(project, request);
+        LocalDateTime now = LocalDateTime.now();
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+        return project;
+    }
+
+    private static ProjectImportResult rejected(int index, UUID id, Map<String, String> errors) {
+        return new ProjectImportResult(index, id, ProjectImportResult.Status.REJECTED, errors);
+    }
+}
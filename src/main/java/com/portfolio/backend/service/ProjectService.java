@@ -1,16 +1,38 @@
 package com.portfolio.backend.service;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.backend.dto.ProjectCard;
 import com.portfolio.backend.dto.ProjectRequest;
+import com.portfolio.backend.dto.ProjectSkillsRequest;
 import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.event.CatalogChangedEvent;
+import com.portfolio.backend.exception.UnknownSkillException;
 import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.SkillRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 
 /**
  * Service class for managing Project entity operations.
@@ -20,14 +42,31 @@ import com.portfolio.backend.repository.ProjectRepository;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor-based dependency injection.
      *
      * @param projectRepository The repository for managing Project entities.
+     * @param skillRepository   Resolves the skills assigned to projects.
+     * @param objectMapper      Used to apply JSON Merge Patch documents.
+     * @param validator         Validates the patched project like a full update.
+     * @param eventPublisher    Publishes {@link CatalogChangedEvent}s on writes.
      */
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, SkillRepository skillRepository,
+            ObjectMapper objectMapper, Validator validator, ApplicationEventPublisher eventPublisher) {
         this.projectRepository = projectRepository;
+        this.skillRepository = skillRepository;
+        this.objectMapper = objectMapper;
+        // The current project is serialized with read-only members (id, timestamps) that the request lacks.
+        this.requestReader = objectMapper.readerFor(ProjectRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -53,40 +92,40 @@ public class ProjectService {
      * Finds projects by their status.
      *
      * @param status the status of the project (e.g., "In Progress", "Completed").
-     * @return a list of projects with the given status.
+     * @return the cards of the projects with the given status.
      */
-    public List<Project> findProjectsByStatus(String status) {
-        return projectRepository.findByStatus(status);
+    public List<ProjectCard> findProjectsByStatus(String status) {
+        return projectRepository.findCardsByStatus(status);
     }
 
     /**
      * Finds projects created after a specific date.
      *
      * @param createdAt the cutoff creation date.
-     * @return a list of projects created after the given date.
+     * @return the cards of the projects created after the given date.
      */
-    public List<Project> findProjectsCreatedAfter(LocalDateTime createdAt) {
-        return projectRepository.findByCreatedAtAfter(createdAt);
+    public List<ProjectCard> findProjectsCreatedAfter(LocalDateTime createdAt) {
+        return projectRepository.findCardsByCreatedAtAfter(createdAt);
     }
 
     /**
      * Finds projects by a keyword in their title.
      *
      * @param title the title keyword to search for.
-     * @return a list of projects containing the keyword in their title.
+     * @return the cards of the projects containing the keyword in their title.
      */
-    public List<Project> findProjectsByTitle(String title) {
-        return projectRepository.findByTitleContainingIgnoreCase(title);
+    public List<ProjectCard> findProjectsByTitle(String title) {
+        return projectRepository.findCardsByTitleContainingIgnoreCase(title);
     }
 
     /**
      * Finds projects that are associated with a specific skill name.
      *
      * @param skillName the name of the skill.
-     * @return a list of projects associated with the given skill.
+     * @return the cards of the projects associated with the given skill.
      */
-    public List<Project> findProjectsBySkillName(String skillName) {
-        return projectRepository.findBySkillName(skillName);
+    public List<ProjectCard> findProjectsBySkillName(String skillName) {
+        return projectRepository.findCardsBySkillName(skillName);
     }
 
     /**
@@ -108,7 +147,10 @@ public class ProjectService {
     public Project createProject(ProjectRequest request) {
         Project project = new Project();
         applyRequest(project, request);
-        return projectRepository.save(project);
+        applySkills(project, request.getSkillIds(), request.getSkillNames());
+        Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECTS));
+        return saved;
     }
 
     /**
@@ -119,6 +161,7 @@ public class ProjectService {
     @Transactional
     public void deleteProjectById(UUID id) {
         projectRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECTS));
     }
 
     /**
@@ -138,11 +181,129 @@ public class ProjectService {
         Project existingProject = projectRepository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with ID: " + projectId));
         applyRequest(existingProject, request);
+        applySkills(existingProject, request.getSkillIds(), request.getSkillNames());
         existingProject.setUpdatedAt(LocalDateTime.now());
-        return projectRepository.save(existingProject);
+        Project saved = projectRepository.save(existingProject);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECTS));
+        return saved;
+    }
+
+    /**
+     * Replaces the skills of a project.
+     * <p>
+     * Skills are resolved with one {@code IN} query per list, and only the
+     * added and removed {@code project_skill} rows are written.
+     * </p>
+     *
+     * @param projectId the ID of the project
+     * @param request   the skill ids and/or names; both missing clears the skills
+     * @throws IllegalArgumentException if the project is not found
+     * @throws UnknownSkillException    if one of the skills is not found
+     */
+    @Transactional
+    public void replaceSkills(UUID projectId, ProjectSkillsRequest request) {
+        Project existingProject = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found with ID: " + projectId));
+        Set<Skill> skills = resolveSkills(request.getSkillIds(), request.getSkillNames());
+        existingProject.getSkills().retainAll(skills);
+        existingProject.getSkills().addAll(skills);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECT_SKILLS));
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to a project.
+     * <p>
+     * Members absent from the patch keep their value and {@code null} clears
+     * one. The patched project must still be a valid {@link ProjectRequest}.
+     * Unchanged attributes are left untouched, so Hibernate's dirty checking
+     * (with {@code @DynamicUpdate}) writes only the modified columns, and
+     * nothing at all when the patch changes nothing.
+     * </p>
+     *
+     * @param projectId the ID of the project to patch
+     * @param patch     the merge patch document
+     * @return the patched Project entity
+     * @throws IllegalArgumentException     if no project is found with the given ID
+     * @throws ConstraintViolationException if the patched project is invalid
+     * @throws JsonProcessingException      if the patch does not map onto a project
+     */
+    @Transactional
+    public Project patchProject(UUID projectId, JsonNode patch) throws JsonProcessingException {
+        Project existingProject = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found with ID: " + projectId));
+        JsonNode patched = mergePatch(objectMapper.valueToTree(existingProject), patch);
+        ProjectRequest request = requestReader.treeToValue(patched, ProjectRequest.class);
+        Set<ConstraintViolation<ProjectRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        applyRequest(existingProject, request);
+        applySkills(existingProject, request.getSkillIds(), request.getSkillNames());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECTS));
+        return existingProject;
+    }
+
+    /**
+     * Replaces the skills of a project when the request names any; a request
+     * without skill ids nor names leaves them unchanged.
+     */
+    private void applySkills(Project project, List<Long> skillIds, List<String> skillNames) {
+        if (skillIds == null && skillNames == null) {
+            return;
+        }
+        Set<Skill> skills = resolveSkills(skillIds, skillNames);
+        project.getSkills().retainAll(skills);
+        project.getSkills().addAll(skills);
+    }
+
+    private Set<Skill> resolveSkills(List<Long> skillIds, List<String> skillNames) {
+        Set<Skill> skills = new HashSet<>();
+        if (skillIds != null && !skillIds.isEmpty()) {
+            Set<Long> ids = new HashSet<>(skillIds);
+            List<Skill> found = skillRepository.findAllById(ids);
+            found.forEach(skill -> ids.remove(skill.getId()));
+            if (!ids.isEmpty()) {
+                throw new UnknownSkillException("Skills not found with IDs: " + ids);
+            }
+            skills.addAll(found);
+        }
+        if (skillNames != null && !skillNames.isEmpty()) {
+            Set<String> names = skillNames.stream()
+                    .map(name -> name.toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toCollection(HashSet::new));
+            List<Skill> found = skillRepository.findByLowerNameIn(names);
+            found.forEach(skill -> names.remove(skill.getName().toLowerCase(Locale.ROOT)));
+            if (!names.isEmpty()) {
+                throw new UnknownSkillException("Skills not found with names: " + names);
+            }
+            skills.addAll(found);
+        }
+        return skills;
+    }
+
+    /**
+     * @param target the current document.
+     * @param patch  the merge patch.
+     * @return the patched document, {@code target} itself is not modified.
+     */
+    static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        patch.fields().forEachRemaining(member -> {
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), mergePatch(result.get(member.getKey()), member.getValue()));
+            }
+        });
+        return result;
     }
 
-    private void applyRequest(Project project, ProjectRequest request) {
+    static void applyRequest(Project project, ProjectRequest request) {
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
         project.setSummary(request.getSummary());
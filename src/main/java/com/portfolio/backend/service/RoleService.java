@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.portfolio.backend.dto.RoleSummary;
 import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.repository.RoleRepository;
 
@@ -36,6 +37,16 @@ public class RoleService {
         return roleRepository.findAll();
     }
 
+    /**
+     * Retrieves all roles without their users.
+     *
+     * @return a list of all roles, ordered by ID.
+     */
+    @Transactional(readOnly = true)
+    public List<RoleSummary> findAllRoleSummaries() {
+        return roleRepository.findAllSummaries();
+    }
+
     /**
      * Retrieves a role by its ID.
      *
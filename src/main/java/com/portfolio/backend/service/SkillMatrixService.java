@@ -0,0 +1,80 @@
+package com.portfolio.backend.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.portfolio.backend.dto.SkillMatrixEntry;
+import com.portfolio.backend.event.CatalogChangedEvent;
+import com.portfolio.backend.repository.SkillRepository;
+
+/**
+ * Skills page read model.
+ * <p>
+ * The matrix is computed with a single aggregate query and kept in memory
+ * until a {@link CatalogChangedEvent} reports a committed change to the
+ * projects or skills; the next read then recomputes it. Events only reach the
+ * node that made the change, so the snapshot also expires after
+ * {@code skills.matrix.ttl}, like the query results region of the
+ * second-level cache, which bounds how long another node or a change made
+ * outside the application stays invisible.
+ * </p>
+ */
+@Service
+public class SkillMatrixService {
+
+    private final SkillRepository skillRepository;
+    private final int recentProjects;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public SkillMatrixService(SkillRepository skillRepository,
+            @Value("${skills.matrix.recent-projects:5}") int recentProjects,
+            @Value("${skills.matrix.ttl:10m}") Duration ttl) {
+        this(skillRepository, recentProjects, ttl, System::nanoTime);
+    }
+
+    SkillMatrixService(SkillRepository skillRepository, int recentProjects, Duration ttl, LongSupplier ticker) {
+        this.skillRepository = skillRepository;
+        this.recentProjects = recentProjects;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the skill matrix, computing it when the cached one is stale.
+     *
+     * @return every skill with its project count and most recent project ids.
+     */
+    public List<SkillMatrixEntry> getMatrix() {
+        Snapshot current = snapshot;
+        long expected = version.get();
+        long now = ticker.getAsLong();
+        if (current != null && current.version == expected && now - current.computedAt < ttlNanos) {
+            return current.entries;
+        }
+        List<SkillMatrixEntry> entries = List.copyOf(skillRepository.findSkillMatrix(recentProjects));
+        // A change committed while the query ran bumps the version, so the
+        // result is served once but not kept.
+        snapshot = new Snapshot(expected, now, entries);
+        return entries;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private record Snapshot(long version, long computedAt, List<SkillMatrixEntry> entries) {
+    }
+}
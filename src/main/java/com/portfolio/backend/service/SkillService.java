@@ -5,10 +5,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.event.CatalogChangedEvent;
 import com.portfolio.backend.repository.SkillRepository;
 
 /**
@@ -19,9 +21,11 @@ import com.portfolio.backend.repository.SkillRepository;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SkillService(SkillRepository skillRepository) {
+    public SkillService(SkillRepository skillRepository, ApplicationEventPublisher eventPublisher) {
         this.skillRepository = skillRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -67,7 +71,9 @@ public class SkillService {
             skill.setCreatedAt(LocalDateTime.now());
         }
         skill.setUpdatedAt(LocalDateTime.now());
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.SKILLS));
+        return saved;
     }
 
     /**
@@ -77,6 +83,7 @@ public class SkillService {
      */
     public void deleteSkillById(Long id) {
         skillRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.SKILLS));
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.portfolio.backend.workload;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link Workload} annotations. It runs before the transaction
+ * interceptor so that the transaction's connection comes from the right pool.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@within(com.portfolio.backend.workload.Workload) || @annotation(com.portfolio.backend.workload.Workload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Workload workload = AnnotationUtils.findAnnotation(method, Workload.class);
+        if (workload == null) {
+            workload = AnnotationUtils.findAnnotation(AopUtils.getTargetClass(joinPoint.getTarget()), Workload.class);
+        }
+        return WorkloadContext.call(workload.value(), joinPoint::proceed);
+    }
+}
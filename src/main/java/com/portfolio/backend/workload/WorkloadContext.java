@@ -0,0 +1,62 @@
+package com.portfolio.backend.workload;
+
+/**
+ * The workload of the current thread, read when a connection is taken from
+ * {@link WorkloadPools}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return the workload of the current thread, {@link WorkloadType#PUBLIC} by default.
+     */
+    public static WorkloadType current() {
+        WorkloadType workload = CURRENT.get();
+        return workload != null ? workload : WorkloadType.PUBLIC;
+    }
+
+    /**
+     * Runs a task as the given workload, restoring the previous one afterwards.
+     *
+     * @param workload the workload to run as.
+     * @param task     the task.
+     * @param <T>      the result type.
+     * @param <E>      the exception the task may throw.
+     * @return the result of the task.
+     * @throws E if the task fails.
+     */
+    public static <T, E extends Throwable> T call(WorkloadType workload, Task<T, E> task) throws E {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * @param workload the workload to run as.
+     * @param task     the task.
+     */
+    public static void run(WorkloadType workload, Runnable task) {
+        call(workload, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    public interface Task<T, E extends Throwable> {
+
+        T call() throws E;
+    }
+}
@@ -0,0 +1,131 @@
+package com.portfolio.backend.workload;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.portfolio.backend.dto.ConnectionPoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * One connection pool per {@link WorkloadType}, and a data source handing
+ * out connections from the pool of the current thread's workload.
+ * <p>
+ * Every statement created on those connections gets the pool's statement
+ * timeout, so a runaway admin query is cancelled instead of holding its
+ * connection indefinitely. JDBC timeouts are in seconds: shorter ones are
+ * rounded up.
+ * </p>
+ */
+public class WorkloadPools implements AutoCloseable {
+
+    private final Map<WorkloadType, HikariDataSource> pools;
+    private final Map<WorkloadType, Integer> statementTimeouts = new EnumMap<>(WorkloadType.class);
+    private final DataSource dataSource = new RoutingDataSource();
+
+    /**
+     * @param pools             a pool for every workload.
+     * @param statementTimeouts the statement timeout of each pool, none if
+     *                          missing or zero.
+     */
+    public WorkloadPools(Map<WorkloadType, HikariDataSource> pools, Map<WorkloadType, Duration> statementTimeouts) {
+        this.pools = new EnumMap<>(pools);
+        for (WorkloadType workload : WorkloadType.values()) {
+            if (!this.pools.containsKey(workload)) {
+                throw new IllegalArgumentException("No connection pool for workload " + workload);
+            }
+            Duration timeout = statementTimeouts.getOrDefault(workload, Duration.ZERO);
+            this.statementTimeouts.put(workload, (int) ((timeout.toMillis() + 999) / 1000));
+        }
+    }
+
+    /**
+     * @return the data source routing connections by workload; closing it
+     *         closes the pools.
+     */
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * The background pool without statement timeout, for schema migrations:
+     * copying or backfilling a large table and building its indexes must not
+     * be cancelled like a runaway query.
+     *
+     * @return a data source for long-running maintenance statements.
+     */
+    public DataSource migrationDataSource() {
+        return pools.get(WorkloadType.BACKGROUND);
+    }
+
+    /**
+     * @return the current usage of every pool, in workload order.
+     */
+    public List<ConnectionPoolStats> stats() {
+        return pools.entrySet().stream().map(entry -> {
+            HikariDataSource pool = entry.getValue();
+            // Null until the pool has handed out its first connection.
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean == null
+                    ? new ConnectionPoolStats(entry.getKey().key(), 0, 0, 0, pool.getMaximumPoolSize(), 0)
+                    : new ConnectionPoolStats(entry.getKey().key(), bean.getActiveConnections(),
+                            bean.getIdleConnections(), bean.getTotalConnections(), pool.getMaximumPoolSize(),
+                            bean.getThreadsAwaitingConnection());
+        }).toList();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    private static Connection withStatementTimeout(Connection connection, int seconds) {
+        if (seconds <= 0) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(WorkloadPools.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                    if (result instanceof Statement statement) {
+                        statement.setQueryTimeout(seconds);
+                    }
+                    return result;
+                });
+    }
+
+    private final class RoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            WorkloadType workload = WorkloadContext.current();
+            return withStatementTimeout(pools.get(workload).getConnection(), statementTimeouts.get(workload));
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Workload connections use the configured credentials");
+        }
+
+        @Override
+        public void close() {
+            WorkloadPools.this.close();
+        }
+    }
+}
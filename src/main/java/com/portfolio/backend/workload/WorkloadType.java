@@ -0,0 +1,42 @@
+package com.portfolio.backend.workload;
+
+import java.util.Locale;
+
+/**
+ * The workloads whose queries run in separate connection pools, so that one
+ * of them exhausting its pool does not stall the others.
+ */
+public enum WorkloadType {
+
+    /** Reads of the public site and contact submissions; the default. */
+    PUBLIC(10, 5_000),
+
+    /** Admin operations, including exports, imports and message searches. */
+    ADMIN(5, 60_000),
+
+    /** Scheduled jobs and the contact ingestion flusher. */
+    BACKGROUND(3, 300_000);
+
+    private final int defaultPoolSize;
+    private final long defaultStatementTimeoutMs;
+
+    WorkloadType(int defaultPoolSize, long defaultStatementTimeoutMs) {
+        this.defaultPoolSize = defaultPoolSize;
+        this.defaultStatementTimeoutMs = defaultStatementTimeoutMs;
+    }
+
+    public int getDefaultPoolSize() {
+        return defaultPoolSize;
+    }
+
+    public long getDefaultStatementTimeoutMs() {
+        return defaultStatementTimeoutMs;
+    }
+
+    /**
+     * @return the name used in property keys and pool names, e.g. {@code admin}.
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+-- Secondary indexes for the repository query paths.
+-- Indexes created on the partitioned contact_message table cascade to every partition.
+
+-- ContactMessageRepository.findByEmail
+CREATE INDEX IF NOT EXISTS idx_contact_message_email ON contact_message (email);
+-- ContactMessageRepository.findByCreatedAtAfter, countPerDaySince
+CREATE INDEX IF NOT EXISTS idx_contact_message_created_at ON contact_message (created_at);
+-- ContactMessageRepository.findByReadFalse, findByReadFalseAndSpamFalseAndArchivedFalse: the unread inbox stays small
+CREATE INDEX IF NOT EXISTS idx_contact_message_unread ON contact_message (created_at) WHERE read = false;
+-- ContactMessageRepository.findBySpam(true), countBySpamTrue
+CREATE INDEX IF NOT EXISTS idx_contact_message_spam ON contact_message (created_at) WHERE spam = true;
+
+-- ProjectRepository.findByStatus
+CREATE INDEX IF NOT EXISTS idx_project_status ON project (status);
+-- ProjectRepository.findAllByOrderByCreatedAtDesc, findByCreatedAtAfter
+CREATE INDEX IF NOT EXISTS idx_project_created_at ON project (created_at DESC);
+
+-- SkillRepository.findByName, existsByName
+CREATE INDEX IF NOT EXISTS idx_skill_name ON skill (name);
+-- ProjectRepository.findBySkillName compares LOWER(s.name)
+CREATE INDEX IF NOT EXISTS idx_skill_lower_name ON skill (lower(name));
+-- SkillRepository.findByProjectId and project deletion walk project_skill by skill_id
+CREATE INDEX IF NOT EXISTS idx_project_skill_skill_id ON project_skill (skill_id);
+
+-- UserRepository.findByUsername, existsByUsername (email is already UNIQUE)
+CREATE INDEX IF NOT EXISTS idx_app_user_username ON app_user (username);
+-- UserRepository.findByRoleName joins on role_id
+CREATE INDEX IF NOT EXISTS idx_app_user_role_id ON app_user (role_id);
@@ -0,0 +1,48 @@
+-- Store the project list attributes as arrays on the project row instead of six join tables:
+-- reading a project becomes a single-row fetch and updating one rewrites a single row.
+ALTER TABLE project
+    ADD COLUMN images TEXT[] NOT NULL DEFAULT '{}',
+    ADD COLUMN tags TEXT[] NOT NULL DEFAULT '{}',
+    ADD COLUMN stack TEXT[] NOT NULL DEFAULT '{}',
+    ADD COLUMN features TEXT[] NOT NULL DEFAULT '{}',
+    ADD COLUMN contributions TEXT[] NOT NULL DEFAULT '{}',
+    ADD COLUMN outcomes TEXT[] NOT NULL DEFAULT '{}';
+
+-- The join tables have no order column: Hibernate rewrote every row of a list in list order, so the physical
+-- order (ctid) is the list order. array_agg without ORDER BY gives no order guarantee at all.
+
+UPDATE project p SET images = c.items
+FROM (SELECT project_id, array_agg(image_url ORDER BY ctid) AS items FROM project_images GROUP BY project_id) c
+WHERE c.project_id = p.id;
+
+UPDATE project p SET tags = c.items
+FROM (SELECT project_id, array_agg(tag ORDER BY ctid) AS items FROM project_tags GROUP BY project_id) c
+WHERE c.project_id = p.id;
+
+UPDATE project p SET stack = c.items
+FROM (SELECT project_id, array_agg(stack_item ORDER BY ctid) AS items FROM project_stack GROUP BY project_id) c
+WHERE c.project_id = p.id;
+
+UPDATE project p SET features = c.items
+FROM (SELECT project_id, array_agg(feature ORDER BY ctid) AS items FROM project_features GROUP BY project_id) c
+WHERE c.project_id = p.id;
+
+UPDATE project p SET contributions = c.items
+FROM (SELECT project_id, array_agg(contribution ORDER BY ctid) AS items
+      FROM project_contributions GROUP BY project_id) c
+WHERE c.project_id = p.id;
+
+UPDATE project p SET outcomes = c.items
+FROM (SELECT project_id, array_agg(outcome ORDER BY ctid) AS items FROM project_outcomes GROUP BY project_id) c
+WHERE c.project_id = p.id;
+
+DROP TABLE project_images;
+DROP TABLE project_tags;
+DROP TABLE project_stack;
+DROP TABLE project_features;
+DROP TABLE project_contributions;
+DROP TABLE project_outcomes;
+
+-- Containment filters (tags @> ARRAY['java'], stack && ARRAY[...])
+CREATE INDEX IF NOT EXISTS idx_project_tags ON project USING GIN (tags);
+CREATE INDEX IF NOT EXISTS idx_project_stack ON project USING GIN (stack);
@@ -0,0 +1,7 @@
+-- Hand out role, skill and user ids 50 at a time: Hibernate reserves a block with one
+-- nextval call and numbers the rows itself, so inserts no longer need a round trip each
+-- to read back an IDENTITY value and can be sent as JDBC batches.
+-- The BIGSERIAL sequences are kept: their next value already lies above every existing id.
+ALTER SEQUENCE role_id_seq INCREMENT BY 50;
+ALTER SEQUENCE skill_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app_user_id_seq INCREMENT BY 50;
@@ -0,0 +1,27 @@
+-- Keep contact message ids unique across partitions: the primary key (id, created_at) only
+-- rejects a duplicate id within the same created_at, and PostgreSQL cannot enforce a unique
+-- index on a partitioned table without its partition key.
+-- contact_message_id registers every id through a row trigger, so a second message with an
+-- existing id fails on its primary key. Ids of archived partitions stay registered: they are
+-- still looked up by id in the archive.
+CREATE TABLE contact_message_id (
+    id UUID PRIMARY KEY
+);
+
+INSERT INTO contact_message_id (id)
+SELECT id FROM contact_message;
+
+CREATE FUNCTION contact_message_register_id() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO contact_message_id (id) VALUES (NEW.id);
+        RETURN NEW;
+    END IF;
+    DELETE FROM contact_message_id WHERE id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER contact_message_register_id
+    AFTER INSERT OR DELETE ON contact_message
+    FOR EACH ROW EXECUTE FUNCTION contact_message_register_id();
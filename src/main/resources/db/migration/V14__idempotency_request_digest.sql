@@ -0,0 +1,3 @@
+-- SHA-256 of the request body of the original request: a retry reusing the key with another body is
+-- rejected instead of being answered with the response to a different request.
+ALTER TABLE idempotency_record ADD COLUMN IF NOT EXISTS request_digest VARCHAR(64);
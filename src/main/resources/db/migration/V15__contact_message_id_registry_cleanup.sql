@@ -0,0 +1,5 @@
+-- Detaching a partition does not fire the row trigger of V13, so the ids of partitions already
+-- moved to contact_archive stayed in contact_message_id. The partition maintenance job now removes
+-- them when it detaches a partition; this drops those left behind before.
+DELETE FROM contact_message_id r
+WHERE NOT EXISTS (SELECT 1 FROM contact_message m WHERE m.id = r.id);
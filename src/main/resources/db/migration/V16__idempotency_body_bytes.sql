@@ -0,0 +1,3 @@
+-- Replayed responses are stored as the bytes that were sent: a TEXT column forced a UTF-8 round trip that
+-- corrupted responses in any other encoding.
+ALTER TABLE idempotency_record ALTER COLUMN body TYPE BYTEA USING convert_to(body, 'UTF8');
@@ -0,0 +1,10 @@
+-- Responses recorded for requests sent with an Idempotency-Key header
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(64) PRIMARY KEY,
+    status INTEGER,
+    content_type VARCHAR(255),
+    body TEXT,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_record_created_at ON idempotency_record (created_at);
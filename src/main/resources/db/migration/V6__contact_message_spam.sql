@@ -0,0 +1,2 @@
+-- Suspected spam flag set by the contact spam detector or by the admin
+ALTER TABLE contact_message ADD COLUMN IF NOT EXISTS spam BOOLEAN NOT NULL DEFAULT FALSE;
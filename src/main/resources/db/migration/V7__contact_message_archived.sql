@@ -0,0 +1,2 @@
+-- Archive flag set by the admin bulk operations
+ALTER TABLE contact_message ADD COLUMN IF NOT EXISTS archived BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,6 @@
+-- Daily rollup of received contact messages, maintained by the stats reconciliation job
+CREATE TABLE IF NOT EXISTS contact_message_daily_stats (
+    day DATE PRIMARY KEY,
+    received BIGINT NOT NULL DEFAULT 0,
+    spam BIGINT NOT NULL DEFAULT 0
+);
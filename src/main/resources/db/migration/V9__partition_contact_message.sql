@@ -0,0 +1,43 @@
+-- Range-partition contact_message by month on created_at.
+-- The primary key of a partitioned table must include the partition key, hence (id, created_at).
+-- Rows outside every monthly partition land in contact_message_default; the partition maintenance
+-- job creates upcoming months ahead of time and moves expired months to the contact_archive schema.
+ALTER TABLE contact_message RENAME TO contact_message_legacy;
+ALTER TABLE contact_message_legacy RENAME CONSTRAINT contact_message_pkey TO contact_message_legacy_pkey;
+
+CREATE TABLE contact_message (
+    id UUID NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(50),
+    subject VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    read BOOLEAN NOT NULL DEFAULT FALSE,
+    spam BOOLEAN NOT NULL DEFAULT FALSE,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE contact_message_default PARTITION OF contact_message DEFAULT;
+
+CREATE SCHEMA IF NOT EXISTS contact_archive;
+
+-- One partition per month from the oldest existing message up to three months ahead
+DO $$
+DECLARE
+    month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM contact_message_legacy), NOW()))::DATE;
+    last_month DATE := (date_trunc('month', NOW()) + INTERVAL '3 months')::DATE;
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF contact_message FOR VALUES FROM (%L) TO (%L)',
+                'contact_message_p' || to_char(month, 'YYYY_MM'), month, (month + INTERVAL '1 month')::DATE);
+        month := (month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO contact_message (id, name, email, phone, subject, message, read, spam, archived, created_at)
+SELECT id, name, email, phone, subject, message, read, spam, archived, created_at
+FROM contact_message_legacy;
+
+DROP TABLE contact_message_legacy;
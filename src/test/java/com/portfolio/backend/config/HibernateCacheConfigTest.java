@@ -0,0 +1,127 @@
+package com.portfolio.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.portfolio.backend.dto.CacheRegionStats;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.RoleRepository;
+import com.portfolio.backend.repository.SkillRepository;
+import com.portfolio.backend.service.CacheStatisticsService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        skillRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void testRoleLookupsAreServedFromTheCache() {
+        Role role = new Role();
+        role.setName("ADMIN");
+        role = roleRepository.save(role);
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+
+        roleRepository.findByName("ADMIN").orElseThrow();
+        roleRepository.findByName("ADMIN").orElseThrow();
+        roleRepository.findById(role.getId()).orElseThrow();
+
+        CacheRegionStats queries = region("default-query-results-region");
+        assertEquals(1, queries.getHits());
+        assertEquals(1, queries.getMisses());
+        assertTrue(region("role").getHits() >= 1);
+        assertTrue(entityManagerFactory.getCache().contains(Role.class, role.getId()));
+    }
+
+    @Test
+    void testBatchUpsertEvictsCachedProjects() {
+        Project project = new Project();
+        project.setTitle("Portfolio Website");
+        project.setDescription("A personal portfolio.");
+        project.setStatus("Completed");
+        project = projectRepository.save(project);
+        projectRepository.findById(project.getId()).orElseThrow();
+        assertTrue(entityManagerFactory.getCache().contains(Project.class, project.getId()));
+
+        project.setTitle("Portfolio Website v2");
+        project.setUpdatedAt(LocalDateTime.now());
+        projectRepository.batchUpsert(List.of(project));
+
+        assertEquals("Portfolio Website v2", projectRepository.findById(project.getId()).orElseThrow().getTitle());
+        assertEquals(1, projectRepository.findByStatus("Completed").size());
+    }
+
+    @Test
+    void testSkillReplacementEvictsCachedSkillProjects() {
+        Skill skill = new Skill();
+        skill.setName("Java");
+        Skill saved = skillRepository.save(skill);
+        Project project = new Project();
+        project.setTitle("Portfolio Website");
+        project.setDescription("A personal portfolio.");
+        project.setStatus("Completed");
+        project = projectRepository.save(project);
+        transactionTemplate.executeWithoutResult(status ->
+                skillRepository.findById(saved.getId()).orElseThrow().getProjects().size());
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsCollection(Skill.class.getName() + ".projects", saved.getId()));
+
+        project.setSkills(new HashSet<>(Set.of(saved)));
+        projectRepository.batchUpsert(List.of(project), Set.of(project.getId()));
+
+        assertFalse(cache.containsCollection(Skill.class.getName() + ".projects", saved.getId()));
+        Integer projects = transactionTemplate.execute(status ->
+                skillRepository.findById(saved.getId()).orElseThrow().getProjects().size());
+        assertEquals(1, projects);
+    }
+
+    private CacheRegionStats region(String name) {
+        return cacheStatisticsService.findRegionStats().stream()
+                .filter(stats -> name.equals(stats.getRegion()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,117 @@
+package com.portfolio.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portfolio.backend.dto.RoleSummary;
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.repository.RoleRepository;
+import com.portfolio.backend.service.RoleService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "datasource.replicas.urls=" + ReadReplicaConfigTest.REPLICA_URL
+})
+class ReadReplicaConfigTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource replicaDataSource = new JdbcDataSource();
+        replicaDataSource.setURL(REPLICA_URL);
+        replicaDataSource.setUser("sa");
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS role (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+        replica.update("INSERT INTO role (id, name) VALUES (1, 'REPLICA')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        roleRepository.deleteAll();
+        replica.update("DELETE FROM role");
+    }
+
+    @Test
+    void testReadOnlyTransactionsReadFromTheReplica() {
+        assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+        roleRepository.save(role("ADMIN"));
+
+        assertEquals(List.of("REPLICA"), names(roleService.findAllRoleSummaries()));
+    }
+
+    @Test
+    void testAdminReadsOwnWritesFromThePrimary() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+
+        roleService.createRole(role("EDITOR"));
+
+        assertEquals(List.of("EDITOR"), names(roleService.findAllRoleSummaries()));
+    }
+
+    @Test
+    void testWriteAfterReadInOneSharedSessionGoesToThePrimary() {
+        // Open-in-view is off; a caller binds one entity manager across a read then a write.
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+        try {
+            assertEquals(List.of("REPLICA"), names(roleService.findAllRoleSummaries()));
+            roleService.createRole(role("EDITOR"));
+        } finally {
+            ((EntityManagerHolder) TransactionSynchronizationManager.unbindResource(entityManagerFactory))
+                    .getEntityManager().close();
+        }
+
+        assertEquals(1, new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM role WHERE name = 'EDITOR'", Integer.class));
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM role WHERE name = 'EDITOR'", Integer.class));
+    }
+
+    private static Role role(String name) {
+        Role role = new Role();
+        role.setName(name);
+        return role;
+    }
+
+    private static List<String> names(List<RoleSummary> roles) {
+        return roles.stream().map(RoleSummary::getName).toList();
+    }
+}
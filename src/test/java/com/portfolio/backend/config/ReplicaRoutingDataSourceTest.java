@@ -0,0 +1,161 @@
+package com.portfolio.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portfolio.backend.workload.WorkloadContext;
+import com.portfolio.backend.workload.WorkloadPools;
+import com.portfolio.backend.workload.WorkloadType;
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource missingReplica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = database("primary");
+        replica = database("replica");
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        missingReplica = missing;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyConnectionsGoToTheReplica() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                Duration.ofSeconds(5));
+
+        assertEquals("replica", marker(dataSource, true));
+        assertEquals("primary", marker(dataSource, false));
+    }
+
+    @Test
+    void testFailedReplicaIsSkipped() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary,
+                List.of(missingReplica, replica), Duration.ofSeconds(5));
+        dataSource.checkReplicas();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica", marker(dataSource, true));
+        }
+    }
+
+    @Test
+    void testFallsBackToPrimaryWithoutReplicas() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(missingReplica),
+                Duration.ofSeconds(5));
+
+        assertEquals("primary", marker(dataSource, true));
+        dataSource.checkReplicas();
+        assertEquals("primary", marker(dataSource, true));
+    }
+
+    @Test
+    void testWriterReadsOwnWrites() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                Duration.ofSeconds(5));
+        authenticate("admin");
+        dataSource.afterCommit(new TransactionExecution() {
+        }, null);
+
+        assertEquals("primary", marker(dataSource, true));
+        authenticate("other");
+        assertEquals("replica", marker(dataSource, true));
+    }
+
+    @Test
+    void testStickinessExpires() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                Duration.ZERO);
+        authenticate("admin");
+        dataSource.afterCommit(new TransactionExecution() {
+        }, null);
+
+        assertEquals("replica", marker(dataSource, true));
+    }
+
+    @Test
+    void testSaturatedAdminReplicaPoolDoesNotBlockPublicReads() throws Exception {
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + workload.key());
+            pool.setDataSource(replica);
+            pool.setMaximumPoolSize(1);
+            pool.setConnectionTimeout(250);
+            pools.put(workload, pool);
+        }
+        try (ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary,
+                List.of(new WorkloadPools(pools, Map.of()).dataSource()), Duration.ofSeconds(5))) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try (Connection export = WorkloadContext.call(WorkloadType.ADMIN, () -> {
+                // The replica connection is only taken at the first statement, as in a streamed export.
+                Connection connection = dataSource.getConnection();
+                connection.createStatement().close();
+                return connection;
+            })) {
+
+                assertEquals("primary", WorkloadContext.call(WorkloadType.ADMIN, () -> marker(dataSource, true)));
+                assertEquals("replica", marker(dataSource, true));
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        }
+    }
+
+    private static String marker(DataSource dataSource, boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private static DataSource database(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE marker (name VARCHAR(20))");
+            statement.execute("INSERT INTO marker VALUES ('" + name + "')");
+        }
+        return dataSource;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+    }
+}
@@ -1,13 +1,23 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.dto.BulkOperationResponse;
+import com.portfolio.backend.dto.ContactMessageStatsResponse;
+import com.portfolio.backend.dto.ContactMessageBulkRequest;
 import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageCriteria;
 import com.portfolio.backend.service.ContactMessageService;
+import com.portfolio.backend.service.ContactMessageStatsService;
+import com.portfolio.backend.service.ExportService;
+import com.portfolio.backend.service.InboxEventStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,6 +36,15 @@ class ContactMessageControllerTest {
     @Mock
     private ContactMessageService contactMessageService;
 
+    @Mock
+    private InboxEventStream inboxEventStream;
+
+    @Mock
+    private ContactMessageStatsService contactMessageStatsService;
+
+    @Mock
+    private ExportService exportService;
+
     @InjectMocks
     private AdminContactMessageController contactMessageController;
 
@@ -133,4 +152,107 @@ class ContactMessageControllerTest {
         assertEquals(204, response.getStatusCode().value());
         verify(contactMessageService, times(1)).deleteMessageById(messageId);
     }
+
+    @Test
+    void testGetSpamMessages() {
+        when(contactMessageService.findSpamMessages()).thenReturn(List.of(new ContactMessage()));
+
+        ResponseEntity<List<ContactMessage>> response = contactMessageController.getSpamMessages();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    void testFlagMessageAsSpam() {
+        UUID messageId = UUID.randomUUID();
+
+        ResponseEntity<Void> response = contactMessageController.flagMessageAsSpam(messageId);
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(contactMessageService, times(1)).flagSpam(messageId, true);
+    }
+
+    @Test
+    void testFlagMessageAsNotSpam() {
+        UUID messageId = UUID.randomUUID();
+
+        ResponseEntity<Void> response = contactMessageController.flagMessageAsNotSpam(messageId);
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(contactMessageService, times(1)).flagSpam(messageId, false);
+    }
+
+    @Test
+    void testBulkArchive() {
+        ContactMessageBulkRequest request = new ContactMessageBulkRequest();
+        request.setEmail("spam@example.com");
+        ContactMessageCriteria criteria = new ContactMessageCriteria(null, null, "spam@example.com", null);
+        when(contactMessageService.bulkArchive(criteria)).thenReturn(12);
+
+        ResponseEntity<BulkOperationResponse> response = contactMessageController.bulkArchive(request);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(12, response.getBody().getAffected());
+    }
+
+    @Test
+    void testBulkMarkAsUnread() {
+        UUID messageId = UUID.randomUUID();
+        ContactMessageBulkRequest request = new ContactMessageBulkRequest();
+        request.setIds(List.of(messageId));
+        when(contactMessageService.bulkMarkRead(new ContactMessageCriteria(List.of(messageId), null, null, null),
+                false)).thenReturn(1);
+
+        ResponseEntity<BulkOperationResponse> response = contactMessageController.bulkMarkAsUnread(request);
+
+        assertEquals(1, response.getBody().getAffected());
+    }
+
+    @Test
+    void testBulkRequestRequiresACriterion() {
+        assertFalse(new ContactMessageBulkRequest().isFiltered());
+    }
+
+    @Test
+    void testStreamInboxEvents() {
+        SseEmitter emitter = new SseEmitter();
+        when(inboxEventStream.subscribe(42L)).thenReturn(emitter);
+
+        assertSame(emitter, contactMessageController.streamInboxEvents(42L));
+    }
+
+    @Test
+    void testGetStats() {
+        ContactMessageStatsResponse stats = new ContactMessageStatsResponse(10, 2, 3, 1, List.of());
+        when(contactMessageStatsService.getStats(7)).thenReturn(stats);
+
+        ResponseEntity<ContactMessageStatsResponse> response = contactMessageController.getStats(7);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(stats, response.getBody());
+    }
+
+    @Test
+    void testExportMessagesAsGzipCsv() {
+        StreamingResponseBody body = outputStream -> { };
+        when(exportService.exportMessages(ExportService.Format.CSV, true)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = contactMessageController.exportMessages("csv", "gzip, br");
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("text/csv", response.getHeaders().getContentType().toString());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("attachment; filename=\"messages.csv\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertSame(body, response.getBody());
+    }
+
+    @Test
+    void testExportMessagesRejectsUnknownFormat() {
+        ResponseEntity<StreamingResponseBody> response = contactMessageController.exportMessages("xml", null);
+
+        assertEquals(400, response.getStatusCode().value());
+        verifyNoInteractions(exportService);
+    }
 }
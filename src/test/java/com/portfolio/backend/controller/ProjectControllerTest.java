@@ -1,11 +1,15 @@
 package com.portfolio.backend.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -17,10 +21,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dto.ProjectCard;
+import com.portfolio.backend.dto.ProjectImportResponse;
 import com.portfolio.backend.dto.ProjectRequest;
+import com.portfolio.backend.dto.ProjectSkillsRequest;
 import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.service.ExportService;
+import com.portfolio.backend.service.ProjectImportService;
 import com.portfolio.backend.service.ProjectService;
 
 class ProjectControllerTest {
@@ -28,6 +42,12 @@ class ProjectControllerTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ExportService exportService;
+
+    @Mock
+    private ProjectImportService projectImportService;
+
     @InjectMocks
     private ProjectController projectController;
 
@@ -38,14 +58,14 @@ class ProjectControllerTest {
 
     @Test
     void testGetAllProjects() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
-        when(projectService.findAllProjects()).thenReturn(projects);
+        StreamingResponseBody body = outputStream -> { };
+        when(exportService.jsonArray(ProjectRepository.CARD_QUERY, ProjectCard.class)).thenReturn(body);
 
-        ResponseEntity<List<Project>> response = projectController.getAllProjects();
+        ResponseEntity<StreamingResponseBody> response = projectController.getAllProjects();
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(2, response.getBody().size());
-        verify(projectService, times(1)).findAllProjects();
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(body, response.getBody());
     }
 
     @Test
@@ -73,10 +93,10 @@ class ProjectControllerTest {
 
     @Test
     void testGetProjectsByStatus() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
+        List<ProjectCard> projects = Arrays.asList(card(), card());
         when(projectService.findProjectsByStatus("Completed")).thenReturn(projects);
 
-        ResponseEntity<List<Project>> response = projectController.getProjectsByStatus("Completed");
+        ResponseEntity<List<ProjectCard>> response = projectController.getProjectsByStatus("Completed");
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -86,10 +106,10 @@ class ProjectControllerTest {
     @Test
     void testGetProjectsCreatedAfter() {
         LocalDateTime date = LocalDateTime.now().minusDays(10);
-        List<Project> projects = Arrays.asList(new Project(), new Project());
+        List<ProjectCard> projects = Arrays.asList(card(), card());
         when(projectService.findProjectsCreatedAfter(date)).thenReturn(projects);
 
-        ResponseEntity<List<Project>> response = projectController.getProjectsCreatedAfter(date);
+        ResponseEntity<List<ProjectCard>> response = projectController.getProjectsCreatedAfter(date);
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -98,10 +118,10 @@ class ProjectControllerTest {
 
     @Test
     void testGetProjectsByTitle() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
+        List<ProjectCard> projects = Arrays.asList(card(), card());
         when(projectService.findProjectsByTitle("Java")).thenReturn(projects);
 
-        ResponseEntity<List<Project>> response = projectController.getProjectsByTitle("Java");
+        ResponseEntity<List<ProjectCard>> response = projectController.getProjectsByTitle("Java");
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -110,10 +130,10 @@ class ProjectControllerTest {
 
     @Test
     void testGetProjectsBySkill() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
+        List<ProjectCard> projects = Arrays.asList(card(), card());
         when(projectService.findProjectsBySkillName("Spring Boot")).thenReturn(projects);
 
-        ResponseEntity<List<Project>> response = projectController.getProjectsBySkill("Spring Boot");
+        ResponseEntity<List<ProjectCard>> response = projectController.getProjectsBySkill("Spring Boot");
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -151,6 +171,43 @@ class ProjectControllerTest {
         verify(projectService, times(1)).updateProject(projectId, request);
     }
 
+    @Test
+    void testPatchProject() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        JsonNode patch = new ObjectMapper().readTree("{\"summary\":\"Typo fixed\"}");
+        Project patched = new Project();
+        when(projectService.patchProject(projectId, patch)).thenReturn(patched);
+
+        ResponseEntity<Project> response = projectController.patchProject(projectId, patch);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(patched, response.getBody());
+    }
+
+    @Test
+    void testReplaceProjectSkills() {
+        UUID projectId = UUID.randomUUID();
+        ProjectSkillsRequest request = new ProjectSkillsRequest();
+        request.setSkillNames(List.of("Java"));
+
+        ResponseEntity<Void> response = projectController.replaceProjectSkills(projectId, request);
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(projectService, times(1)).replaceSkills(projectId, request);
+    }
+
+    @Test
+    void testImportProjects() throws Exception {
+        InputStream document = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+        ProjectImportResponse imported = new ProjectImportResponse(List.of());
+        when(projectImportService.importProjects(document)).thenReturn(imported);
+
+        ResponseEntity<ProjectImportResponse> response = projectController.importProjects(document);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(imported, response.getBody());
+    }
+
     @Test
     void testDeleteProject() {
         UUID projectId = UUID.randomUUID();
@@ -160,4 +217,9 @@ class ProjectControllerTest {
         assertEquals(204, response.getStatusCode().value());
         verify(projectService, times(1)).deleteProjectById(projectId);
     }
+
+    private static ProjectCard card() {
+        return new ProjectCard(UUID.randomUUID(), "Title", "Description", null, "Completed", null, List.of("java"),
+                LocalDateTime.now(), null);
+    }
 }
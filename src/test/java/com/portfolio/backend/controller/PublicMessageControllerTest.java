@@ -4,15 +4,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import java.util.List;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -22,6 +25,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
@@ -29,7 +33,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.backend.dto.ContactMessageRequest;
 import com.portfolio.backend.entity.ContactMessage;
 import com.portfolio.backend.exception.GlobalExceptionHandler;
+import com.portfolio.backend.exception.IngestionQueueFullException;
+import com.portfolio.backend.service.ContactMessageIngestionQueue;
 import com.portfolio.backend.service.ContactMessageService;
+import com.portfolio.backend.service.ExportService;
 import com.portfolio.backend.service.RecaptchaService;
 
 class PublicMessageControllerTest {
@@ -42,6 +49,12 @@ class PublicMessageControllerTest {
     @Mock
     private RecaptchaService recaptchaService;
 
+    @Mock
+    private ContactMessageIngestionQueue ingestionQueue;
+
+    @Mock
+    private ExportService exportService;
+
     @InjectMocks
     private PublicMessageController publicMessageController;
 
@@ -145,6 +158,47 @@ class PublicMessageControllerTest {
         verify(contactMessageService, never()).saveMessage(any(ContactMessage.class));
     }
 
+    @Test
+    void receiveMessage_shouldEnqueueInsteadOfSaving_whenIngestionQueueEnabled() throws Exception {
+        ContactMessageRequest request = new ContactMessageRequest();
+        request.setName("John");
+        request.setEmail("test@email.com");
+        request.setSubject("Sujet de test");
+        request.setMessage("Ceci est un message de test.");
+        request.setRecaptcha("token");
+
+        Mockito.when(ingestionQueue.isEnabled()).thenReturn(true);
+        Mockito.when(recaptchaService.isTokenValid(Mockito.anyString(), Mockito.any())).thenReturn(true);
+
+        mockMvc.perform(post("/api/messages")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted());
+
+        verify(ingestionQueue).enqueue(any(ContactMessage.class));
+        verify(contactMessageService, never()).saveMessage(any(ContactMessage.class));
+    }
+
+    @Test
+    void receiveMessage_shouldReturnServiceUnavailable_whenIngestionQueueFull() throws Exception {
+        ContactMessageRequest request = new ContactMessageRequest();
+        request.setName("John");
+        request.setEmail("test@email.com");
+        request.setSubject("Sujet de test");
+        request.setMessage("Ceci est un message de test.");
+        request.setRecaptcha("token");
+
+        Mockito.when(ingestionQueue.isEnabled()).thenReturn(true);
+        Mockito.when(recaptchaService.isTokenValid(Mockito.anyString(), Mockito.any())).thenReturn(true);
+        doThrow(new IngestionQueueFullException("full")).when(ingestionQueue).enqueue(any(ContactMessage.class));
+
+        mockMvc.perform(post("/api/messages")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @Test
     void receiveMessage_shouldReturnBadRequest_whenMissingFields() throws Exception {
         ContactMessageRequest request = new ContactMessageRequest();
@@ -162,9 +216,16 @@ class PublicMessageControllerTest {
 
     @Test
     void getMessages_shouldReturnListForAdmins() throws Exception {
-        Mockito.when(contactMessageService.findAllMessages()).thenReturn(List.of(new ContactMessage()));
+        Mockito.when(exportService.jsonArray(ContactMessage.class))
+                .thenReturn(outputStream -> outputStream.write("[{\"name\":\"John\"}]".getBytes()));
+
+        MvcResult result = mockMvc.perform(get("/api/messages"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
-        mockMvc.perform(get("/api/messages"))
-                .andExpect(status().isOk());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].name").value("John"));
     }
 }
@@ -0,0 +1,270 @@
+package com.portfolio.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.entity.User;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.RoleRepository;
+import com.portfolio.backend.repository.SkillRepository;
+import com.portfolio.backend.repository.UserRepository;
+import com.portfolio.backend.support.SqlStatistics;
+import com.portfolio.backend.support.SqlStatisticsConfig;
+
+/**
+ * Pins the number of SQL statements issued per endpoint so that an N+1
+ * introduced by a mapping or serialization change fails the build.
+ * <p>
+ * Budgets are exact: an improvement should lower the budget in the same
+ * change so that it cannot silently regress afterwards.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatisticsConfig.class)
+@WithMockUser(roles = "ADMIN")
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        skillRepository.deleteAll();
+        contactMessageRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void testListProjectsBudget() throws Exception {
+        saveProjects(500);
+
+        SqlStatistics.Snapshot snapshot = measure(get("/api/projects"));
+
+        // List attributes are array columns of the project row.
+        assertEquals(1, snapshot.statements());
+        assertEquals(500, snapshot.rows());
+    }
+
+    @Test
+    void testProjectLookupBudget() throws Exception {
+        saveProjects(500);
+        Project project = projectRepository.findAll().get(0);
+
+        assertEquals(1, measure(get("/api/projects/status/Completed")).statements());
+        // Both served from the second-level and query cache.
+        assertEquals(0, measure(get("/api/projects/status/Completed")).statements());
+        assertEquals(0, measure(get("/api/projects/" + project.getId())).statements());
+    }
+
+    @Test
+    void testPatchProjectBudget() throws Exception {
+        saveProjects(1);
+        Project project = projectRepository.findAll().get(0);
+
+        // A cached lookup, then a single UPDATE of the changed columns.
+        assertEquals(1, measure(patch("/api/projects/" + project.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"summary\":\"Typo fixed\"}")).statements());
+        // Nothing changed: no UPDATE at all. The lookup hits the database again
+        // because an unversioned, dynamically updated entity is evicted on update.
+        assertEquals(1, measure(patch("/api/projects/" + project.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"summary\":\"Typo fixed\"}")).statements());
+    }
+
+    @Test
+    void testReplaceProjectSkillsBudget() throws Exception {
+        saveProjects(1);
+        Project project = projectRepository.findAll().get(0);
+        for (int i = 0; i < 10; i++) {
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skillRepository.save(skill);
+        }
+
+        // The project comes from the cache: one IN query for the names, its
+        // current skills, then the join rows in a single batch.
+        assertEquals(2 + 1, measure(put("/api/projects/" + project.getId() + "/skills")
+                .contentType("application/json")
+                .content("{\"skillNames\":[\"skill 0\",\"skill 1\",\"skill 2\"]}")).statements());
+        // One skill swapped: a single DELETE and a single INSERT, not a rewrite.
+        assertEquals(2 + 2, measure(put("/api/projects/" + project.getId() + "/skills")
+                .contentType("application/json")
+                .content("{\"skillNames\":[\"skill 0\",\"skill 1\",\"skill 3\"]}")).statements());
+    }
+
+    @Test
+    void testListSkillsBudget() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skillRepository.save(skill);
+        }
+
+        SqlStatistics.Snapshot snapshot = measure(get("/api/admin/skills"));
+
+        // A constructor expression: the projects are never loaded.
+        assertEquals(1, snapshot.statements());
+        assertEquals(50, snapshot.rows());
+    }
+
+    @Test
+    void testSkillMatrixBudget() throws Exception {
+        saveProjects(20);
+        for (int i = 0; i < 10; i++) {
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skillRepository.save(skill);
+        }
+        for (Project project : projectRepository.findAll()) {
+            measure(put("/api/projects/" + project.getId() + "/skills")
+                    .contentType("application/json")
+                    .content("{\"skillNames\":[\"skill 0\",\"skill 1\",\"skill 2\"]}"));
+        }
+
+        // One aggregate query, then served from memory until the catalog changes.
+        assertEquals(1, measure(get("/api/skills/matrix")).statements());
+        assertEquals(0, measure(get("/api/skills/matrix")).statements());
+        measure(put("/api/projects/" + projectRepository.findAll().get(0).getId() + "/skills")
+                .contentType("application/json")
+                .content("{\"skillNames\":[\"skill 3\"]}"));
+        assertEquals(1, measure(get("/api/skills/matrix")).statements());
+    }
+
+    @Test
+    void testListUsersBudget() throws Exception {
+        Role role = new Role();
+        role.setName("ADMIN");
+        roleRepository.save(role);
+        for (int i = 0; i < 50; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("secret");
+            user.setRole(role);
+            user.setCreatedAt(LocalDateTime.now());
+            userRepository.save(user);
+        }
+
+        SqlStatistics.Snapshot snapshot = measure(get("/api/admin/users"));
+
+        // A constructor expression joining the role.
+        assertEquals(1, snapshot.statements());
+        assertEquals(50, snapshot.rows());
+    }
+
+    @Test
+    void testListRolesBudget() throws Exception {
+        for (String name : List.of("ADMIN", "USER")) {
+            Role role = new Role();
+            role.setName(name);
+            roleRepository.save(role);
+        }
+
+        assertEquals(1, measure(get("/api/admin/roles")).statements());
+    }
+
+    @Test
+    void testListMessagesBudget() throws Exception {
+        List<ContactMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            messages.add(message("user" + i + "@example.com"));
+        }
+        contactMessageRepository.saveAll(messages);
+
+        SqlStatistics.Snapshot snapshot = measure(get("/api/messages"));
+
+        assertEquals(1, snapshot.statements());
+        assertEquals(200, snapshot.rows());
+    }
+
+    @Test
+    void testMessageLookupBudget() throws Exception {
+        ContactMessage message = contactMessageRepository.save(message("user@example.com"));
+
+        assertEquals(1, measure(get("/api/admin/messages/" + message.getId())).statements());
+        assertEquals(1, measure(get("/api/admin/messages/email/user@example.com")).statements());
+        assertEquals(1, measure(get("/api/admin/messages/unread")).statements());
+        // Served from the in-memory counters.
+        assertEquals(0, measure(get("/api/admin/messages/stats")).statements());
+    }
+
+    private SqlStatistics.Snapshot measure(RequestBuilder request) throws Exception {
+        SqlStatistics.reset();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        } else {
+            assertEquals(2, result.getResponse().getStatus() / 100);
+        }
+        return SqlStatistics.snapshot();
+    }
+
+    private void saveProjects(int count) {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setDescription("Description " + i);
+            project.setStatus("Completed");
+            project.setTags(new ArrayList<>(List.of("java", "spring")));
+            project.setStack(new ArrayList<>(List.of("PostgreSQL")));
+            projects.add(project);
+        }
+        projectRepository.saveAll(projects);
+    }
+
+    private ContactMessage message(String email) {
+        ContactMessage message = new ContactMessage();
+        message.setName("User");
+        message.setEmail(email);
+        message.setSubject("Subject");
+        message.setMessage("Hello");
+        message.setCreatedAt(LocalDateTime.now());
+        return message;
+    }
+}
@@ -26,6 +26,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.portfolio.backend.dto.RoleSummary;
 import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.service.RoleService;
 
@@ -51,17 +52,9 @@ class RoleControllerTest {
     @Test
     void testGetAllRoles() throws Exception {
         // Arrange
-        Role role1 = new Role();
-        role1.setId(1L);
-        role1.setName("ADMIN");
+        List<RoleSummary> roles = Arrays.asList(new RoleSummary(1L, "ADMIN"), new RoleSummary(2L, "USER"));
 
-        Role role2 = new Role();
-        role2.setId(2L);
-        role2.setName("USER");
-
-        List<Role> roles = Arrays.asList(role1, role2);
-
-        when(roleService.findAllRoles()).thenReturn(roles);
+        when(roleService.findAllRoleSummaries()).thenReturn(roles);
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/roles"))
@@ -69,9 +62,10 @@ class RoleControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].name").value("ADMIN"))
-                .andExpect(jsonPath("$[1].name").value("USER"));
+                .andExpect(jsonPath("$[1].name").value("USER"))
+                .andExpect(jsonPath("$[0].users").doesNotExist());
 
-        verify(roleService, times(1)).findAllRoles();
+        verify(roleService, times(1)).findAllRoleSummaries();
     }
 
     @Test
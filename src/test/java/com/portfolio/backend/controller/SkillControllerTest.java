@@ -1,13 +1,18 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.dto.SkillSummary;
 import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.repository.SkillRepository;
+import com.portfolio.backend.service.ExportService;
 import com.portfolio.backend.service.SkillService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,6 +31,9 @@ class SkillControllerTest {
     @Mock
     private SkillService skillService;
 
+    @Mock
+    private ExportService exportService;
+
     @InjectMocks
     private SkillController skillController;
 
@@ -36,14 +44,14 @@ class SkillControllerTest {
 
     @Test
     void testGetAllSkills() {
-        List<Skill> skills = Arrays.asList(new Skill(), new Skill());
-        when(skillService.findAllSkills()).thenReturn(skills);
+        StreamingResponseBody body = outputStream -> { };
+        when(exportService.jsonArray(SkillRepository.SUMMARY_QUERY, SkillSummary.class)).thenReturn(body);
 
-        ResponseEntity<List<Skill>> response = skillController.getAllSkills();
+        ResponseEntity<StreamingResponseBody> response = skillController.getAllSkills();
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(2, response.getBody().size());
-        verify(skillService, times(1)).findAllSkills();
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(body, response.getBody());
     }
 
     @Test
@@ -1,7 +1,9 @@
 package com.portfolio.backend.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -19,9 +21,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dto.UserSummary;
 import com.portfolio.backend.entity.User;
+import com.portfolio.backend.repository.UserRepository;
+import com.portfolio.backend.service.ExportService;
 import com.portfolio.backend.service.UserService;
 
 /**
@@ -32,6 +40,9 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ExportService exportService;
+
     @InjectMocks
     private UserController userController;
 
@@ -43,14 +54,14 @@ class UserControllerTest {
     @Test
     @DisplayName("Should return all users successfully")
     void testGetAllUsers() {
-        List<User> users = Arrays.asList(new User(), new User());
-        when(userService.findAllUsers()).thenReturn(users);
+        StreamingResponseBody body = outputStream -> { };
+        when(exportService.jsonArray(UserRepository.SUMMARY_QUERY, UserSummary.class)).thenReturn(body);
 
-        ResponseEntity<List<User>> response = userController.getAllUsers();
+        ResponseEntity<StreamingResponseBody> response = userController.getAllUsers();
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(2, response.getBody().size());
-        verify(userService, times(1)).findAllUsers();
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(body, response.getBody());
     }
 
     @Test
@@ -60,7 +71,7 @@ class UserControllerTest {
         user.setEmail("test@example.com");
         when(userService.findUserByEmail("test@example.com")).thenReturn(Optional.of(user));
 
-        ResponseEntity<User> response = userController.getUserByEmail("test@example.com");
+        ResponseEntity<UserSummary> response = userController.getUserByEmail("test@example.com");
 
         assertEquals(200, response.getStatusCode().value());
         assertNotNull(response.getBody());
@@ -75,7 +86,7 @@ class UserControllerTest {
         user.setUsername("testuser");
         when(userService.findUserByUsername("testuser")).thenReturn(Optional.of(user));
 
-        ResponseEntity<User> response = userController.getUserByUsername("testuser");
+        ResponseEntity<UserSummary> response = userController.getUserByUsername("testuser");
 
         assertEquals(200, response.getStatusCode().value());
         assertNotNull(response.getBody());
@@ -89,7 +100,7 @@ class UserControllerTest {
         List<User> users = Arrays.asList(new User(), new User());
         when(userService.findUsersByRoleName("ADMIN")).thenReturn(users);
 
-        ResponseEntity<List<User>> response = userController.getUsersByRoleName("ADMIN");
+        ResponseEntity<List<UserSummary>> response = userController.getUsersByRoleName("ADMIN");
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -103,7 +114,7 @@ class UserControllerTest {
         List<User> users = Arrays.asList(new User(), new User());
         when(userService.findUsersCreatedAfter(date)).thenReturn(users);
 
-        ResponseEntity<List<User>> response = userController.getUsersCreatedAfter(date);
+        ResponseEntity<List<UserSummary>> response = userController.getUsersCreatedAfter(date);
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -134,12 +145,22 @@ class UserControllerTest {
         verify(userService, times(1)).deleteUserById(userId);
     }
 
+    @Test
+    @DisplayName("Should accept a password in requests but never write it in responses")
+    void testPasswordIsWriteOnly() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        User user = objectMapper.readValue("{\"username\":\"admin\",\"password\":\"secret\"}", User.class);
+
+        assertEquals("secret", user.getPassword());
+        assertFalse(objectMapper.writeValueAsString(user).contains("password"));
+    }
+
     @Test
     @DisplayName("Should handle case when user by email is not found")
     void testGetUserByEmail_NotFound() {
         when(userService.findUserByEmail("notfound@example.com")).thenReturn(Optional.empty());
 
-        ResponseEntity<User> response = userController.getUserByEmail("notfound@example.com");
+        ResponseEntity<UserSummary> response = userController.getUserByEmail("notfound@example.com");
 
         assertEquals(404, response.getStatusCode().value());
         verify(userService, times(1)).findUserByEmail("notfound@example.com");
@@ -0,0 +1,93 @@
+package com.portfolio.backend.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void testLayout() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.nextUuid();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        // The counter may have pushed the timestamp slightly ahead.
+        assertTrue(millis >= before && millis <= after + 1, "timestamp " + millis);
+    }
+
+    @Test
+    void testMonotonicWithinAMillisecond() {
+        UUID previous = UuidV7Generator.nextUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7Generator.nextUuid();
+            assertTrue(compareUnsigned(previous, next) < 0, previous + " >= " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testUniqueAndOrderedPerThreadAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<List<UUID>>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(UuidV7Generator.nextUuid());
+                    }
+                    return ids;
+                });
+            }
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : executor.invokeAll(tasks)) {
+                List<UUID> ids = future.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0);
+                }
+                all.addAll(ids);
+            }
+            assertEquals(8 * 20_000, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTimestampOfAnIdCreatedAtAGivenTime() {
+        Instant createdAt = Instant.parse("2023-03-14T15:09:26.535Z");
+        UUID uuid = UuidV7Generator.uuidAt(createdAt);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(createdAt, UuidV7Generator.timestamp(uuid));
+        assertNull(UuidV7Generator.timestamp(UUID.randomUUID()));
+    }
+
+    /**
+     * The byte order PostgreSQL sorts uuid columns in; {@link UUID#compareTo}
+     * compares signed halves.
+     */
+    private static int compareUnsigned(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,87 @@
+package com.portfolio.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.entity.User;
+import com.portfolio.backend.support.SqlStatistics;
+import com.portfolio.backend.support.SqlStatisticsConfig;
+
+/**
+ * Pins the round trips of bulk inserts: ids are reserved from the sequences
+ * 50 at a time and the rows are sent as JDBC batches of 50, where IDENTITY
+ * columns took one INSERT per row.
+ * <p>
+ * Each test starts from a fresh sequence, whose first value is a block on its
+ * own; this context must not insert rows anywhere else.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SqlStatisticsConfig.class)
+class BatchInsertTest {
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void testSkillInsertsAreBatched() {
+        List<Skill> skills = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skills.add(skill);
+        }
+
+        SqlStatistics.reset();
+        skillRepository.saveAll(skills);
+        entityManager.flush();
+
+        // Three sequence calls (the first value alone, then two blocks of 50) and two batches.
+        assertEquals(3 + 2, SqlStatistics.snapshot().statements());
+        assertEquals(100, skillRepository.count());
+    }
+
+    @Test
+    void testUserInsertsAreBatched() {
+        Role role = new Role();
+        role.setName("ADMIN");
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("secret");
+            user.setRole(role);
+            user.setCreatedAt(LocalDateTime.now());
+            users.add(user);
+        }
+
+        SqlStatistics.reset();
+        entityManager.persist(role);
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        // The role: one sequence call and its INSERT. The users: as for skills.
+        assertEquals((1 + 1) + (3 + 2), SqlStatistics.snapshot().statements());
+        assertEquals(100, userRepository.count());
+    }
+}
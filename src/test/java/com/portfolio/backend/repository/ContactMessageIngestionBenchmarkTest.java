@@ -0,0 +1,94 @@
+package com.portfolio.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+/**
+ * Compares sustained insert throughput of the per-request path (one
+ * {@code save} and one transaction per message) with the batched path used by
+ * the write-behind ingestion queue.
+ * <p>
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=ContactMessageIngestionBenchmarkTest}.
+ * </p>
+ */
+@DataJpaTest
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContactMessageIngestionBenchmarkTest {
+
+    private static final int MESSAGES = 5_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareInsertThroughput() {
+        long perRequestNanos = time(() -> {
+            for (int i = 0; i < MESSAGES; i++) {
+                contactMessageRepository.save(message(false));
+            }
+        });
+        contactMessageRepository.deleteAllInBatch();
+
+        long batchedNanos = time(() -> {
+            List<ContactMessage> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < MESSAGES; i++) {
+                batch.add(message(true));
+                if (batch.size() == BATCH_SIZE) {
+                    contactMessageRepository.batchInsert(batch);
+                    batch.clear();
+                }
+            }
+            contactMessageRepository.batchInsert(batch);
+        });
+
+        assertEquals(MESSAGES, contactMessageRepository.count());
+        System.out.printf("contact_message inserts: per-request %.0f rows/s, batched(%d) %.0f rows/s%n",
+                rate(perRequestNanos), BATCH_SIZE, rate(batchedNanos));
+    }
+
+    private long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private double rate(long nanos) {
+        return MESSAGES / (nanos / 1_000_000_000.0);
+    }
+
+    private ContactMessage message(boolean withId) {
+        ContactMessage message = new ContactMessage();
+        if (withId) {
+            message.setId(UUID.randomUUID());
+            message.setCreatedAt(LocalDateTime.now());
+        }
+        message.setName("Benchmark");
+        message.setEmail("bench@example.com");
+        message.setSubject("Load test");
+        message.setMessage("Sustained ingestion benchmark message");
+        return message;
+    }
+}
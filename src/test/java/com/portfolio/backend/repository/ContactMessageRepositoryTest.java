@@ -2,22 +2,36 @@ package com.portfolio.backend.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import com.portfolio.backend.dto.DailyMessageCount;
 import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.UuidV7Generator;
 
 /**
  * Unit tests for ContactMessageRepository.
  */
 @DataJpaTest
+@Import(ReadOnlyEntityStreamer.class)
 class ContactMessageRepositoryTest {
 
     @Autowired
     private ContactMessageRepository contactMessageRepository;
 
+    @Autowired
+    private ReadOnlyEntityStreamer entityStreamer;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private ContactMessage message1;
     private ContactMessage message2;
 
@@ -63,10 +77,163 @@ class ContactMessageRepositoryTest {
         assertFalse(unreadMessages.get(0).isRead());
     }
 
+    @Test
+    void testFindByReadFalseAndSpamFalse() {
+        ContactMessage spam = new ContactMessage();
+        spam.setName("Bot");
+        spam.setEmail("bot@example.com");
+        spam.setSubject("Cheap backlinks");
+        spam.setMessage("Buy cheap backlinks now");
+        spam.setSpam(true);
+        contactMessageRepository.save(spam);
+
+        List<ContactMessage> inbox = contactMessageRepository.findByReadFalseAndSpamFalseAndArchivedFalse();
+
+        assertEquals(1, inbox.size());
+        assertEquals("user1@example.com", inbox.get(0).getEmail());
+        assertEquals(1, contactMessageRepository.findBySpam(true).size());
+    }
+
+    @Test
+    void testBulkUpdateReadByEmail() {
+        int affected = contactMessageRepository.bulkUpdateRead(
+                new ContactMessageCriteria(null, null, "USER1@example.com", null), true);
+
+        assertEquals(1, affected);
+        assertTrue(contactMessageRepository.findByReadFalse().isEmpty());
+    }
+
+    @Test
+    void testBulkArchiveByKeywordAndIds() {
+        ContactMessageCriteria criteria = new ContactMessageCriteria(
+                List.of(message1.getId(), message2.getId()), null, null, "PORTFOLIO");
+
+        assertEquals(1, contactMessageRepository.bulkArchive(criteria));
+        assertEquals(0, contactMessageRepository.bulkArchive(criteria));
+        assertTrue(contactMessageRepository.findByReadFalseAndSpamFalseAndArchivedFalse().isEmpty());
+    }
+
+    @Test
+    void testBulkDeleteOlderThan() {
+        int affected = contactMessageRepository.bulkDelete(
+                new ContactMessageCriteria(null, LocalDateTime.now().plusMinutes(1), null, null));
+
+        assertEquals(2, affected);
+        assertEquals(0, contactMessageRepository.count());
+    }
+
+    @Test
+    void testBulkOperationsRejectEmptyCriteria() {
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> contactMessageRepository.bulkDelete(new ContactMessageCriteria(List.of(), null, " ", null)));
+        assertEquals(2, contactMessageRepository.count());
+    }
+
+    @Test
+    void testMarkAsRead() {
+        CreatedAtRange range = CreatedAtRange.of(message1.getId());
+        assertEquals(1, contactMessageRepository.markAsRead(message1.getId(), range.from(), range.to()));
+        assertEquals(0, contactMessageRepository.markAsRead(message1.getId(), range.from(), range.to()));
+        assertEquals(0, contactMessageRepository.markAsRead(UUID.randomUUID(), range.from(), range.to()));
+    }
+
+    @Test
+    void testMarkInboxMessageAsReadSkipsSpam() {
+        message1.setSpam(true);
+        contactMessageRepository.saveAndFlush(message1);
+        CreatedAtRange range = CreatedAtRange.of(message1.getId());
+
+        assertEquals(0, contactMessageRepository.markInboxMessageAsRead(message1.getId(), range.from(), range.to()));
+        assertEquals(1, contactMessageRepository.markAsRead(message1.getId(), range.from(), range.to()));
+    }
+
+    @Test
+    void testBackdatedMessageIdCarriesItsCreationDate() {
+        ContactMessage old = new ContactMessage();
+        old.setName("User 3");
+        old.setEmail("user3@example.com");
+        old.setSubject("Old message");
+        old.setMessage("Imported from the previous site.");
+        old.setCreatedAt(LocalDateTime.of(2023, 3, 14, 15, 9, 26));
+        contactMessageRepository.saveAndFlush(old);
+
+        CreatedAtRange range = CreatedAtRange.of(old.getId());
+        assertTrue(range.isBounded());
+        assertFalse(old.getCreatedAt().isBefore(range.from()));
+        assertFalse(old.getCreatedAt().isAfter(range.to()));
+        assertTrue(contactMessageRepository.findByIdAndCreatedAtBetween(old.getId(), range.from(), range.to())
+                .isPresent());
+        assertEquals(1, contactMessageRepository.markReviewed(old.getId(), old.getCreatedAt(), true));
+        assertEquals(1, contactMessageRepository.deleteByIdAndCreatedAt(old.getId(), old.getCreatedAt()));
+    }
+
+    @Test
+    void testFindByIdInPartitionFallsBackToEveryPartition() {
+        // A row whose id does not match its creation date, as stored before the ids carried it.
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE contact_message SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", LocalDateTime.now().minusYears(1))
+                .setParameter("id", message1.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        assertTrue(contactMessageRepository.findByIdInPartition(message1.getId()).isPresent());
+        assertTrue(contactMessageRepository.findByIdInPartition(UuidV7Generator.nextUuid()).isEmpty());
+    }
+
+    @Test
+    void testCountersAndCountPerDay() {
+        assertEquals(1, contactMessageRepository.countByReadFalseAndSpamFalseAndArchivedFalse());
+        assertEquals(0, contactMessageRepository.countBySpamTrue());
+
+        List<DailyMessageCount> perDay = contactMessageRepository
+                .countPerDaySince(LocalDateTime.now().minusDays(1));
+
+        assertEquals(1, perDay.size());
+        assertEquals(LocalDateTime.now().toLocalDate(), perDay.get(0).getDay());
+        assertEquals(2, perDay.get(0).getReceived());
+        assertEquals(0, perDay.get(0).getSpam());
+    }
+
+    @Test
+    void testBatchInsert() {
+        ContactMessage first = new ContactMessage();
+        first.setId(UUID.randomUUID());
+        first.setName("Batch 1");
+        first.setEmail("batch@example.com");
+        first.setSubject("Batch subject");
+        first.setMessage("First batched message");
+        first.setCreatedAt(LocalDateTime.now());
+        ContactMessage second = new ContactMessage();
+        second.setId(UUID.randomUUID());
+        second.setName("Batch 2");
+        second.setEmail("batch@example.com");
+        second.setSubject("Batch subject");
+        second.setMessage("Second batched message");
+        second.setCreatedAt(LocalDateTime.now());
+
+        contactMessageRepository.batchInsert(List.of(first, second));
+
+        List<ContactMessage> messages = contactMessageRepository.findByEmail("batch@example.com");
+        assertEquals(2, messages.size());
+        assertEquals(4, contactMessageRepository.count());
+    }
+
     @Test
     void testSearchByKeyword() {
         List<ContactMessage> messages = contactMessageRepository.searchByKeyword("portfolio");
         assertEquals(1, messages.size());
         assertEquals("Inquiry about services", messages.get(0).getSubject());
     }
+
+    @Test
+    void testStreamMessagesInOrder() throws Exception {
+        List<String> emails = new ArrayList<>();
+
+        long rows = entityStreamer.forEach("SELECT cm FROM ContactMessage cm ORDER BY cm.email",
+                ContactMessage.class, message -> emails.add(message.getEmail()));
+
+        assertEquals(2, rows);
+        assertEquals(List.of("user1@example.com", "user2@example.com"), emails);
+    }
 }
@@ -0,0 +1,97 @@
+package com.portfolio.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.portfolio.backend.entity.Project;
+
+/**
+ * Compares importing a catalog one {@code save} (and one transaction) per
+ * project with the batched upsert used by the bulk import endpoint, then
+ * re-imports the same catalog to measure the update path.
+ * <p>
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=ProjectImportBenchmarkTest}.
+ * </p>
+ */
+@DataJpaTest
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectImportBenchmarkTest {
+
+    private static final int PROJECTS = 10_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareImportThroughput() {
+        long perRequestNanos = time(() -> {
+            for (int i = 0; i < PROJECTS; i++) {
+                projectRepository.save(project(null, i));
+            }
+        });
+        projectRepository.deleteAllInBatch();
+
+        List<Project> catalog = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            catalog.add(project(UUID.randomUUID(), i));
+        }
+        long batchedInsertNanos = time(() -> upsert(catalog));
+        long batchedUpdateNanos = time(() -> upsert(catalog));
+
+        assertEquals(PROJECTS, projectRepository.count());
+        System.out.printf("project import: per-request %.0f rows/s, batched(%d) insert %.0f rows/s, "
+                + "update %.0f rows/s%n", rate(perRequestNanos), BATCH_SIZE, rate(batchedInsertNanos),
+                rate(batchedUpdateNanos));
+    }
+
+    private void upsert(List<Project> catalog) {
+        for (int from = 0; from < catalog.size(); from += BATCH_SIZE) {
+            projectRepository.batchUpsert(catalog.subList(from, Math.min(from + BATCH_SIZE, catalog.size())));
+        }
+    }
+
+    private long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private double rate(long nanos) {
+        return PROJECTS / (nanos / 1_000_000_000.0);
+    }
+
+    private Project project(UUID id, int i) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Project " + i);
+        project.setDescription("Imported catalog entry");
+        project.setStatus("completed");
+        project.setTags(List.of("java", "spring"));
+        project.setStack(List.of("Spring Boot", "PostgreSQL"));
+        project.setFeatures(List.of("Bulk import"));
+        project.setCreatedAt(LocalDateTime.now());
+        project.setUpdatedAt(LocalDateTime.now());
+        return project;
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portfolio.backend.entity.Project;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The PostgreSQL upsert, which the H2 tests cannot run.
+ */
+class ProjectRepositoryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testPostgresUpsertReportsExistingRowsFromReturning() throws Exception {
+        Project existing = project(new UUID(1, 1));
+        Project created = project(new UUID(1, 2));
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture())).thenReturn(statement);
+        ResultSet rows = mock(ResultSet.class);
+        when(rows.getObject("id", UUID.class)).thenReturn(existing.getId(), created.getId());
+        when(rows.getBoolean("inserted")).thenReturn(false, true);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, PreparedStatementCreator.class).createPreparedStatement(connection);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rows);
+            handler.processRow(rows);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        Set<UUID> updated = new ProjectRepositoryImpl(jdbcTemplate, entityManagerFactory)
+                .batchUpsert(List.of(created, existing), Set.of());
+
+        assertEquals(Set.of(existing.getId()), updated);
+        assertTrue(sql.getValue().startsWith("INSERT INTO project ("));
+        assertTrue(sql.getValue().contains("), (?"));
+        assertTrue(sql.getValue().contains(" ON CONFLICT (id) DO UPDATE SET title = EXCLUDED.title, "));
+        assertTrue(sql.getValue().endsWith("updated_at = EXCLUDED.updated_at RETURNING id, xmax = 0 AS inserted"));
+        // No read before the write: the statement itself tells which rows existed.
+        verify(jdbcTemplate, never()).queryForList(anyString(), any(Class.class), any(Object[].class));
+    }
+
+    private static Project project(UUID id) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Project " + id);
+        project.setDescription("Imported.");
+        project.setStatus("Draft");
+        project.setCreatedAt(LocalDateTime.now());
+        project.setUpdatedAt(LocalDateTime.now());
+        return project;
+    }
+}
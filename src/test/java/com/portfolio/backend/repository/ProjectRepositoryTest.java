@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,9 +15,12 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.portfolio.backend.dto.ProjectCard;
 import com.portfolio.backend.entity.Project;
 import com.portfolio.backend.entity.Skill;
 
+import jakarta.persistence.EntityManager;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 @ActiveProfiles("test")
@@ -27,6 +32,9 @@ class ProjectRepositoryTest {
     @Autowired
     private SkillRepository skillRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         
@@ -93,6 +101,32 @@ class ProjectRepositoryTest {
         assertEquals("Java Project", javaProjects.get(0).getTitle());
     }
 
+    @Test
+    void testFindCards() {
+        Skill skill = new Skill();
+        skill.setName("Java");
+        skillRepository.save(skill);
+        Project project = projectRepository.findByStatus("Completed").get(0);
+        project.setTags(List.of("java", "spring"));
+        project.setStack(List.of("PostgreSQL"));
+        project.setSkills(List.of(skill));
+        projectRepository.saveAndFlush(project);
+        entityManager.clear();
+
+        List<ProjectCard> cards = projectRepository.findCardsBySkillName("java");
+
+        assertEquals(1, cards.size());
+        assertEquals(project.getId(), cards.get(0).getId());
+        assertEquals("Portfolio Website", cards.get(0).getTitle());
+        assertEquals(List.of("java", "spring"), cards.get(0).getTags());
+        assertEquals(1, projectRepository.findCardsByStatus("Completed").size());
+        assertEquals(1, projectRepository.findCardsByCreatedAtAfter(LocalDateTime.now().minusDays(7)).size());
+        assertEquals(1, projectRepository.findCardsByTitleContainingIgnoreCase("PORTFOLIO").size());
+        assertEquals(List.of("E-commerce Platform", "Portfolio Website"), entityManager
+                .createQuery(ProjectRepository.CARD_QUERY, ProjectCard.class).getResultStream()
+                .map(ProjectCard::getTitle).toList());
+    }
+
     @Test
     void testFindAllByOrderByCreatedAtDesc() {
         List<Project> projects = projectRepository.findAllByOrderByCreatedAtDesc();
@@ -100,4 +134,77 @@ class ProjectRepositoryTest {
         assertEquals("E-commerce Platform", projects.get(0).getTitle()); // Le plus récent
         assertEquals("Portfolio Website", projects.get(1).getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBatchUpsert() {
+        Project existing = projectRepository.findByStatus("Completed").get(0);
+        projectRepository.flush();
+        LocalDateTime createdAt = existing.getCreatedAt();
+
+        Project update = new Project();
+        update.setId(existing.getId());
+        update.setTitle("Portfolio Website v2");
+        update.setDescription("Rewritten.");
+        update.setStatus("Completed");
+        update.setTags(List.of("java", "spring"));
+        update.setCreatedAt(LocalDateTime.now());
+        update.setUpdatedAt(LocalDateTime.now());
+
+        Project created = new Project();
+        created.setId(UUID.randomUUID());
+        created.setTitle("CLI Tool");
+        created.setDescription("A command line tool.");
+        created.setStatus("Draft");
+        created.setStack(List.of("Go"));
+        created.setCreatedAt(LocalDateTime.now());
+        created.setUpdatedAt(LocalDateTime.now());
+
+        Set<UUID> updated = projectRepository.batchUpsert(List.of(created, update));
+        entityManager.clear();
+
+        assertEquals(Set.of(existing.getId()), updated);
+        Project reloaded = projectRepository.findById(existing.getId()).orElseThrow();
+        assertEquals("Portfolio Website v2", reloaded.getTitle());
+        assertEquals(List.of("java", "spring"), reloaded.getTags());
+        assertEquals(createdAt.withNano(0), reloaded.getCreatedAt().withNano(0));
+        assertEquals(List.of("Go"), projectRepository.findById(created.getId()).orElseThrow().getStack());
+        assertEquals(3, projectRepository.count());
+    }
+
+    @Test
+    void testBatchUpsertReplacesSkills() {
+        Skill java = new Skill();
+        java.setName("Java");
+        Skill go = new Skill();
+        go.setName("Go");
+        skillRepository.saveAll(List.of(java, go));
+        Project project = new Project();
+        project.setTitle("Java Project");
+        project.setDescription("A project related to Java.");
+        project.setStatus("Completed");
+        project.setSkills(List.of(java));
+        projectRepository.saveAndFlush(project);
+        entityManager.clear();
+
+        Project update = new Project();
+        update.setId(project.getId());
+        update.setTitle("Go Project");
+        update.setDescription("Rewritten in Go.");
+        update.setStatus("Completed");
+        update.setCreatedAt(LocalDateTime.now());
+        update.setUpdatedAt(LocalDateTime.now());
+        update.setSkills(List.of(go));
+        projectRepository.batchUpsert(List.of(update), Set.of(update.getId()));
+        entityManager.clear();
+
+        assertEquals(List.of("Go Project"),
+                projectRepository.findBySkillName("Go").stream().map(Project::getTitle).toList());
+        assertEquals(List.of(), projectRepository.findBySkillName("Java"));
+
+        // Without the id in replaceSkills, the skills are left as they are.
+        update.setSkills(List.of());
+        projectRepository.batchUpsert(List.of(update));
+        entityManager.clear();
+        assertEquals(1, projectRepository.findBySkillName("Go").size());
+    }
+}
@@ -0,0 +1,188 @@
+package com.portfolio.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL generated for the hot repository queries and
+ * fails unless the plan uses the expected index.
+ * <p>
+ * By default the class runs on H2, against the schema Hibernate derives from
+ * the entities rather than the one {@code V10__hot_path_indexes.sql} builds:
+ * it checks that the queries can use an index, not that the migration still
+ * creates it. H2 has no partial or expression indexes either, so the
+ * {@code WHERE read = false} and {@code lower(name)} cases are skipped there.
+ * Setting {@code QUERY_PLAN_DATABASE_URL} (with {@code QUERY_PLAN_DATABASE_USERNAME}
+ * and {@code QUERY_PLAN_DATABASE_PASSWORD}) to an empty PostgreSQL database
+ * runs every case against the Flyway schema instead, with sequential scans
+ * disabled so that the planner picks an index even on empty tables.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.portfolio.backend.repository.SqlStatementRecorder")
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final String POSTGRES_URL = System.getenv("QUERY_PLAN_DATABASE_URL");
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        if (POSTGRES_URL == null || POSTGRES_URL.isBlank()) {
+            return;
+        }
+        registry.add("spring.test.database.replace", () -> "none");
+        registry.add("spring.datasource.url", () -> POSTGRES_URL);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> System.getenv("QUERY_PLAN_DATABASE_USERNAME"));
+        registry.add("spring.datasource.password", () -> System.getenv("QUERY_PLAN_DATABASE_PASSWORD"));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementRecorder.clear();
+        postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+        if (postgres) {
+            // Rolled back with the test transaction.
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void testContactMessageFindByEmailUsesIndex() {
+        contactMessageRepository.findByEmail("user@example.com");
+
+        assertUsesIndex("idx_contact_message_email", "user@example.com");
+    }
+
+    @Test
+    void testContactMessageFindByCreatedAtAfterUsesIndex() {
+        LocalDateTime since = LocalDateTime.now().minusDays(7);
+        contactMessageRepository.findByCreatedAtAfter(since);
+
+        assertUsesIndex("idx_contact_message_created_at", since);
+    }
+
+    @Test
+    void testContactMessageFindByReadFalseUsesPartialIndex() {
+        assumeTrue(postgres, "Partial indexes only exist on PostgreSQL");
+        contactMessageRepository.findByReadFalse();
+
+        assertUsesIndex("idx_contact_message_unread");
+    }
+
+    @Test
+    void testProjectFindByStatusUsesIndex() {
+        projectRepository.findByStatus("published");
+
+        assertUsesIndex("idx_project_status", "published");
+    }
+
+    @Test
+    void testProjectFindByCreatedAtAfterUsesIndex() {
+        LocalDateTime since = LocalDateTime.now().minusDays(7);
+        projectRepository.findByCreatedAtAfter(since);
+
+        assertUsesIndex("idx_project_created_at", since);
+    }
+
+    @Test
+    void testProjectFindAllByOrderByCreatedAtDescUsesIndex() {
+        projectRepository.findAllByOrderByCreatedAtDesc();
+
+        assertUsesIndex("idx_project_created_at");
+    }
+
+    @Test
+    void testProjectFindBySkillNameUsesExpressionIndex() {
+        assumeTrue(postgres, "Expression indexes only exist on PostgreSQL");
+        projectRepository.findBySkillName("Java");
+
+        assertUsesIndex("idx_skill_lower_name", "Java");
+    }
+
+    @Test
+    void testSkillFindByNameUsesIndex() {
+        skillRepository.findByName("Java");
+
+        assertUsesIndex("idx_skill_name", "Java");
+    }
+
+    @Test
+    void testUserFindByUsernameUsesIndex() {
+        userRepository.findByUsername("admin");
+
+        assertUsesIndex("idx_app_user_username", "admin");
+    }
+
+    @Test
+    void testUserFindByEmailUsesIndex() {
+        userRepository.findByEmail("admin@example.com");
+
+        // The index of the UNIQUE constraint, which H2 names itself.
+        assertUsesIndex(postgres ? "app_user_email_key" : jdbcTemplate.queryForObject(
+                "SELECT LOWER(index_name) FROM information_schema.index_columns "
+                        + "WHERE table_name = 'APP_USER' AND column_name = 'EMAIL'", String.class),
+                "admin@example.com");
+    }
+
+    /**
+     * Explains the first statement issued by the repository call.
+     *
+     * @param index  the index expected in the plan; on PostgreSQL, the index
+     *               of a partition matches too.
+     * @param params the query parameters, in order.
+     */
+    private void assertUsesIndex(String index, Object... params) {
+        List<String> statements = SqlStatementRecorder.statements();
+        assertFalse(statements.isEmpty(), "No SQL recorded");
+        String sql = statements.get(0);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params))
+                .toLowerCase(Locale.ROOT);
+
+        assertFalse(plan.contains(postgres ? "seq scan" : "tablescan"), () -> "Full table scan for " + sql + "\n"
+                + plan);
+        List<String> names = new ArrayList<>(List.of(index));
+        if (postgres) {
+            names.addAll(jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                    + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+                    + "WHERE p.relname = ?", String.class, index));
+        }
+        assertTrue(names.stream().anyMatch(plan::contains), () -> "Expected " + index + " in\n" + plan);
+    }
+}
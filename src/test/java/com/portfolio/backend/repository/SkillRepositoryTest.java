@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.portfolio.backend.dto.SkillMatrixEntry;
 import com.portfolio.backend.entity.Project;
 import com.portfolio.backend.entity.Skill;
 
@@ -111,4 +113,37 @@ class SkillRepositoryTest {
         assertEquals(1, recentSkills.size());
         assertEquals("CSS", recentSkills.get(0).getName());
     }
+
+    @Test
+    void testFindSkillMatrix() {
+        Skill java = skill("Java");
+        Skill cobol = skill("Cobol");
+        UUID[] projectIds = new UUID[3];
+        for (int i = 0; i < 3; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setDescription("Description");
+            project.setStatus("Completed");
+            project.setCreatedAt(LocalDateTime.now().minusDays(10 - i));
+            project.setSkills(List.of(java));
+            projectIds[i] = entityManager.persist(project).getId();
+        }
+        entityManager.flush();
+
+        List<SkillMatrixEntry> matrix = skillRepository.findSkillMatrix(2);
+
+        assertEquals(List.of("Cobol", "Java"), matrix.stream().map(SkillMatrixEntry::getName).toList());
+        assertEquals(0, matrix.get(0).getProjectCount());
+        assertTrue(matrix.get(0).getRecentProjectIds().isEmpty());
+        assertEquals(3, matrix.get(1).getProjectCount());
+        assertEquals("Advanced", matrix.get(1).getLevel());
+        assertEquals(List.of(projectIds[2], projectIds[1]), matrix.get(1).getRecentProjectIds());
+    }
+
+    private Skill skill(String name) {
+        Skill skill = new Skill();
+        skill.setName(name);
+        skill.setLevel("Advanced");
+        return entityManager.persist(skill);
+    }
 }
@@ -0,0 +1,90 @@
+package com.portfolio.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.portfolio.backend.entity.UuidV7Generator;
+
+/**
+ * Compares random (v4) and time-ordered (v7) UUID primary keys on a large
+ * table: insert throughput, and the size of the database file holding the
+ * table and its primary key index.
+ * <p>
+ * Each run uses its own file database, so the size difference comes from the
+ * key order alone. On PostgreSQL, compare
+ * {@code pg_relation_size('contact_message_pkey')} instead.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=UuidPrimaryKeyBenchmarkTest}.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidPrimaryKeyBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException, IOException {
+        Result random = insert("v4", UUID::randomUUID);
+        Result timeOrdered = insert("v7", UuidV7Generator::nextUuid);
+
+        System.out.printf("uuid primary key, %d rows: v4 %.0f rows/s %d KiB, v7 %.0f rows/s %d KiB%n", ROWS,
+                random.rate(), random.bytes() / 1024, timeOrdered.rate(), timeOrdered.bytes() / 1024);
+    }
+
+    private Result insert(String name, Supplier<UUID> ids) throws SQLException, IOException {
+        Path file = tempDir.resolve(name);
+        String url = "jdbc:h2:file:" + file + ";MODE=PostgreSQL";
+        long nanos;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE contact_message (id UUID PRIMARY KEY, email VARCHAR(255), "
+                        + "message VARCHAR(1000))");
+            }
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO contact_message (id, email, message) VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, "user" + (i % 1000) + "@example.com");
+                    insert.setString(3, "Benchmark message " + i);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            nanos = System.nanoTime() - start;
+            try (Statement statement = connection.createStatement();
+                    ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM contact_message")) {
+                count.next();
+                assertEquals(ROWS, count.getInt(1));
+            }
+        }
+        return new Result(ROWS / (nanos / 1_000_000_000.0), Files.size(tempDir.resolve(name + ".mv.db")));
+    }
+
+    private record Result(double rate, long bytes) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.portfolio.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.controller.PublicMessageController;
+import com.portfolio.backend.dto.ContactMessageRequest;
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.exception.GlobalExceptionHandler;
+import com.portfolio.backend.repository.IdempotencyRecordRepository;
+import com.portfolio.backend.service.ContactMessageIngestionQueue;
+import com.portfolio.backend.service.ContactMessageService;
+import com.portfolio.backend.service.ExportService;
+import com.portfolio.backend.service.IdempotencyService;
+import com.portfolio.backend.service.RecaptchaService;
+
+import jakarta.servlet.FilterChain;
+
+class IdempotencyFilterTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ContactMessageService contactMessageService;
+
+    @Mock
+    private RecaptchaService recaptchaService;
+
+    @Mock
+    private ContactMessageIngestionQueue ingestionQueue;
+
+    @Mock
+    private ExportService exportService;
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(recaptchaService.isTokenValid(anyString(), any())).thenReturn(true);
+        when(contactMessageService.saveMessage(any(ContactMessage.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc = mockMvc(DataSize.ofKilobytes(256));
+    }
+
+    @Test
+    void retryWithSameKey_shouldReplayWithoutSavingTwice() throws Exception {
+        String body = objectMapper.writeValueAsString(validRequest());
+
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        verify(contactMessageService, times(1)).saveMessage(any(ContactMessage.class));
+    }
+
+    @Test
+    void differentKeys_shouldEachBeProcessed() throws Exception {
+        String body = objectMapper.writeValueAsString(validRequest());
+
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "first")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "second")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted());
+
+        verify(contactMessageService, times(2)).saveMessage(any(ContactMessage.class));
+    }
+
+    @Test
+    void failedRequest_shouldNotBeReplayed() throws Exception {
+        Mockito.when(recaptchaService.isTokenValid(anyString(), any())).thenReturn(false, true);
+        String body = objectMapper.writeValueAsString(validRequest());
+
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(contactMessageService, times(1)).saveMessage(any(ContactMessage.class));
+    }
+
+    @Test
+    void retryWithSameKeyAndDifferentBody_shouldBeRejected() throws Exception {
+        ContactMessageRequest other = validRequest();
+        other.setMessage("Un autre message.");
+
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(validRequest())))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(post("/api/messages").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(other)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(contactMessageService, times(1)).saveMessage(any(ContactMessage.class));
+    }
+
+    @Test
+    void responseAboveLimit_shouldBeSentButNotRecorded() throws Exception {
+        IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyService(idempotencyRecordRepository, 100,
+                Duration.ofHours(24), Duration.ofMinutes(1)), DataSize.ofBytes(4));
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"imported\":1}");
+        };
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/projects/import");
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, chain);
+
+            assertEquals("{\"imported\":1}", response.getContentAsString());
+            assertNull(response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        }
+
+        assertEquals(2, executions.get());
+        verify(idempotencyRecordRepository, never()).complete(anyString(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void requestWithoutKey_shouldBypassIdempotency() throws Exception {
+        String body = objectMapper.writeValueAsString(validRequest());
+
+        mockMvc.perform(post("/api/messages").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(post("/api/messages").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted());
+
+        verify(contactMessageService, times(2)).saveMessage(any(ContactMessage.class));
+        verify(idempotencyRecordRepository, times(0)).findById(anyString());
+    }
+
+    private MockMvc mockMvc(DataSize maxBodySize) {
+        IdempotencyService idempotencyService = new IdempotencyService(idempotencyRecordRepository, 100,
+                Duration.ofHours(24), Duration.ofMinutes(1));
+        return MockMvcBuilders
+                .standaloneSetup(new PublicMessageController(contactMessageService, recaptchaService,
+                        ingestionQueue, exportService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setValidator(new LocalValidatorFactoryBean())
+                .addFilters(new IdempotencyFilter(idempotencyService, maxBodySize))
+                .build();
+    }
+
+    private ContactMessageRequest validRequest() {
+        ContactMessageRequest request = new ContactMessageRequest();
+        request.setName("John");
+        request.setEmail("test@email.com");
+        request.setSubject("Sujet de test");
+        request.setMessage("Ceci est un message de test.");
+        request.setRecaptcha("token");
+        return request;
+    }
+}
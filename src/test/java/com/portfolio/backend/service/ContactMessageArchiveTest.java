@@ -0,0 +1,213 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+class ContactMessageArchiveTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path tempDir;
+
+    private ContactMessageArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        archive = archive(tempDir.resolve("local"));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class),
+                anyString())).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM information_schema"), eq(Integer.class),
+                anyString(), anyString())).thenReturn(1);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM contact_archive."), eq(Long.class)))
+                .thenReturn(0L);
+    }
+
+    @Test
+    void testLookupAcrossBlocks() throws IOException {
+        List<ContactMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            messages.add(message("user" + (i % 50) + "@example.com", "Message " + i + " " + "x".repeat(100)));
+        }
+        archive.archive("contact_message_p2023_01", messages);
+
+        ContactMessage target = messages.get(1234);
+        Optional<ContactMessage> found = archive.findById(target.getId());
+        assertTrue(found.isPresent());
+        assertEquals(target.getMessage(), found.get().getMessage());
+        assertEquals(target.getCreatedAt(), found.get().getCreatedAt());
+        assertTrue(found.get().isRead());
+
+        List<ContactMessage> byEmail = archive.findByEmail("USER7@example.com");
+        assertEquals(40, byEmail.size());
+        assertTrue(byEmail.stream().allMatch(message -> "user7@example.com".equals(message.getEmail())));
+
+        assertFalse(archive.findById(UUID.randomUUID()).isPresent());
+        assertTrue(archive.findByEmail("nobody@example.com").isEmpty());
+        assertTrue(Files.size(tempDir.resolve("local/contact_message_p2023_01" + ContactMessageArchive.DATA_SUFFIX))
+                < 2000 * 100);
+    }
+
+    @Test
+    void testSegmentsAreReopenedFromDisk() throws IOException {
+        ContactMessage message = message("legal@example.com", "Please delete my data");
+        archive.archive("contact_message_p2023_02", List.of(message));
+
+        ContactMessageArchive reopened = archive(tempDir.resolve("local"));
+        reopened.open();
+
+        assertEquals("Please delete my data", reopened.findById(message.getId()).orElseThrow().getMessage());
+        assertEquals(1, reopened.findByEmail("legal@example.com").size());
+    }
+
+    @Test
+    void testArchivePartitionsDropsArchivedTables() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("contact_archive")))
+                .thenReturn(List.of("contact_message_p2023_03", "unrelated_table"));
+
+        archive.archivePartitions();
+
+        verify(jdbcTemplate).execute("DROP TABLE contact_archive.contact_message_p2023_03");
+        for (String directory : List.of("local", "shared")) {
+            assertTrue(Files.exists(tempDir.resolve(directory + "/contact_message_p2023_03"
+                    + ContactMessageArchive.DATA_SUFFIX)));
+            assertTrue(Files.exists(tempDir.resolve(directory + "/contact_message_p2023_03"
+                    + ContactMessageArchive.ID_INDEX_SUFFIX)));
+        }
+    }
+
+    @Test
+    void testPartitionLockedByAnotherInstanceIsLeftAlone() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("contact_archive")))
+                .thenReturn(List.of("contact_message_p2023_03"));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class),
+                anyString())).thenReturn(false);
+
+        archive.archivePartitions();
+
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+    }
+
+    @Test
+    void testPartitionIsKeptWhenTheSharedCopyMissesRows() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("contact_archive")))
+                .thenReturn(List.of("contact_message_p2023_03"));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM contact_archive."), eq(Long.class)))
+                .thenReturn(3L);
+
+        archive.archivePartitions();
+
+        verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testPartitionIsKeptWithoutSharedStorage() {
+        ContactMessageArchive unshared = new ContactMessageArchive(jdbcTemplate, transactionManager, true,
+                tempDir.resolve("local").toString(), "", "contact_archive", 500);
+
+        unshared.archivePartitions();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), anyString());
+        verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+    }
+
+    @Test
+    void testRefreshFetchesSegmentsArchivedByAnotherInstance() throws IOException {
+        ContactMessageArchive other = archive(tempDir.resolve("other"));
+        other.open();
+        ContactMessage message = message("legal@example.com", "Archived elsewhere");
+        archive.archive("contact_message_p2023_06", List.of(message));
+        assertFalse(other.findById(message.getId()).isPresent());
+
+        other.refresh();
+
+        assertEquals("Archived elsewhere", other.findById(message.getId()).orElseThrow().getMessage());
+        assertTrue(Files.exists(tempDir.resolve("other/contact_message_p2023_06" + ContactMessageArchive.DATA_SUFFIX)));
+    }
+
+    @Test
+    void testArchivedTableIsReadThroughACursor() throws Exception {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("contact_archive")))
+                .thenReturn(List.of("contact_message_p2023_05"));
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        archive.archivePartitions();
+
+        verify(transactionManager).getTransaction(any());
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+        creator.getValue().createPreparedStatement(connection);
+        verify(statement).setFetchSize(500);
+    }
+
+    @Test
+    void testDisabledArchiveFindsNothing() throws IOException {
+        ContactMessage message = message("user@example.com", "Hello");
+        archive.archive("contact_message_p2023_04", List.of(message));
+
+        ContactMessageArchive disabled = new ContactMessageArchive(jdbcTemplate, transactionManager, false,
+                tempDir.resolve("local").toString(), tempDir.resolve("shared").toString(), "contact_archive", 500);
+        disabled.open();
+
+        assertFalse(disabled.findById(message.getId()).isPresent());
+    }
+
+    private ContactMessageArchive archive(Path directory) {
+        return new ContactMessageArchive(jdbcTemplate, transactionManager, true, directory.toString(),
+                tempDir.resolve("shared").toString(), "contact_archive", 500);
+    }
+
+    private ContactMessage message(String email, String text) {
+        ContactMessage message = new ContactMessage();
+        message.setId(UUID.randomUUID());
+        message.setName("User");
+        message.setEmail(email);
+        message.setSubject("Subject");
+        message.setMessage(text);
+        message.setRead(true);
+        message.setCreatedAt(LocalDateTime.of(2023, 1, 15, 9, 30));
+        return message;
+    }
+}
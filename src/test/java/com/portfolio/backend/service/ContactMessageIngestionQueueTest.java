@@ -0,0 +1,195 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.exception.IngestionQueueFullException;
+
+class ContactMessageIngestionQueueTest {
+
+    @Mock
+    private ContactMessageService contactMessageService;
+
+    @Mock
+    private ContactMessageSpool contactMessageSpool;
+
+    private final List<Integer> flushedBatchSizes = new CopyOnWriteArrayList<>();
+
+    private ContactMessageIngestionQueue ingestionQueue;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(contactMessageService.saveMessages(anyList())).thenAnswer(invocation -> {
+            List<ContactMessage> batch = invocation.getArgument(0);
+            flushedBatchSizes.add(batch.size());
+            return batch;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (ingestionQueue != null) {
+            ingestionQueue.stop();
+        }
+    }
+
+    @Test
+    void enqueue_shouldAssignIdAndFlushWhenBatchIsFull() {
+        ingestionQueue = queue(true, 100, 5, Duration.ofSeconds(10));
+        ingestionQueue.start();
+
+        ContactMessage first = message();
+        ingestionQueue.enqueue(first);
+        for (int i = 0; i < 4; i++) {
+            ingestionQueue.enqueue(message());
+        }
+
+        verify(contactMessageService, timeout(2000)).saveMessages(anyList());
+        assertEquals(List.of(5), flushedBatchSizes);
+        assertNotNull(first.getId());
+        assertNotNull(first.getCreatedAt());
+    }
+
+    @Test
+    void enqueue_shouldFlushPartialBatchAfterInterval() {
+        ingestionQueue = queue(true, 100, 50, Duration.ofMillis(50));
+        ingestionQueue.start();
+
+        ingestionQueue.enqueue(message());
+        ingestionQueue.enqueue(message());
+
+        verify(contactMessageService, timeout(2000)).saveMessages(anyList());
+        assertEquals(2, flushedBatchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void enqueue_shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch flushing = new CountDownLatch(1);
+        when(contactMessageService.saveMessages(anyList())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        ingestionQueue = queue(true, 2, 1, Duration.ofMillis(10));
+        ingestionQueue.start();
+
+        ingestionQueue.enqueue(message());
+        assertTrue(flushing.await(2, TimeUnit.SECONDS));
+        ingestionQueue.enqueue(message());
+        ingestionQueue.enqueue(message());
+
+        assertThrows(IngestionQueueFullException.class, () -> ingestionQueue.enqueue(message()));
+        release.countDown();
+    }
+
+    @Test
+    void stop_shouldDrainPendingMessages() {
+        ingestionQueue = queue(true, 1000, 100, Duration.ofSeconds(10));
+        ingestionQueue.start();
+        for (int i = 0; i < 250; i++) {
+            ingestionQueue.enqueue(message());
+        }
+
+        ingestionQueue.stop();
+
+        assertEquals(250, flushedBatchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(0, ingestionQueue.size());
+    }
+
+    @Test
+    void enqueue_shouldSaveSynchronously_whenQueueNotRunning() {
+        ingestionQueue = queue(false, 10, 5, Duration.ofMillis(10));
+        ContactMessage message = message();
+
+        ingestionQueue.enqueue(message);
+
+        verify(contactMessageService).saveMessage(message);
+        verify(contactMessageService, never()).saveMessages(any());
+    }
+
+    @Test
+    void flush_shouldRetryBatch_whenDatabaseIsUnavailable() {
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .doAnswer(invocation -> {
+                    List<ContactMessage> batch = invocation.getArgument(0);
+                    flushedBatchSizes.add(batch.size());
+                    return batch;
+                })
+                .when(contactMessageService).saveMessages(anyList());
+        ingestionQueue = queue(true, 100, 3, Duration.ofMillis(10));
+        ingestionQueue.start();
+        for (int i = 0; i < 3; i++) {
+            ingestionQueue.enqueue(message());
+        }
+
+        verify(contactMessageService, timeout(2000).times(3)).saveMessages(anyList());
+        assertEquals(List.of(3), flushedBatchSizes);
+        verify(contactMessageSpool, never()).append(any());
+    }
+
+    @Test
+    void flush_shouldSaveOthersAndSpoolMessageRejectedByTheDatabase() {
+        ContactMessage rejected = message();
+        rejected.setSubject("x".repeat(300));
+        doAnswer(invocation -> {
+            List<ContactMessage> batch = invocation.getArgument(0);
+            if (batch.contains(rejected)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            flushedBatchSizes.add(batch.size());
+            return batch;
+        }).when(contactMessageService).saveMessages(anyList());
+        when(contactMessageSpool.isEnabled()).thenReturn(true);
+        ingestionQueue = queue(true, 100, 3, Duration.ofSeconds(10));
+        ingestionQueue.start();
+        ingestionQueue.enqueue(message());
+        ingestionQueue.enqueue(rejected);
+        ingestionQueue.enqueue(message());
+
+        verify(contactMessageSpool, timeout(2000)).append(rejected);
+        assertEquals(List.of(1, 1), flushedBatchSizes);
+    }
+
+    private ContactMessageIngestionQueue queue(boolean enabled, int capacity, int batchSize, Duration flushInterval) {
+        return new ContactMessageIngestionQueue(contactMessageService, contactMessageSpool, enabled, capacity,
+                batchSize, flushInterval, Duration.ofMillis(20), Duration.ofSeconds(5), Duration.ofMillis(10),
+                Duration.ofMillis(100));
+    }
+
+    private ContactMessage message() {
+        ContactMessage message = new ContactMessage();
+        message.setName("John");
+        message.setEmail("john@example.com");
+        message.setSubject("Hello");
+        message.setMessage("Queued message");
+        return message;
+    }
+}
@@ -0,0 +1,118 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ContactMessagePartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+    }
+
+    @Test
+    void testPartitionNaming() {
+        assertEquals("contact_message_p2025_01", ContactMessagePartitionManager.partitionName(YearMonth.of(2025, 1)));
+        assertEquals(YearMonth.of(2024, 12), ContactMessagePartitionManager.parseMonth("contact_message_p2024_12"));
+        assertNull(ContactMessagePartitionManager.parseMonth("contact_message_default"));
+    }
+
+    @Test
+    void testMaintainCreatesUpcomingPartitionsAndArchivesExpiredOnes() {
+        YearMonth current = YearMonth.now();
+        String expired = ContactMessagePartitionManager.partitionName(current.minusMonths(13));
+        String kept = ContactMessagePartitionManager.partitionName(current.minusMonths(12));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("contact_message_default", expired, kept));
+
+        new ContactMessagePartitionManager(jdbcTemplate, transactionManager, true, 2, 12, "contact_archive").maintain();
+
+        verify(jdbcTemplate, times(3)).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS "
+                + ContactMessagePartitionManager.partitionName(current.plusMonths(2))
+                + " PARTITION OF contact_message FOR VALUES FROM ('" + current.plusMonths(2).atDay(1)
+                + "') TO ('" + current.plusMonths(3).atDay(1) + "')");
+        verify(jdbcTemplate).execute("ALTER TABLE contact_message DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA contact_archive");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE contact_message DETACH PARTITION " + kept);
+    }
+
+    @Test
+    void testArchivedPartitionIdsLeaveTheRegistryInTheSameTransaction() {
+        String expired = ContactMessagePartitionManager.partitionName(YearMonth.now().minusMonths(13));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(expired));
+
+        new ContactMessagePartitionManager(jdbcTemplate, transactionManager, true, 0, 12, "contact_archive")
+                .maintain();
+
+        InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE contact_message DETACH PARTITION " + expired);
+        inOrder.verify(jdbcTemplate).execute("DELETE FROM contact_message_id WHERE id IN (SELECT id FROM "
+                + expired + ")");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA contact_archive");
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testFailedArchivingKeepsRegistryRows() {
+        String expired = ContactMessagePartitionManager.partitionName(YearMonth.now().minusMonths(13));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(expired));
+        doThrow(new BadSqlGrammarException("archive", "ALTER TABLE", new SQLException("no schema")))
+                .when(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA contact_archive");
+
+        new ContactMessagePartitionManager(jdbcTemplate, transactionManager, true, 0, 12, "contact_archive")
+                .maintain();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testMaintainKeepsEverythingWithoutRetention() {
+        new ContactMessagePartitionManager(jdbcTemplate, transactionManager, true, 0, 0, "contact_archive").maintain();
+
+        verify(jdbcTemplate, times(1)).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    void testMaintainSkipsOtherDatabases() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+        new ContactMessagePartitionManager(jdbcTemplate, transactionManager, true, 3, 12, "contact_archive").maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -2,7 +2,11 @@ package com.portfolio.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.doThrow;
@@ -18,9 +22,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.UuidV7Generator;
+import com.portfolio.backend.event.ContactMessageEvent;
+import com.portfolio.backend.repository.ContactMessageCriteria;
 import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.repository.CreatedAtRange;
+
+import jakarta.persistence.EntityNotFoundException;
 
 /**
  * Unit tests for ContactMessageService class.
@@ -39,12 +53,25 @@ class ContactMessageServiceTest {
     @Mock
     private NotificationService emailNotificationService;
 
+    @Mock
+    private ContactMessageSpool contactMessageSpool;
+
+    @Mock
+    private ContactSpamDetector contactSpamDetector;
+
+    @Mock
+    private ContactMessageArchive contactMessageArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ContactMessageService contactMessageService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        contactMessageService = new ContactMessageService(contactMessageRepository, List.of(notificationService));
+        contactMessageService = new ContactMessageService(contactMessageRepository, List.of(notificationService),
+                contactMessageSpool, contactSpamDetector, contactMessageArchive, eventPublisher);
     }
 
     @Test
@@ -63,13 +90,37 @@ class ContactMessageServiceTest {
         ContactMessage message = new ContactMessage();
         UUID messageId = UUID.randomUUID();
         message.setId(messageId);
-        when(contactMessageRepository.findById(messageId)).thenReturn(Optional.of(message));
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.of(message));
 
         Optional<ContactMessage> result = contactMessageService.findMessageById(messageId);
 
         assertTrue(result.isPresent());
         assertEquals(messageId, result.get().getId());
-        verify(contactMessageRepository, times(1)).findById(messageId);
+        verify(contactMessageRepository, times(1)).findByIdInPartition(messageId);
+    }
+
+    @Test
+    void testFindMessageByIdFallsBackToArchive() {
+        UUID messageId = UUID.randomUUID();
+        ContactMessage archived = new ContactMessage();
+        archived.setId(messageId);
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.empty());
+        when(contactMessageArchive.findById(messageId)).thenReturn(Optional.of(archived));
+
+        Optional<ContactMessage> result = contactMessageService.findMessageById(messageId);
+
+        assertTrue(result.isPresent());
+        assertSame(archived, result.get());
+    }
+
+    @Test
+    void testFindMessagesByEmailIncludesArchivedMessages() {
+        when(contactMessageRepository.findByEmail("user@example.com")).thenReturn(List.of(new ContactMessage()));
+        when(contactMessageArchive.findByEmail("user@example.com")).thenReturn(List.of(new ContactMessage()));
+
+        List<ContactMessage> result = contactMessageService.findMessagesByEmail("user@example.com");
+
+        assertEquals(2, result.size());
     }
 
     @Test
@@ -98,12 +149,12 @@ class ContactMessageServiceTest {
     @Test
     void testFindUnreadMessages() {
         List<ContactMessage> messages = Arrays.asList(new ContactMessage(), new ContactMessage());
-        when(contactMessageRepository.findByReadFalse()).thenReturn(messages);
+        when(contactMessageRepository.findByReadFalseAndSpamFalseAndArchivedFalse()).thenReturn(messages);
 
         List<ContactMessage> result = contactMessageService.findUnreadMessages();
 
         assertEquals(2, result.size());
-        verify(contactMessageRepository, times(1)).findByReadFalse();
+        verify(contactMessageRepository, times(1)).findByReadFalseAndSpamFalseAndArchivedFalse();
     }
 
     @Test
@@ -145,7 +196,8 @@ class ContactMessageServiceTest {
     @Test
     void testSaveMessageStillRunsOtherNotificationsWhenDiscordNotificationFails() {
         contactMessageService = new ContactMessageService(contactMessageRepository,
-                List.of(notificationService, discordNotificationService));
+                List.of(notificationService, discordNotificationService), contactMessageSpool, contactSpamDetector,
+                contactMessageArchive, eventPublisher);
         ContactMessage message = new ContactMessage();
         when(contactMessageRepository.save(message)).thenReturn(message);
         doThrow(new RuntimeException("Discord unavailable")).when(discordNotificationService).notifyNewContact(message);
@@ -161,7 +213,8 @@ class ContactMessageServiceTest {
     @Test
     void testSaveMessageStillRunsOtherNotificationsWhenEmailNotificationFails() {
         contactMessageService = new ContactMessageService(contactMessageRepository,
-                List.of(notificationService, discordNotificationService, emailNotificationService));
+                List.of(notificationService, discordNotificationService, emailNotificationService),
+                contactMessageSpool, contactSpamDetector, contactMessageArchive, eventPublisher);
         ContactMessage message = new ContactMessage();
         when(contactMessageRepository.save(message)).thenReturn(message);
         doThrow(new RuntimeException("SMTP unavailable")).when(emailNotificationService).notifyNewContact(message);
@@ -175,12 +228,226 @@ class ContactMessageServiceTest {
         verify(emailNotificationService, times(1)).notifyNewContact(message);
     }
 
+    @Test
+    void testSaveMessagesInsertsBatchAndNotifiesEachMessage() {
+        ContactMessage first = new ContactMessage();
+        ContactMessage second = new ContactMessage();
+        List<ContactMessage> batch = List.of(first, second);
+
+        List<ContactMessage> result = contactMessageService.saveMessages(batch);
+
+        assertEquals(2, result.size());
+        verify(contactMessageRepository, times(1)).batchInsert(batch);
+        verify(notificationService, times(1)).notifyNewContact(first);
+        verify(notificationService, times(1)).notifyNewContact(second);
+    }
+
+    @Test
+    void testSaveMessageSpoolsWhenDatabaseIsUnavailable() {
+        ContactMessage message = new ContactMessage();
+        when(contactMessageSpool.isEnabled()).thenReturn(true);
+        when(contactMessageRepository.save(message))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+        ContactMessage result = contactMessageService.saveMessage(message);
+
+        assertEquals(message, result);
+        verify(contactMessageSpool, times(1)).append(message);
+        verify(notificationService, times(1)).notifyNewContact(message);
+    }
+
+    @Test
+    void testSaveMessageRethrowsWhenSpoolIsDisabled() {
+        ContactMessage message = new ContactMessage();
+        when(contactMessageRepository.save(message))
+                .thenThrow(new DataAccessResourceFailureException("Database down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> contactMessageService.saveMessage(message));
+        verify(contactMessageSpool, never()).append(any());
+        verify(notificationService, never()).notifyNewContact(any());
+    }
+
+    @Test
+    void testSaveMessageRethrowsRejectedMessageWithoutSpooling() {
+        ContactMessage message = new ContactMessage();
+        when(contactMessageSpool.isEnabled()).thenReturn(true);
+        when(contactMessageRepository.save(message))
+                .thenThrow(new DataIntegrityViolationException("value too long for type character varying(50)"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> contactMessageService.saveMessage(message));
+        verify(contactMessageSpool, never()).append(any());
+        verify(notificationService, never()).notifyNewContact(any());
+    }
+
+    @Test
+    void testSaveMessagesSpoolsBatchWhenDatabaseIsUnavailable() {
+        ContactMessage first = new ContactMessage();
+        ContactMessage second = new ContactMessage();
+        List<ContactMessage> batch = List.of(first, second);
+        when(contactMessageSpool.isEnabled()).thenReturn(true);
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .when(contactMessageRepository).batchInsert(batch);
+
+        contactMessageService.saveMessages(batch);
+
+        verify(contactMessageSpool, times(1)).append(first);
+        verify(contactMessageSpool, times(1)).append(second);
+    }
+
+    @Test
+    void testSaveMessageStoresSpamWithoutNotifying() {
+        ContactMessage message = new ContactMessage();
+        when(contactSpamDetector.evaluate(message)).thenReturn(true);
+        when(contactMessageRepository.save(message)).thenReturn(message);
+
+        ContactMessage result = contactMessageService.saveMessage(message);
+
+        assertTrue(result.isSpam());
+        verify(contactMessageRepository, times(1)).save(message);
+        verify(notificationService, never()).notifyNewContact(any());
+    }
+
+    @Test
+    void testSaveMessagesNotifiesOnlyLegitimateMessages() {
+        ContactMessage legit = new ContactMessage();
+        ContactMessage spam = new ContactMessage();
+        when(contactSpamDetector.evaluate(spam)).thenReturn(true);
+
+        contactMessageService.saveMessages(List.of(legit, spam));
+
+        assertTrue(spam.isSpam());
+        verify(notificationService, times(1)).notifyNewContact(legit);
+        verify(notificationService, never()).notifyNewContact(spam);
+    }
+
+    @Test
+    void testFlagSpamMarksMessageAndTrainsDetector() {
+        UUID messageId = UUID.randomUUID();
+        ContactMessage message = new ContactMessage();
+        message.setId(messageId);
+        message.setCreatedAt(LocalDateTime.now());
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.of(message));
+
+        contactMessageService.flagSpam(messageId, true);
+
+        assertTrue(message.isSpam());
+        assertTrue(message.isRead());
+        verify(contactMessageRepository, times(1)).markReviewed(messageId, message.getCreatedAt(), true);
+        verify(contactMessageRepository, never()).save(any());
+        verify(contactSpamDetector, times(1)).train(message, true);
+        // Counted as unread in the inbox before the review.
+        verify(eventPublisher, times(1)).publishEvent(ContactMessageEvent.of(ContactMessageEvent.Type.SPAM,
+                messageId, new ContactMessageEvent.Previous(true, false, message.getCreatedAt())));
+    }
+
+    @Test
+    void testMarkAsReadUsesSingleUpdate() {
+        UUID messageId = UuidV7Generator.nextUuid();
+        CreatedAtRange range = CreatedAtRange.of(messageId);
+        when(contactMessageRepository.markInboxMessageAsRead(messageId, range.from(), range.to())).thenReturn(1);
+
+        contactMessageService.markAsRead(messageId);
+
+        verify(contactMessageRepository, times(1)).markInboxMessageAsRead(messageId, range.from(), range.to());
+        verify(contactMessageRepository, never()).markAsRead(any(), any(), any());
+        verify(contactMessageRepository, never()).findByIdInPartition(any());
+        verify(eventPublisher, times(1)).publishEvent(ContactMessageEvent.read(messageId, true));
+    }
+
+    @Test
+    void testMarkAsReadThrowsWhenMessageIsMissing() {
+        UUID messageId = UuidV7Generator.nextUuid();
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> contactMessageService.markAsRead(messageId));
+    }
+
+    @Test
+    void testMarkAsReadIgnoresAlreadyReadMessage() {
+        UUID messageId = UuidV7Generator.nextUuid();
+        ContactMessage message = new ContactMessage();
+        message.setRead(true);
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.of(message));
+
+        contactMessageService.markAsRead(messageId);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testMarkAsReadRetriesOnTheCreationDateOfAnOlderMessage() {
+        // Created before its id carried its creation date.
+        UUID messageId = UuidV7Generator.nextUuid();
+        ContactMessage message = new ContactMessage();
+        message.setCreatedAt(LocalDateTime.now().minusYears(1));
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.of(message));
+        when(contactMessageRepository.markInboxMessageAsRead(messageId, message.getCreatedAt(),
+                message.getCreatedAt())).thenReturn(1);
+
+        contactMessageService.markAsRead(messageId);
+
+        verify(eventPublisher, times(1)).publishEvent(ContactMessageEvent.read(messageId, true));
+    }
+
+    @Test
+    void testBulkOperationsReturnAffectedCounts() {
+        ContactMessageCriteria criteria = new ContactMessageCriteria(null, null, "spam@example.com", null);
+        when(contactMessageRepository.bulkUpdateRead(criteria, false)).thenReturn(3);
+        when(contactMessageRepository.bulkArchive(criteria)).thenReturn(4);
+        when(contactMessageRepository.bulkDelete(criteria)).thenReturn(5);
+
+        assertEquals(3, contactMessageService.bulkMarkRead(criteria, false));
+        assertEquals(4, contactMessageService.bulkArchive(criteria));
+        assertEquals(5, contactMessageService.bulkDelete(criteria));
+    }
+
+    @Test
+    void testSaveMessagePublishesCreatedEvent() {
+        ContactMessage message = new ContactMessage();
+        when(contactMessageRepository.save(message)).thenReturn(message);
+
+        contactMessageService.saveMessage(message);
+
+        verify(eventPublisher, times(1)).publishEvent(ContactMessageEvent.created(message));
+    }
+
+    @Test
+    void testMarkAsReadPublishesReadEvent() {
+        UUID messageId = UuidV7Generator.nextUuid();
+        CreatedAtRange range = CreatedAtRange.of(messageId);
+        when(contactMessageRepository.markAsRead(messageId, range.from(), range.to())).thenReturn(1);
+
+        contactMessageService.markAsRead(messageId);
+
+        // Spam or archived: it did not count as unread.
+        verify(eventPublisher, times(1)).publishEvent(ContactMessageEvent.read(messageId, false));
+    }
+
+    @Test
+    void testBulkOperationPublishesEventOnlyWhenRowsChanged() {
+        ContactMessageCriteria criteria = new ContactMessageCriteria(null, null, "spam@example.com", null);
+        when(contactMessageRepository.bulkDelete(criteria)).thenReturn(7, 0);
+
+        contactMessageService.bulkDelete(criteria);
+        contactMessageService.bulkDelete(criteria);
+
+        verify(eventPublisher, times(1))
+                .publishEvent(ContactMessageEvent.bulk(ContactMessageEvent.Type.DELETED, 7));
+    }
+
     @Test
     void testDeleteMessageById() {
         UUID messageId = UUID.randomUUID();
+        ContactMessage message = new ContactMessage();
+        message.setId(messageId);
+        message.setSpam(true);
+        message.setCreatedAt(LocalDateTime.now());
+        when(contactMessageRepository.findByIdInPartition(messageId)).thenReturn(Optional.of(message));
 
         contactMessageService.deleteMessageById(messageId);
 
-        verify(contactMessageRepository, times(1)).deleteById(messageId);
+        verify(contactMessageRepository, times(1)).deleteByIdAndCreatedAt(messageId, message.getCreatedAt());
+        verify(eventPublisher, times(1)).publishEvent(ContactMessageEvent.of(ContactMessageEvent.Type.DELETED,
+                messageId, new ContactMessageEvent.Previous(false, true, message.getCreatedAt())));
     }
 }
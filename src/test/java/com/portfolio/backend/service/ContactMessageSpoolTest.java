@@ -0,0 +1,220 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageRepository;
+
+class ContactMessageSpoolTest {
+
+    @Mock
+    private ContactMessageRepository contactMessageRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Path journal;
+    private ContactMessageSpool spool;
+    private final List<ContactMessage> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        journal = tempDir.resolve("spool/contact.journal");
+        spool = new ContactMessageSpool(contactMessageRepository, true, journal.toString());
+        when(contactMessageRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return null;
+        }).when(contactMessageRepository).batchInsert(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        spool.close();
+    }
+
+    @Test
+    void append_shouldWriteRecordsThatReplayInOrder() {
+        ContactMessage first = message("First");
+        ContactMessage second = message("Second");
+        second.setPhone(null);
+
+        spool.append(first);
+        spool.append(second);
+        spool.replay();
+
+        assertNotNull(first.getId());
+        assertEquals(2, inserted.size());
+        assertEquals(first.getId(), inserted.get(0).getId());
+        assertEquals("First", inserted.get(0).getSubject());
+        assertEquals(first.getCreatedAt(), inserted.get(0).getCreatedAt());
+        assertEquals("Second", inserted.get(1).getSubject());
+        assertNull(inserted.get(1).getPhone());
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    void replay_shouldSkipMessagesAlreadyStored() {
+        ContactMessage first = message("First");
+        ContactMessage second = message("Second");
+        spool.append(first);
+        spool.append(second);
+        when(contactMessageRepository.findExistingIds(anyCollection())).thenReturn(List.of(first.getId()));
+
+        spool.replay();
+
+        assertEquals(1, inserted.size());
+        assertEquals(second.getId(), inserted.get(0).getId());
+    }
+
+    @Test
+    void replay_shouldKeepJournalWhenDatabaseIsStillDown() {
+        spool.append(message("First"));
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .when(contactMessageRepository).findExistingIds(anyCollection());
+
+        spool.replay();
+
+        assertTrue(Files.exists(journal.resolveSibling("contact.journal.replay")));
+
+        doReturn(List.of()).when(contactMessageRepository).findExistingIds(anyCollection());
+        spool.append(message("Second"));
+        spool.replay();
+
+        assertEquals(List.of("First", "Second"), inserted.stream().map(ContactMessage::getSubject).toList());
+        assertFalse(Files.exists(journal.resolveSibling("contact.journal.replay")));
+    }
+
+    @Test
+    void replay_shouldSetRejectedMessagesAsideAndReplayTheOthers() throws IOException {
+        ContactMessage rejected = message("Rejected");
+        spool.append(message("First"));
+        spool.append(rejected);
+        spool.append(message("Second"));
+        doAnswer(invocation -> {
+            List<ContactMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(message -> message.getId().equals(rejected.getId()))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            inserted.addAll(batch);
+            return null;
+        }).when(contactMessageRepository).batchInsert(anyList());
+
+        spool.replay();
+
+        assertEquals(List.of("First", "Second"), inserted.stream().map(ContactMessage::getSubject).toList());
+        assertFalse(Files.exists(journal.resolveSibling("contact.journal.replay")));
+        Path deadLetters = journal.resolveSibling("contact.journal.dead");
+        assertEquals(List.of(rejected.getId()), spool.read(deadLetters).stream().map(ContactMessage::getId).toList());
+
+        spool.append(rejected);
+        spool.replay();
+
+        assertEquals(1, spool.read(deadLetters).size());
+    }
+
+    @Test
+    void isUnavailable_shouldOnlyMatchConnectionAndTransientFailures() {
+        assertTrue(ContactMessageSpool.isUnavailable(new DataAccessResourceFailureException("Database down")));
+        assertTrue(ContactMessageSpool.isUnavailable(new CannotCreateTransactionException("No connection")));
+        assertTrue(ContactMessageSpool.isUnavailable(new QueryTimeoutException("Timed out")));
+        assertFalse(ContactMessageSpool.isUnavailable(new DataIntegrityViolationException("Duplicate key")));
+    }
+
+    @Test
+    void replay_shouldIgnoreTornRecordAtEndOfJournal() throws IOException {
+        spool.append(message("First"));
+        spool.close();
+        Files.write(journal, new byte[] { 0, 0, 0, 42, 1, 2 }, StandardOpenOption.APPEND);
+
+        spool.replay();
+
+        assertEquals(1, inserted.size());
+    }
+
+    @Test
+    void replay_shouldReadTheJournalOneChunkAtATime() {
+        for (int i = 0; i < 250; i++) {
+            spool.append(message("Message " + i));
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(contactMessageRepository.findExistingIds(anyCollection())).thenAnswer(invocation -> {
+            chunkSizes.add(invocation.getArgument(0, Collection.class).size());
+            return List.of();
+        });
+
+        spool.replay();
+
+        assertEquals(List.of(100, 100, 50), chunkSizes);
+        assertEquals(250, inserted.size());
+        assertEquals("Message 249", inserted.get(249).getSubject());
+    }
+
+    @Test
+    void replay_shouldStopAtCorruptedRecord() throws IOException {
+        spool.append(message("First"));
+        spool.append(message("Second"));
+        spool.append(message("Third"));
+        spool.close();
+        byte[] bytes = Files.readAllBytes(journal);
+        int second = 8 + ByteBuffer.wrap(bytes).getInt(0);
+        bytes[second + 8] ^= 1;
+        Files.write(journal, bytes);
+
+        spool.replay();
+
+        assertEquals(List.of("First"), inserted.stream().map(ContactMessage::getSubject).toList());
+    }
+
+    @Test
+    void replay_shouldDoNothing_whenDisabled() {
+        ContactMessageSpool disabled = new ContactMessageSpool(contactMessageRepository, false, journal.toString());
+
+        disabled.replay();
+
+        verify(contactMessageRepository, never()).batchInsert(anyList());
+    }
+
+    private ContactMessage message(String subject) {
+        ContactMessage message = new ContactMessage();
+        message.setName("Jöhn");
+        message.setEmail("john@example.com");
+        message.setPhone("0600000000");
+        message.setSubject(subject);
+        message.setMessage("Spooled message");
+        return message;
+    }
+}
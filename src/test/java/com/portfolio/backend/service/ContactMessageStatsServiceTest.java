@@ -0,0 +1,150 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.portfolio.backend.dto.ContactMessageStatsResponse;
+import com.portfolio.backend.dto.DailyMessageCount;
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.event.ContactMessageEvent;
+import com.portfolio.backend.repository.ContactMessageDailyStatsRepository;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.workload.WorkloadAspect;
+import com.portfolio.backend.workload.WorkloadContext;
+import com.portfolio.backend.workload.WorkloadType;
+
+class ContactMessageStatsServiceTest {
+
+    @Mock
+    private ContactMessageRepository contactMessageRepository;
+
+    @Mock
+    private ContactMessageDailyStatsRepository dailyStatsRepository;
+
+    private ContactMessageStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        statsService = new ContactMessageStatsService(contactMessageRepository, dailyStatsRepository, 30);
+    }
+
+    @Test
+    void reconcile_shouldLoadCountersAndStoreRollups() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        when(contactMessageRepository.count()).thenReturn(12L);
+        when(contactMessageRepository.countByReadFalseAndSpamFalseAndArchivedFalse()).thenReturn(4L);
+        when(contactMessageRepository.countBySpamTrue()).thenReturn(3L);
+        when(contactMessageRepository.countPerDaySince(any()))
+                .thenReturn(List.of(new DailyMessageCount(yesterday, 5L, 1L)));
+
+        statsService.reconcile();
+        ContactMessageStatsResponse stats = statsService.getStats(7);
+
+        assertEquals(12, stats.getTotal());
+        assertEquals(4, stats.getUnread());
+        assertEquals(3, stats.getSpam());
+        assertEquals(0, stats.getToday());
+        assertEquals(7, stats.getPerDay().size());
+        assertEquals(yesterday, stats.getPerDay().get(5).getDay());
+        assertEquals(5, stats.getPerDay().get(5).getReceived());
+        verify(dailyStatsRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void events_shouldUpdateCountersIncrementally() {
+        statsService.onContactMessageEvent(ContactMessageEvent.created(message(false)));
+        statsService.onContactMessageEvent(ContactMessageEvent.created(message(false)));
+        statsService.onContactMessageEvent(ContactMessageEvent.created(message(true)));
+        statsService.onContactMessageEvent(ContactMessageEvent.read(UUID.randomUUID(), true));
+
+        ContactMessageStatsResponse stats = statsService.getStats(1);
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(1, stats.getUnread());
+        assertEquals(1, stats.getSpam());
+        assertEquals(3, stats.getToday());
+        assertEquals(1, stats.getPerDay().get(0).getSpam());
+    }
+
+    @Test
+    void singleEvents_shouldApplyPreviousStateWithoutQueries() {
+        ContactMessage inbox = message(false);
+        ContactMessage junk = message(true);
+        ContactMessage archived = message(false);
+        archived.setArchived(true);
+        for (ContactMessage message : List.of(inbox, junk, archived, message(false))) {
+            statsService.onContactMessageEvent(ContactMessageEvent.created(message));
+        }
+
+        // A spam or archived message was not counted as unread.
+        statsService.onContactMessageEvent(ContactMessageEvent.read(archived.getId(), false));
+        statsService.onContactMessageEvent(ContactMessageEvent.of(ContactMessageEvent.Type.SPAM, inbox.getId(),
+                ContactMessageEvent.Previous.of(inbox)));
+        statsService.onContactMessageEvent(ContactMessageEvent.of(ContactMessageEvent.Type.DELETED, junk.getId(),
+                ContactMessageEvent.Previous.of(junk)));
+        ContactMessageStatsResponse stats = statsService.getStats(1);
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(2, stats.getUnread());
+        assertEquals(1, stats.getSpam());
+        assertEquals(3, stats.getPerDay().get(0).getReceived());
+        assertEquals(1, stats.getPerDay().get(0).getSpam());
+        verifyNoInteractions(contactMessageRepository, dailyStatsRepository);
+    }
+
+    @Test
+    void bulkEvents_shouldReconcileInTheBackground() {
+        when(contactMessageRepository.count()).thenReturn(1L);
+
+        statsService.onContactMessageEvent(ContactMessageEvent.bulk(ContactMessageEvent.Type.DELETED, 40));
+
+        verifyNoInteractions(contactMessageRepository);
+        statsService.reconcileIfStale();
+        statsService.reconcileIfStale();
+
+        assertEquals(1, statsService.getStats(1).getTotal());
+        verify(contactMessageRepository, times(1)).countByReadFalseAndSpamFalseAndArchivedFalse();
+    }
+
+    @Test
+    void initialize_shouldReconcileOnTheBackgroundPool() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(statsService);
+        factory.addAspect(new WorkloadAspect());
+        ContactMessageStatsService proxy = factory.getProxy();
+        List<WorkloadType> workloads = new ArrayList<>();
+        when(contactMessageRepository.count()).thenAnswer(invocation -> {
+            workloads.add(WorkloadContext.current());
+            return 0L;
+        });
+
+        proxy.initialize();
+
+        assertEquals(List.of(WorkloadType.BACKGROUND), workloads);
+    }
+
+    private ContactMessage message(boolean spam) {
+        ContactMessage message = new ContactMessage();
+        message.setId(UUID.randomUUID());
+        message.setCreatedAt(LocalDateTime.now());
+        message.setSpam(spam);
+        return message;
+    }
+}
@@ -0,0 +1,107 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageRepository;
+
+class ContactSpamDetectorTest {
+
+    @Mock
+    private ContactMessageRepository contactMessageRepository;
+
+    private ContactSpamDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        detector = new ContactSpamDetector(contactMessageRepository, true, 0.9, 100, 3, 2, 500);
+    }
+
+    @Test
+    void fingerprint_shouldBeCloseForNearDuplicates() {
+        long original = ContactSpamDetector.fingerprint(ContactSpamDetector.tokenize(
+                message("Boost your SEO", "We offer cheap guaranteed backlinks for your portfolio website today")));
+        long variant = ContactSpamDetector.fingerprint(ContactSpamDetector.tokenize(
+                message("Boost your SEO!!", "We offer cheap guaranteed backlinks for your portfolio website now")));
+        long unrelated = ContactSpamDetector.fingerprint(ContactSpamDetector.tokenize(
+                message("Freelance mission", "Would you be available for a Spring Boot mission next month")));
+
+        assertTrue(Long.bitCount(original ^ variant) < Long.bitCount(original ^ unrelated));
+    }
+
+    @Test
+    void evaluate_shouldFlagRepeatedNearDuplicates() {
+        assertFalse(detector.evaluate(message("Boost your SEO", "We offer cheap guaranteed backlinks for you")));
+        assertFalse(detector.evaluate(message("Boost your SEO", "We offer cheap guaranteed backlinks for you")));
+        assertTrue(detector.evaluate(message("Boost your SEO", "We offer cheap guaranteed backlinks for you")));
+    }
+
+    @Test
+    void evaluate_shouldIgnoreShortMessagesForDuplicates() {
+        for (int i = 0; i < 5; i++) {
+            assertFalse(detector.evaluate(message("Hello", "Thanks")));
+        }
+    }
+
+    @Test
+    void evaluate_shouldUseClassifierTrainedOnReviewedMessages() {
+        for (int i = 0; i < 5; i++) {
+            detector.train(message("Casino bonus " + i, "Win free crypto casino bonus click here now"), true);
+            detector.train(message("Project question " + i, "I liked your Spring portfolio, are you available"),
+                    false);
+        }
+
+        assertTrue(detector.evaluate(message("Free bonus", "Click here for a free crypto casino bonus")));
+        assertFalse(detector.evaluate(message("Availability", "Are you available for a Spring project")));
+    }
+
+    @Test
+    void evaluate_shouldNeverFlag_whenDisabled() {
+        ContactSpamDetector disabled = new ContactSpamDetector(contactMessageRepository, false, 0.9, 100, 3, 2, 500);
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(disabled.evaluate(message("Boost your SEO", "We offer cheap guaranteed backlinks for you")));
+        }
+        disabled.bootstrap();
+        verify(contactMessageRepository, never()).findBySpamAndReadTrue(eq(true), any());
+    }
+
+    @Test
+    void bootstrap_shouldTrainFromReviewedMessages() {
+        when(contactMessageRepository.findBySpamAndReadTrue(eq(true), any())).thenReturn(List.of(
+                message("Casino", "Win free casino bonus"), message("Casino", "Free casino bonus here"),
+                message("Crypto", "Free crypto bonus"), message("Casino", "Casino bonus now"),
+                message("Bonus", "Click for casino bonus")));
+        when(contactMessageRepository.findBySpamAndReadTrue(eq(false), any())).thenReturn(List.of(
+                message("Mission", "Spring Boot mission"), message("Hello", "Loved your portfolio"),
+                message("Job", "Are you available"), message("Meeting", "Can we talk next week"),
+                message("Project", "Question about your project")));
+
+        detector.bootstrap();
+
+        assertTrue(detector.evaluate(message("Bonus", "Free casino bonus")));
+    }
+
+    private ContactMessage message(String subject, String body) {
+        ContactMessage message = new ContactMessage();
+        message.setName("Visitor");
+        message.setEmail("visitor@example.com");
+        message.setSubject(subject);
+        message.setMessage(body);
+        return message;
+    }
+}
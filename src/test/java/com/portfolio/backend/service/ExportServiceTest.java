@@ -0,0 +1,163 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portfolio.backend.dto.UserSummary;
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.repository.ReadOnlyEntityStreamer;
+import com.portfolio.backend.repository.UserRepository;
+
+class ExportServiceTest {
+
+    @Mock
+    private ReadOnlyEntityStreamer entityStreamer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        exportService = new ExportService(entityStreamer, objectMapper);
+    }
+
+    @Test
+    void testExportMessagesAsNdjson() throws IOException {
+        ContactMessage first = message("Alice", "Hello");
+        ContactMessage second = message("Bob", "Line one\nline two");
+        streamRows(ContactMessage.class, first, second);
+
+        String output = run(exportService.exportMessages(ExportService.Format.NDJSON, false), false);
+
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode node = objectMapper.readTree(lines[1]);
+        assertEquals("Bob", node.get("name").asText());
+        assertEquals("Line one\nline two", node.get("message").asText());
+    }
+
+    @Test
+    void testExportProjectsAsGzipCsv() throws IOException {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setTitle("Portfolio, v2");
+        project.setTags(List.of("java", "spring"));
+        streamRows(Project.class, project);
+
+        String output = run(exportService.exportProjects(ExportService.Format.CSV, true), true);
+
+        String[] lines = output.split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,createdAt,updatedAt,title,summary,status,client,role,duration,tags,stack,repoUrl,liveUrl",
+                lines[0]);
+        assertEquals(project.getId() + ",,,\"Portfolio, v2\",,,,,,java|spring,,,", lines[1]);
+    }
+
+    @Test
+    void testJsonArrayMatchesListSerialization() throws IOException {
+        ContactMessage first = message("Alice", "Hello");
+        ContactMessage second = message("Bob", "Hi");
+        streamRows(ContactMessage.class, first, second);
+
+        String output = run(exportService.jsonArray(ContactMessage.class), false);
+
+        assertEquals(objectMapper.writeValueAsString(List.of(first, second)), output);
+    }
+
+    @Test
+    void testJsonArrayWithoutRows() throws IOException {
+        streamRows(Project.class);
+
+        assertEquals("[]", run(exportService.jsonArray(Project.class), false));
+    }
+
+    @Test
+    void testJsonArrayOfProjections() throws IOException {
+        streamRows(UserSummary.class, new UserSummary(1L, "admin", "admin@example.com", 2L, "ADMIN",
+                LocalDateTime.of(2024, 1, 1, 0, 0), null));
+
+        JsonNode user = objectMapper.readTree(
+                run(exportService.jsonArray(UserRepository.SUMMARY_QUERY, UserSummary.class), false)).get(0);
+
+        assertEquals("ADMIN", user.get("role").get("name").asText());
+        assertFalse(user.has("password"));
+        assertFalse(user.get("role").has("users"));
+    }
+
+    @Test
+    void testCsvFieldEscaping() {
+        assertEquals("", ExportService.csvField(null));
+        assertEquals("plain", ExportService.csvField("plain"));
+        assertEquals("\"say \"\"hi\"\"\"", ExportService.csvField("say \"hi\""));
+        assertEquals("\"a\nb\"", ExportService.csvField("a\nb"));
+    }
+
+    @Test
+    void testFormatAndEncodingNegotiation() {
+        assertEquals(ExportService.Format.CSV, ExportService.Format.fromParameter("CSV"));
+        assertNull(ExportService.Format.fromParameter("xml"));
+        assertTrue(ExportService.acceptsGzip("deflate, GZIP;q=0.8"));
+        assertFalse(ExportService.acceptsGzip(null));
+    }
+
+    @SafeVarargs
+    private <T> void streamRows(Class<T> type, T... rows) throws IOException {
+        doAnswer(invocation -> {
+            ReadOnlyEntityStreamer.RowHandler<T> handler = invocation.getArgument(2);
+            for (T row : rows) {
+                handler.handle(row);
+            }
+            return (long) rows.length;
+        }).when(entityStreamer).forEach(anyString(), eq(type), any());
+    }
+
+    private String run(StreamingResponseBody body, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        byte[] bytes = out.toByteArray();
+        if (gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ContactMessage message(String name, String text) {
+        ContactMessage message = new ContactMessage();
+        message.setId(UUID.randomUUID());
+        message.setName(name);
+        message.setEmail(name.toLowerCase() + "@example.com");
+        message.setMessage(text);
+        message.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        return message;
+    }
+}
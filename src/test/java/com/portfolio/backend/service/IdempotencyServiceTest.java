@@ -0,0 +1,195 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.portfolio.backend.entity.IdempotencyRecord;
+import com.portfolio.backend.exception.IdempotencyConflictException;
+import com.portfolio.backend.repository.IdempotencyRecordRepository;
+import com.portfolio.backend.service.IdempotencyService.StoredResponse;
+
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, 100, Duration.ofHours(24),
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    void execute_shouldRunHandlerOnceAndReplayFromCache() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+
+        StoredResponse first = idempotencyService.execute("key", () -> {
+            executions.incrementAndGet();
+            return response(201, "{\"id\":1}");
+        });
+        StoredResponse second = idempotencyService.execute("key", () -> {
+            executions.incrementAndGet();
+            return response(201, "{\"id\":2}");
+        });
+
+        assertNull(first);
+        assertNotNull(second);
+        assertEquals(201, second.status());
+        assertArrayEquals("{\"id\":1}".getBytes(StandardCharsets.UTF_8), second.body());
+        assertEquals(1, executions.get());
+        verify(idempotencyRecordRepository, times(1)).insertPending(eq("key"), any(LocalDateTime.class));
+        verify(idempotencyRecordRepository, times(1)).complete(eq("key"), eq(201), eq("application/json"),
+                aryEq("{\"id\":1}".getBytes(StandardCharsets.UTF_8)), eq("digest"));
+    }
+
+    @Test
+    void execute_shouldReplayNonUtf8BodyByteForByte() throws Exception {
+        byte[] latin1 = "{\"name\":\"Zoé\"}".getBytes(StandardCharsets.ISO_8859_1);
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey("key");
+        record.setStatus(200);
+        record.setContentType("application/json;charset=ISO-8859-1");
+        record.setBody(latin1);
+        record.setCreatedAt(LocalDateTime.now());
+        when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.of(record));
+
+        StoredResponse replay = idempotencyService.execute("key", () -> response(200, ""));
+
+        assertArrayEquals(latin1, replay.body());
+    }
+
+    @Test
+    void execute_shouldReplayRecordStoredByAnotherNode() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey("key");
+        record.setStatus(202);
+        record.setBody(new byte[0]);
+        record.setCreatedAt(LocalDateTime.now());
+        when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.of(record));
+        AtomicInteger executions = new AtomicInteger();
+
+        StoredResponse replay = idempotencyService.execute("key", () -> {
+            executions.incrementAndGet();
+            return response(202, "");
+        });
+
+        assertNotNull(replay);
+        assertEquals(202, replay.status());
+        assertEquals(0, executions.get());
+        verify(idempotencyRecordRepository, never()).insertPending(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void execute_shouldRejectKeyStillPendingOnAnotherNode() {
+        IdempotencyRecord pending = new IdempotencyRecord();
+        pending.setIdempotencyKey("key");
+        pending.setCreatedAt(LocalDateTime.now());
+        when(idempotencyRecordRepository.findById("key")).thenReturn(Optional.of(pending));
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.execute("key", () -> response(201, "{}")));
+    }
+
+    @Test
+    void execute_shouldRejectWhenReservationLosesRace() {
+        when(idempotencyRecordRepository.insertPending(eq("key"), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.execute("key", () -> response(201, "{}")));
+    }
+
+    @Test
+    void execute_shouldReleaseKeyWhenResponseIsNotRecorded() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+
+        idempotencyService.execute("key", () -> {
+            executions.incrementAndGet();
+            return null;
+        });
+        idempotencyService.execute("key", () -> {
+            executions.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(2, executions.get());
+        verify(idempotencyRecordRepository, times(2)).deleteById("key");
+        verify(idempotencyRecordRepository, never()).complete(anyString(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void execute_shouldSerializeConcurrentDuplicates() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<StoredResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute("key", () -> {
+                        executions.incrementAndGet();
+                        return response(201, "{}");
+                    });
+                }));
+            }
+            start.countDown();
+
+            int replays = 0;
+            for (Future<StoredResponse> result : results) {
+                if (result.get(5, TimeUnit.SECONDS) != null) {
+                    replays++;
+                }
+            }
+            assertEquals(1, executions.get());
+            assertEquals(7, replays);
+            // The last request out drops the key lock.
+            assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(idempotencyService, "locks")).isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StoredResponse response(int status, String body) {
+        return new StoredResponse(status, "application/json", body.getBytes(StandardCharsets.UTF_8), "digest",
+                LocalDateTime.now());
+    }
+}
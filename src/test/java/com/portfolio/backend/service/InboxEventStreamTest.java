@@ -0,0 +1,170 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.event.ContactMessageEvent;
+
+class InboxEventStreamTest {
+
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor();
+
+    private final InboxEventStream stream = new InboxEventStream(3, 10, Duration.ofMinutes(1), Duration.ofSeconds(10),
+            Runnable::run, watchdog);
+
+    @AfterEach
+    void tearDown() {
+        watchdog.shutdownNow();
+    }
+
+    @Test
+    void subscriber_shouldReceiveEventsPublishedAfterConnecting() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(null, emitter);
+
+        stream.onContactMessageEvent(ContactMessageEvent.created(message(false)));
+        stream.onContactMessageEvent(ContactMessageEvent.of(ContactMessageEvent.Type.READ, UUID.randomUUID()));
+
+        assertEquals(2, emitter.frames.size());
+        assertTrue(emitter.frames.get(0).contains("id:1\nevent:message.created\n"));
+        assertTrue(emitter.frames.get(1).contains("id:2\nevent:message.read\n"));
+    }
+
+    @Test
+    void subscriber_shouldResumeFromLastEventId() {
+        for (int i = 0; i < 3; i++) {
+            stream.onContactMessageEvent(ContactMessageEvent.of(ContactMessageEvent.Type.READ, UUID.randomUUID()));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        stream.subscribe(1L, emitter);
+
+        assertEquals(2, emitter.frames.size());
+        assertTrue(emitter.frames.get(0).contains("id:2\n"));
+        assertTrue(emitter.frames.get(1).contains("id:3\n"));
+    }
+
+    @Test
+    void subscriber_shouldReceiveReset_whenLastEventIdLeftTheRing() {
+        for (int i = 0; i < 5; i++) {
+            stream.onContactMessageEvent(ContactMessageEvent.bulk(ContactMessageEvent.Type.ARCHIVED, 2));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        stream.subscribe(1L, emitter);
+
+        assertEquals(1, emitter.frames.size());
+        assertTrue(emitter.frames.get(0).contains("event:" + InboxEventStream.RESET_EVENT + "\n"));
+    }
+
+    @Test
+    void spamMessages_shouldNotBePushed() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(null, emitter);
+
+        stream.onContactMessageEvent(ContactMessageEvent.created(message(true)));
+
+        assertTrue(emitter.frames.isEmpty());
+    }
+
+    @Test
+    void slowSubscriber_shouldBeDisconnectedWhenItsQueueOverflows() {
+        List<Runnable> pending = new CopyOnWriteArrayList<>();
+        InboxEventStream slowStream = new InboxEventStream(100, 2, Duration.ofMinutes(1), Duration.ofSeconds(10),
+                pending::add, watchdog);
+        slowStream.subscribe(null, new RecordingEmitter());
+
+        for (int i = 0; i < 3; i++) {
+            slowStream.onContactMessageEvent(ContactMessageEvent.of(ContactMessageEvent.Type.READ, UUID.randomUUID()));
+        }
+
+        assertEquals(0, slowStream.subscriberCount());
+    }
+
+    @Test
+    void stalledSubscriber_shouldBeDisconnectedWithoutDelayingOthers() throws Exception {
+        ExecutorService dispatcher = Executors.newCachedThreadPool();
+        InboxEventStream threadedStream = new InboxEventStream(100, 10, Duration.ofMinutes(1), Duration.ofMillis(200),
+                dispatcher, watchdog);
+        try {
+            CountDownLatch released = new CountDownLatch(1);
+            StalledEmitter stalled = new StalledEmitter(released);
+            threadedStream.subscribe(null, stalled);
+            RecordingEmitter emitter = new RecordingEmitter();
+            threadedStream.subscribe(null, emitter);
+
+            threadedStream.onContactMessageEvent(
+                    ContactMessageEvent.of(ContactMessageEvent.Type.READ, UUID.randomUUID()));
+
+            assertTrue(stalled.failed.await(5, TimeUnit.SECONDS));
+            assertEquals(1, emitter.frames.size());
+            assertEquals(1, threadedStream.subscriberCount());
+            released.countDown();
+        } finally {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private ContactMessage message(boolean spam) {
+        ContactMessage message = new ContactMessage();
+        message.setId(UUID.randomUUID());
+        message.setSubject("Hello");
+        message.setSpam(spam);
+        return message;
+    }
+
+    /**
+     * Blocks in {@code send} like a client whose TCP buffer is full.
+     */
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch released;
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        StalledEmitter(CountDownLatch released) {
+            this.released = released;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed.countDown();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
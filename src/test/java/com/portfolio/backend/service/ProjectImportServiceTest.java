@@ -0,0 +1,194 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dto.ProjectImportResponse;
+import com.portfolio.backend.dto.ProjectImportResult.Status;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.event.CatalogChangedEvent;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.SkillRepository;
+
+import jakarta.validation.Validation;
+
+class ProjectImportServiceTest {
+
+    private static final UUID EXISTING_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProjectImportService projectImportService;
+
+    private final List<List<Project>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        projectImportService = new ProjectImportService(projectRepository, skillRepository,
+                new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, eventPublisher);
+        when(projectRepository.batchUpsert(anyList(), anySet())).thenAnswer(invocation -> {
+            List<Project> batch = new ArrayList<>(invocation.getArgument(0));
+            batches.add(batch);
+            return batch.stream().anyMatch(project -> EXISTING_ID.equals(project.getId()))
+                    ? Set.of(EXISTING_ID)
+                    : Set.of();
+        });
+    }
+
+    @Test
+    void testImportNdjsonInBatches() throws IOException {
+        ProjectImportResponse response = projectImportService.importProjects(document(
+                project("One", null) + "\n"
+                        + project("Two", EXISTING_ID) + "\n"
+                        + "{\"title\":\"\",\"description\":\"d\",\"status\":\"draft\"}\n"
+                        + project("Three", null) + "\n"));
+
+        assertEquals(2, response.getCreated());
+        assertEquals(1, response.getUpdated());
+        assertEquals(1, response.getRejected());
+        assertEquals(List.of(Status.CREATED, Status.UPDATED, Status.REJECTED, Status.CREATED),
+                response.getResults().stream().map(result -> result.getStatus()).toList());
+        assertEquals(EXISTING_ID, response.getResults().get(1).getId());
+        assertTrue(response.getResults().get(2).getErrors().containsKey("title"));
+        assertNotNull(response.getResults().get(3).getId());
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        verify(eventPublisher, times(1)).publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECTS));
+    }
+
+    @Test
+    void testImportJsonArray() throws IOException {
+        ProjectImportResponse response = projectImportService.importProjects(document(
+                "[" + project("One", null) + ", " + project("Two", null) + ", " + project("Three", null) + "]"));
+
+        assertEquals(3, response.getCreated());
+        assertEquals("One", batches.get(0).get(0).getTitle());
+        verify(projectRepository, times(2)).batchUpsert(anyList(), anySet());
+    }
+
+    @Test
+    void testUnmappableProjectIsRejectedAndImportContinues() throws IOException {
+        ProjectImportResponse response = projectImportService.importProjects(document(
+                "{\"title\":\"Bad\",\"tags\":{\"not\":\"a list\"}}\n" + project("Good", null)));
+
+        assertEquals(Status.REJECTED, response.getResults().get(0).getStatus());
+        assertEquals(Status.CREATED, response.getResults().get(1).getStatus());
+    }
+
+    @Test
+    void testMalformedDocumentStopsImport() throws IOException {
+        ProjectImportResponse response = projectImportService.importProjects(document(
+                project("One", null) + "\n{\"title\": oops\n" + project("Two", null)));
+
+        assertEquals(2, response.getResults().size());
+        assertEquals(Status.CREATED, response.getResults().get(0).getStatus());
+        assertTrue(response.getResults().get(1).getErrors().get("document").startsWith("Malformed JSON"));
+    }
+
+    @Test
+    void testDuplicateIdIsUpsertedInOrder() throws IOException {
+        UUID id = UUID.randomUUID();
+        projectImportService.importProjects(document(project("First", id) + "\n" + project("Second", id)));
+
+        assertEquals(2, batches.size());
+        assertEquals("Second", batches.get(1).get(0).getTitle());
+    }
+
+    @Test
+    void testFailingBatchRejectsItsProjects() throws IOException {
+        when(projectRepository.batchUpsert(anyList(), anySet())).thenThrow(new DataIntegrityViolationException("boom"));
+
+        ProjectImportResponse response = projectImportService.importProjects(document(project("One", null)));
+
+        assertEquals(1, response.getRejected());
+        assertEquals("boom", response.getResults().get(0).getErrors().get("database"));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testSkillsAreResolvedOncePerBatch() throws IOException {
+        Skill java = skill(1L, "Java");
+        Skill spring = skill(2L, "Spring Boot");
+        when(skillRepository.findAllById(Set.of(1L))).thenReturn(List.of(java));
+        when(skillRepository.findByLowerNameIn(Set.of("spring boot", "cobol"))).thenReturn(List.of(spring));
+        UUID withSkills = UUID.randomUUID();
+
+        ProjectImportResponse response = projectImportService.importProjects(document(
+                withSkills(project("One", withSkills), "\"skillIds\":[1],\"skillNames\":[\"spring boot\"]") + "\n"
+                        + withSkills(project("Two", null), "\"skillNames\":[\"Cobol\"]")));
+
+        assertEquals(List.of(Status.CREATED, Status.REJECTED),
+                response.getResults().stream().map(result -> result.getStatus()).toList());
+        assertEquals("Skills not found with names: [Cobol]",
+                response.getResults().get(1).getErrors().get("skillNames"));
+        assertEquals(1, batches.size());
+        assertEquals(Set.of(java, spring), batches.get(0).get(0).getSkills());
+        verify(projectRepository).batchUpsert(anyList(), eq(Set.of(withSkills)));
+        verify(skillRepository, times(1)).findAllById(any());
+        verify(skillRepository, times(1)).findByLowerNameIn(any());
+    }
+
+    @Test
+    void testProjectsWithoutSkillsKeepThem() throws IOException {
+        projectImportService.importProjects(document(project("One", null)));
+
+        verify(projectRepository).batchUpsert(anyList(), eq(Set.of()));
+        verify(skillRepository, never()).findAllById(any());
+    }
+
+    private static String withSkills(String project, String skills) {
+        return project.substring(0, project.length() - 1) + "," + skills + "}";
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        return skill;
+    }
+
+    private static String project(String title, UUID id) {
+        return "{" + (id != null ? "\"id\":\"" + id + "\"," : "")
+                + "\"title\":\"" + title + "\",\"description\":\"Imported\",\"status\":\"completed\","
+                + "\"tags\":[\"java\"],\"createdAt\":\"2024-01-01T00:00:00\"}";
+    }
+
+    private static InputStream document(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,21 +1,36 @@
 package com.portfolio.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dto.ProjectCard;
 import com.portfolio.backend.dto.ProjectRequest;
+import com.portfolio.backend.dto.ProjectSkillsRequest;
 import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.event.CatalogChangedEvent;
+import com.portfolio.backend.exception.UnknownSkillException;
 import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.SkillRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -28,6 +43,18 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -63,47 +90,47 @@ class ProjectServiceTest {
 
     @Test
     void testFindProjectsByStatus() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
-        when(projectRepository.findByStatus("Completed")).thenReturn(projects);
+        List<ProjectCard> projects = Arrays.asList(card(), card());
+        when(projectRepository.findCardsByStatus("Completed")).thenReturn(projects);
 
-        List<Project> result = projectService.findProjectsByStatus("Completed");
+        List<ProjectCard> result = projectService.findProjectsByStatus("Completed");
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findByStatus("Completed");
+        verify(projectRepository, times(1)).findCardsByStatus("Completed");
     }
 
     @Test
     void testFindProjectsCreatedAfter() {
         LocalDateTime date = LocalDateTime.now().minusDays(30);
-        List<Project> projects = Arrays.asList(new Project(), new Project());
-        when(projectRepository.findByCreatedAtAfter(date)).thenReturn(projects);
+        List<ProjectCard> projects = Arrays.asList(card(), card());
+        when(projectRepository.findCardsByCreatedAtAfter(date)).thenReturn(projects);
 
-        List<Project> result = projectService.findProjectsCreatedAfter(date);
+        List<ProjectCard> result = projectService.findProjectsCreatedAfter(date);
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findByCreatedAtAfter(date);
+        verify(projectRepository, times(1)).findCardsByCreatedAtAfter(date);
     }
 
     @Test
     void testFindProjectsByTitle() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
-        when(projectRepository.findByTitleContainingIgnoreCase("Java")).thenReturn(projects);
+        List<ProjectCard> projects = Arrays.asList(card(), card());
+        when(projectRepository.findCardsByTitleContainingIgnoreCase("Java")).thenReturn(projects);
 
-        List<Project> result = projectService.findProjectsByTitle("Java");
+        List<ProjectCard> result = projectService.findProjectsByTitle("Java");
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findByTitleContainingIgnoreCase("Java");
+        verify(projectRepository, times(1)).findCardsByTitleContainingIgnoreCase("Java");
     }
 
     @Test
     void testFindProjectsBySkillName() {
-        List<Project> projects = Arrays.asList(new Project(), new Project());
-        when(projectRepository.findBySkillName("Spring Boot")).thenReturn(projects);
+        List<ProjectCard> projects = Arrays.asList(card(), card());
+        when(projectRepository.findCardsBySkillName("Spring Boot")).thenReturn(projects);
 
-        List<Project> result = projectService.findProjectsBySkillName("Spring Boot");
+        List<ProjectCard> result = projectService.findProjectsBySkillName("Spring Boot");
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findBySkillName("Spring Boot");
+        verify(projectRepository, times(1)).findCardsBySkillName("Spring Boot");
     }
 
     @Test
@@ -201,4 +228,122 @@ class ProjectServiceTest {
         verify(projectRepository, never()).save(any(Project.class));
     }
 
+    @Test
+    void testPatchProjectKeepsAbsentFields() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        Project existingProject = new Project();
+        existingProject.setId(projectId);
+        existingProject.setTitle("Portfolio");
+        existingProject.setDescription("A long case study");
+        existingProject.setStatus("completed");
+        existingProject.setClient("ACME");
+        existingProject.setTags(List.of("java", "spring"));
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+
+        JsonNode patch = objectMapper.readTree("{\"title\":\"Portfolio v2\",\"client\":null}");
+        Project result = projectService.patchProject(projectId, patch);
+
+        assertEquals("Portfolio v2", result.getTitle());
+        assertEquals("A long case study", result.getDescription());
+        assertNull(result.getClient());
+        assertEquals(List.of("java", "spring"), result.getTags());
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    void testPatchProjectRejectsInvalidResult() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        Project existingProject = new Project();
+        existingProject.setTitle("Portfolio");
+        existingProject.setDescription("Description");
+        existingProject.setStatus("completed");
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+
+        JsonNode patch = objectMapper.readTree("{\"title\":null}");
+
+        assertThrows(ConstraintViolationException.class, () -> projectService.patchProject(projectId, patch));
+        assertEquals("Portfolio", existingProject.getTitle());
+    }
+
+    @Test
+    void testMergePatch() throws Exception {
+        JsonNode target = objectMapper.readTree("{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"},\"tags\":[\"x\"]}");
+        JsonNode patch = objectMapper.readTree("{\"a\":\"z\",\"c\":{\"f\":null},\"tags\":[\"y\"]}");
+
+        JsonNode result = ProjectService.mergePatch(target, patch);
+
+        assertEquals(objectMapper.readTree("{\"a\":\"z\",\"c\":{\"d\":\"e\"},\"tags\":[\"y\"]}"), result);
+        assertEquals("b", target.get("a").asText());
+    }
+
+    @Test
+    void testReplaceSkillsResolvesIdsAndNames() {
+        UUID projectId = UUID.randomUUID();
+        Skill java = skill(1L, "Java");
+        Skill spring = skill(2L, "Spring");
+        Skill docker = skill(3L, "Docker");
+        Project existingProject = new Project();
+        existingProject.setSkills(List.of(java, docker));
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(skillRepository.findAllById(Set.of(1L))).thenReturn(List.of(java));
+        when(skillRepository.findByLowerNameIn(Set.of("spring"))).thenReturn(List.of(spring));
+
+        ProjectSkillsRequest request = new ProjectSkillsRequest();
+        request.setSkillIds(List.of(1L));
+        request.setSkillNames(List.of("SPRING"));
+        projectService.replaceSkills(projectId, request);
+
+        assertEquals(Set.of(java, spring), existingProject.getSkills());
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECT_SKILLS));
+    }
+
+    @Test
+    void testReplaceSkillsRejectsUnknownNames() {
+        UUID projectId = UUID.randomUUID();
+        Skill java = skill(1L, "Java");
+        Project existingProject = new Project();
+        existingProject.setSkills(List.of(java));
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(skillRepository.findByLowerNameIn(any())).thenReturn(List.of());
+
+        ProjectSkillsRequest request = new ProjectSkillsRequest();
+        request.setSkillNames(List.of("Cobol"));
+
+        UnknownSkillException exception = assertThrows(UnknownSkillException.class,
+                () -> projectService.replaceSkills(projectId, request));
+        assertTrue(exception.getMessage().contains("cobol"));
+        assertEquals(Set.of(java), existingProject.getSkills());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testUpdateProjectWithoutSkillsKeepsThem() {
+        UUID projectId = UUID.randomUUID();
+        Skill java = skill(1L, "Java");
+        Project existingProject = new Project();
+        existingProject.setSkills(List.of(java));
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ProjectRequest request = new ProjectRequest();
+        request.setTitle("Title");
+        request.setDescription("Description");
+        request.setStatus("Completed");
+        projectService.updateProject(projectId, request);
+
+        assertEquals(Set.of(java), existingProject.getSkills());
+        verifyNoInteractions(skillRepository);
+    }
+
+    private Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        return skill;
+    }
+
+    private static ProjectCard card() {
+        return new ProjectCard(UUID.randomUUID(), "Title", "Description", null, "Completed", null, List.of("java"),
+                LocalDateTime.now(), null);
+    }
 }
@@ -1,6 +1,7 @@
 package com.portfolio.backend.service;
 
 
+import com.portfolio.backend.dto.RoleSummary;
 import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.repository.RoleRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +55,17 @@ class RoleServiceTest {
         verify(roleRepository, times(1)).findAll();
     }
 
+    @Test
+    void testFindAllRoleSummaries() {
+        when(roleRepository.findAllSummaries()).thenReturn(List.of(new RoleSummary(1L, "ADMIN")));
+
+        List<RoleSummary> roles = roleService.findAllRoleSummaries();
+
+        assertEquals(1, roles.size());
+        assertEquals("ADMIN", roles.get(0).getName());
+        verify(roleRepository, times(1)).findAllSummaries();
+    }
+
     @Test
     void testFindRoleById() {
         // Arrange
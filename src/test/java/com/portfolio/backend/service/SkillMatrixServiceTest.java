@@ -0,0 +1,83 @@
+package com.portfolio.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.portfolio.backend.dto.SkillMatrixEntry;
+import com.portfolio.backend.event.CatalogChangedEvent;
+import com.portfolio.backend.repository.SkillRepository;
+
+class SkillMatrixServiceTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    private final AtomicLong now = new AtomicLong();
+    private SkillMatrixService skillMatrixService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        skillMatrixService = new SkillMatrixService(skillRepository, 3, Duration.ofMinutes(10), now::get);
+    }
+
+    @Test
+    void testMatrixIsCachedUntilCatalogChanges() {
+        when(skillRepository.findSkillMatrix(3))
+                .thenReturn(List.of(entry("Java", 1)))
+                .thenReturn(List.of(entry("Java", 2)));
+
+        List<SkillMatrixEntry> first = skillMatrixService.getMatrix();
+        assertSame(first, skillMatrixService.getMatrix());
+        verify(skillRepository, times(1)).findSkillMatrix(3);
+
+        skillMatrixService.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Type.PROJECT_SKILLS));
+
+        assertEquals(2, skillMatrixService.getMatrix().get(0).getProjectCount());
+        verify(skillRepository, times(2)).findSkillMatrix(3);
+    }
+
+    @Test
+    void testChangeDuringComputationIsNotCached() {
+        when(skillRepository.findSkillMatrix(3)).thenAnswer(invocation -> {
+            skillMatrixService.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Type.SKILLS));
+            return List.of(entry("Java", 1));
+        }).thenReturn(List.of(entry("Java", 2)));
+
+        assertEquals(1, skillMatrixService.getMatrix().get(0).getProjectCount());
+        assertEquals(2, skillMatrixService.getMatrix().get(0).getProjectCount());
+    }
+
+    @Test
+    void testMatrixExpiresWithoutCatalogChange() {
+        when(skillRepository.findSkillMatrix(3))
+                .thenReturn(List.of(entry("Java", 1)))
+                .thenReturn(List.of(entry("Java", 2)));
+
+        skillMatrixService.getMatrix();
+        now.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertEquals(1, skillMatrixService.getMatrix().get(0).getProjectCount());
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // A change committed on another node, never announced to this one.
+        assertEquals(2, skillMatrixService.getMatrix().get(0).getProjectCount());
+        verify(skillRepository, times(2)).findSkillMatrix(3);
+    }
+
+    private static SkillMatrixEntry entry(String name, long projectCount) {
+        return new SkillMatrixEntry(1L, name, "Advanced", null, projectCount, List.of(UUID.randomUUID()));
+    }
+}
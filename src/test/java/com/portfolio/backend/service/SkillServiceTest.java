@@ -1,12 +1,14 @@
 package com.portfolio.backend.service;
 
 import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.event.CatalogChangedEvent;
 import com.portfolio.backend.repository.SkillRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -25,6 +27,9 @@ class SkillServiceTest {
     @Mock
     private SkillRepository skillRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SkillService skillService;
 
@@ -78,6 +83,7 @@ class SkillServiceTest {
         assertNotNull(result);
         assertEquals("Java", result.getName());
         verify(skillRepository, times(1)).save(skill);
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.SKILLS));
     }
 
     @Test
@@ -87,6 +93,7 @@ class SkillServiceTest {
         skillService.deleteSkillById(skillId);
 
         verify(skillRepository, times(1)).deleteById(skillId);
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.SKILLS));
     }
 
     @Test
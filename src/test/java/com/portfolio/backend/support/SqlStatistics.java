@@ -0,0 +1,119 @@
+package com.portfolio.backend.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * Counts the SQL statements executed through a wrapped {@link DataSource},
+ * along with the rows and the bytes of string and binary values read back.
+ * <p>
+ * Counters are global rather than per thread because streaming responses
+ * run on an async request thread; tests using them must not run concurrently.
+ * </p>
+ */
+public final class SqlStatistics {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static final AtomicLong ROWS = new AtomicLong();
+    private static final AtomicLong BYTES = new AtomicLong();
+
+    private SqlStatistics() {
+    }
+
+    public static void reset() {
+        STATEMENTS.set(0);
+        ROWS.set(0);
+        BYTES.set(0);
+    }
+
+    public static Snapshot snapshot() {
+        return new Snapshot(STATEMENTS.get(), ROWS.get(), BYTES.get());
+    }
+
+    /**
+     * @param target the data source to instrument.
+     * @return a data source counting everything executed through its connections.
+     */
+    public static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, result) ->
+                result instanceof Connection connection ? proxy(Connection.class, connection, SqlStatistics::onConnection)
+                        : result);
+    }
+
+    private static Object onConnection(Method method, Object result) {
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, SqlStatistics::onStatement);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, SqlStatistics::onStatement);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, SqlStatistics::onStatement);
+        }
+        return result;
+    }
+
+    private static Object onStatement(Method method, Object result) {
+        if (EXECUTE_METHODS.contains(method.getName())) {
+            STATEMENTS.incrementAndGet();
+        }
+        if (result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, SqlStatistics::onResultSet);
+        }
+        return result;
+    }
+
+    private static Object onResultSet(Method method, Object result) {
+        if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+            ROWS.incrementAndGet();
+        } else if (result instanceof String value) {
+            BYTES.addAndGet(value.length());
+        } else if (result instanceof byte[] value) {
+            BYTES.addAndGet(value.length);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.handle(method, method.invoke(target, args));
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(SqlStatistics.class.getClassLoader(), new Class<?>[] { type },
+                invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+
+        Object handle(Method method, Object result);
+    }
+
+    /**
+     * Counters at a point in time.
+     *
+     * @param statements the executed statements, batches counting once.
+     * @param rows       the rows read from result sets.
+     * @param bytes      the length of the string and binary values read.
+     */
+    public record Snapshot(long statements, long rows, long bytes) {
+    }
+}
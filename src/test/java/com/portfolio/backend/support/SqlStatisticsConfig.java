@@ -0,0 +1,24 @@
+package com.portfolio.backend.support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Wraps the application {@link DataSource} with {@link SqlStatistics}.
+ */
+@TestConfiguration
+public class SqlStatisticsConfig {
+
+    @Bean
+    static BeanPostProcessor sqlStatisticsDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SqlStatistics.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
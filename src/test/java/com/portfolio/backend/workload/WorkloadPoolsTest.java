@@ -0,0 +1,128 @@
+package com.portfolio.backend.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.portfolio.backend.dto.ConnectionPoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+
+class WorkloadPoolsTest {
+
+    private WorkloadPools workloadPools;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        workloadPools = new WorkloadPools(pools(), Map.of(
+                WorkloadType.PUBLIC, Duration.ofSeconds(5),
+                WorkloadType.ADMIN, Duration.ofMillis(1500)));
+        dataSource = workloadPools.dataSource();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workloadPools.close();
+    }
+
+    @Test
+    void testSaturatedAdminPoolDoesNotBlockPublicReads() throws SQLException {
+        try (Connection admin = WorkloadContext.call(WorkloadType.ADMIN, dataSource::getConnection)) {
+            assertThrows(SQLException.class, () -> WorkloadContext.call(WorkloadType.ADMIN, dataSource::getConnection));
+
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                assertTrue(statement.execute("SELECT 1"));
+            }
+            ConnectionPoolStats adminStats = stats("admin");
+            assertEquals(1, adminStats.getActive());
+            assertEquals(1.0, adminStats.getSaturation());
+            assertEquals(0, stats("public").getActive());
+        }
+    }
+
+    @Test
+    void testStatementTimeoutPerPool() throws SQLException {
+        assertEquals(5, queryTimeout(WorkloadType.PUBLIC));
+        // Rounded up to the second.
+        assertEquals(2, queryTimeout(WorkloadType.ADMIN));
+        assertEquals(0, queryTimeout(WorkloadType.BACKGROUND));
+    }
+
+    @Test
+    void testMigrationsRunWithoutStatementTimeout() throws SQLException {
+        try (WorkloadPools background = new WorkloadPools(pools(),
+                Map.of(WorkloadType.BACKGROUND, Duration.ofMinutes(5)));
+                Connection connection = background.migrationDataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    void testAnnotationSelectsTheWorkload() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AdminJobs());
+        factory.addAspect(new WorkloadAspect());
+        AdminJobs jobs = factory.getProxy();
+
+        assertEquals(WorkloadType.ADMIN, jobs.search());
+        assertEquals(WorkloadType.BACKGROUND, jobs.purge());
+        assertEquals(WorkloadType.PUBLIC, WorkloadContext.current());
+    }
+
+    private static Map<WorkloadType, HikariDataSource> pools() {
+        String url = "jdbc:h2:mem:workloads-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(workload.key());
+            pool.setJdbcUrl(url);
+            pool.setUsername("sa");
+            pool.setMaximumPoolSize(workload == WorkloadType.ADMIN ? 1 : 2);
+            pool.setConnectionTimeout(250);
+            pools.put(workload, pool);
+        }
+        return pools;
+    }
+
+    private int queryTimeout(WorkloadType workload) throws SQLException {
+        try (Connection connection = WorkloadContext.call(workload, dataSource::getConnection);
+                Statement statement = connection.createStatement()) {
+            return statement.getQueryTimeout();
+        }
+    }
+
+    private ConnectionPoolStats stats(String pool) {
+        List<ConnectionPoolStats> stats = workloadPools.stats();
+        return stats.stream().filter(entry -> pool.equals(entry.getPool())).findFirst().orElseThrow();
+    }
+
+    @Workload(WorkloadType.ADMIN)
+    static class AdminJobs {
+
+        public WorkloadType search() {
+            return WorkloadContext.current();
+        }
+
+        @Workload(WorkloadType.BACKGROUND)
+        public WorkloadType purge() {
+            return WorkloadContext.current();
+        }
+    }
+}